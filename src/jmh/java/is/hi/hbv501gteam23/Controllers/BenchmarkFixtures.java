@@ -0,0 +1,92 @@
+package is.hi.hbv501gteam23.Controllers;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Country;
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Entities.Player;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.enums.Gender;
+import is.hi.hbv501gteam23.Persistence.enums.PlayerPosition;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entities shaped like a season of league data, shared by the controller benchmarks.
+ */
+final class BenchmarkFixtures {
+    static final int TEAMS = 12;
+
+    private BenchmarkFixtures() {}
+
+    static List<Venue> venues() {
+        List<Venue> venues = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            venues.add(Venue.builder()
+                .id((long) i + 1)
+                .name("Völlur " + i)
+                .address("Gata " + i + ", 101 Reykjavík")
+                .latitude(new BigDecimal("64.1466").add(BigDecimal.valueOf(i, 3)))
+                .longitude(new BigDecimal("-21.9426").add(BigDecimal.valueOf(i, 3)))
+                .build());
+        }
+        return venues;
+    }
+
+    static List<Team> teams(List<Venue> venues) {
+        Country iceland = Country.builder().code("IS").countryName("Iceland").build();
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(Team.builder()
+                .id((long) i + 1)
+                .name("Lið " + i)
+                .isActive(true)
+                .country(iceland)
+                .venue(i % 4 == 0 ? null : venues.get(i))
+                .build());
+        }
+        return teams;
+    }
+
+    static List<Player> players(List<Team> teams, int count) {
+        PlayerPosition[] positions = PlayerPosition.values();
+        Gender[] genders = Gender.values();
+        List<Player> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Team team = teams.get(i % teams.size());
+            players.add(Player.builder()
+                .id((long) i + 1)
+                .name("Leikmaður " + i)
+                .dateOfBirth(LocalDate.of(1990, 1, 1).plusDays(i * 17L))
+                .gender(genders[i % genders.length])
+                .country(team.getCountry())
+                .team(i % 10 == 0 ? null : team)
+                .position(positions[i % positions.length])
+                .goals(i % 23)
+                .build());
+        }
+        return players;
+    }
+
+    static List<Match> matches(List<Team> teams, List<Venue> venues, int count) {
+        OffsetDateTime kickoff = OffsetDateTime.of(2024, 4, 6, 14, 0, 0, 0, ZoneOffset.UTC);
+        List<Match> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Team home = teams.get(i % teams.size());
+            Team away = teams.get((i + 1) % teams.size());
+            matches.add(Match.builder()
+                .id((long) i + 1)
+                .matchDate(kickoff.plusDays(i / 6))
+                .homeTeam(home)
+                .awayTeam(away)
+                .venue(venues.get(i % venues.size()))
+                .homeGoals(i % 4)
+                .awayGoals(i % 3)
+                .build());
+        }
+        return matches;
+    }
+}
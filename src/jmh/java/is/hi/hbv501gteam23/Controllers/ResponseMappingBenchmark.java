@@ -0,0 +1,71 @@
+package is.hi.hbv501gteam23.Controllers;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Entities.Player;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
+import is.hi.hbv501gteam23.Persistence.dto.PlayerDto;
+import is.hi.hbv501gteam23.Persistence.dto.TeamDto;
+import is.hi.hbv501gteam23.Persistence.dto.VenueDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping in the controllers, over a list of {@code size} entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResponseMappingBenchmark {
+
+    @Param({"20", "500"})
+    public int size;
+
+    private List<Venue> venues;
+    private List<Team> teams;
+    private List<Player> players;
+    private List<Match> matches;
+
+    @Setup
+    public void setUp() {
+        venues = BenchmarkFixtures.venues();
+        teams = BenchmarkFixtures.teams(venues);
+        players = BenchmarkFixtures.players(teams, size);
+        matches = BenchmarkFixtures.matches(teams, venues, size);
+    }
+
+    @Benchmark
+    public List<MatchDto.MatchResponse> matches() {
+        return matches.stream().map(MatchController::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<PlayerDto.PlayerResponse> players() {
+        return players.stream().map(PlayerController::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<TeamDto.TeamResponse> teams() {
+        return teams.stream().map(TeamController::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<VenueDto.VenueResponse> venues() {
+        return venues.stream().map(VenueController::toResponse).toList();
+    }
+}
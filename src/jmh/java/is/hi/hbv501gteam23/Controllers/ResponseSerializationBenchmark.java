@@ -0,0 +1,65 @@
+package is.hi.hbv501gteam23.Controllers;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
+import is.hi.hbv501gteam23.Persistence.dto.PlayerDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the list responses, with the mapper configured like the
+ * application's ({@code spring.jackson.serialization.write-dates-as-timestamps=false}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "500"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<MatchDto.MatchResponse> matches;
+    private List<PlayerDto.PlayerResponse> players;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writer();
+
+        List<Venue> venues = BenchmarkFixtures.venues();
+        List<Team> teams = BenchmarkFixtures.teams(venues);
+        matches = BenchmarkFixtures.matches(teams, venues, size).stream().map(MatchController::toResponse).toList();
+        players = BenchmarkFixtures.players(teams, size).stream().map(PlayerController::toResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] matchResponses() throws Exception {
+        return writer.writeValueAsBytes(matches);
+    }
+
+    @Benchmark
+    public byte[] playerResponses() throws Exception {
+        return writer.writeValueAsBytes(players);
+    }
+}
@@ -0,0 +1,72 @@
+package is.hi.hbv501gteam23.Persistence.Specifications;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Entities.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the listing filters the same way the services do, once with every filter set
+ * and once with none, which is the common case for a plain {@code GET /matches}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SpecificationBuilderBenchmark {
+    public LocalDate start = LocalDate.of(2024, 4, 1);
+    public LocalDate end = LocalDate.of(2024, 10, 1);
+    public String teamName = "Valur";
+    public String venueName = "Hlíðarendi";
+    public Integer goals = 1;
+    public String playerName = "Jón";
+    public Long teamId = 7L;
+    public String country = "IS";
+
+    @Benchmark
+    public Specification<Match> matchFilterAllSet() {
+        return new SpecificationBuilder<Match>()
+            .and(MatchSpecifications.matchDate(start, end))
+            .and(MatchSpecifications.matchHomeGoals(goals))
+            .and(MatchSpecifications.matchAwayGoals(goals))
+            .and(MatchSpecifications.matchHomeTeamName(teamName))
+            .and(MatchSpecifications.matchAwayTeamName(teamName))
+            .and(MatchSpecifications.matchVenueName(venueName))
+            .build();
+    }
+
+    @Benchmark
+    public Specification<Match> matchFilterNoneSet() {
+        return new SpecificationBuilder<Match>()
+            .and(MatchSpecifications.matchDate(null, null))
+            .and(MatchSpecifications.matchHomeGoals(null))
+            .and(MatchSpecifications.matchAwayGoals(null))
+            .and(MatchSpecifications.matchHomeTeamName(null))
+            .and(MatchSpecifications.matchAwayTeamName(null))
+            .and(MatchSpecifications.matchVenueName(null))
+            .build();
+    }
+
+    @Benchmark
+    public Specification<Player> playerFilterAllSet() {
+        return new SpecificationBuilder<Player>()
+            .and(PlayerSpecifications.nameContains(playerName))
+            .and(PlayerSpecifications.hasTeamId(teamId))
+            .and(PlayerSpecifications.hasTeamName(teamName))
+            .and(PlayerSpecifications.hasCountry(country))
+            .and(PlayerSpecifications.isActive(true))
+            .build();
+    }
+}
@@ -0,0 +1,56 @@
+package is.hi.hbv501gteam23.Security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import is.hi.hbv501gteam23.Persistence.Entities.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token checks that run on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtTokenProviderBenchmark {
+    private static final String SECRET = "am1oLWJlbmNobWFyay1zaWduaW5nLWtleS0wMTIzNDU2Nzg5YWJjZGVm";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 86_400_000L, new SimpleMeterRegistry());
+        token = jwtTokenProvider.generateRefreshToken(User.builder().email("benchmark@example.com").build());
+        // Flip the last signature character so verification fails after parsing
+        char last = token.charAt(token.length() - 1);
+        tamperedToken = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtTokenProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return jwtTokenProvider.getEmailFromToken(token);
+    }
+}
@@ -0,0 +1,47 @@
+package is.hi.hbv501gteam23.LoadTest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one operation, recorded by a single client thread and merged afterwards.
+ */
+class LatencyRecorder {
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private long errors;
+
+    void record(long nanos, boolean ok) {
+        if (!ok) {
+            errors++;
+            return;
+        }
+        if (count == latenciesNanos.length) latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        latenciesNanos[count++] = nanos;
+    }
+
+    void addAll(LatencyRecorder other) {
+        if (count + other.count > latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count + other.count);
+        }
+        System.arraycopy(other.latenciesNanos, 0, latenciesNanos, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * @return successful request latencies in milliseconds, sorted ascending
+     */
+    double[] sortedMillis() {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        return Arrays.stream(sorted).mapToDouble(n -> n / 1_000_000.0).toArray();
+    }
+}
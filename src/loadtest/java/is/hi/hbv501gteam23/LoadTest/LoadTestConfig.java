@@ -0,0 +1,103 @@
+package is.hi.hbv501gteam23.LoadTest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for a load test run, read from {@code loadtest.*} system properties.
+ *
+ * @param venues             number of venues to generate
+ * @param teams              number of teams to generate
+ * @param playersPerTeam     players generated for every team
+ * @param matches            number of matches to generate
+ * @param users              number of users to generate, every tenth is an admin
+ * @param favoritesPerUser   favorites generated for every user
+ * @param seed               random seed, so two runs generate the same data
+ * @param concurrency        number of concurrent clients
+ * @param warmup             how long to run the workload before measuring
+ * @param duration           how long to measure
+ * @param profiles           Spring profiles to boot the application with, f.x. {@code virtual-threads}
+ * @param mix                relative weight of every operation in the workload
+ * @param reportPath         where the JSON report is written
+ */
+public record LoadTestConfig(
+    int venues,
+    int teams,
+    int playersPerTeam,
+    long matches,
+    int users,
+    int favoritesPerUser,
+    long seed,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    String profiles,
+    Map<String, Integer> mix,
+    String reportPath
+) {
+    /** Default weights, roughly nine reads to every write. */
+    static final Map<String, Integer> DEFAULT_MIX = defaultMix();
+
+    /**
+     * Reads the settings from system properties, falling back to defaults sized for a
+     * laptop run that still exercises a large match table.
+     *
+     * @return the settings
+     */
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            Integer.getInteger("loadtest.venues", 60),
+            Integer.getInteger("loadtest.teams", 120),
+            Integer.getInteger("loadtest.players-per-team", 25),
+            Long.getLong("loadtest.matches", 2_000_000L),
+            Integer.getInteger("loadtest.users", 5_000),
+            Integer.getInteger("loadtest.favorites-per-user", 10),
+            Long.getLong("loadtest.seed", 23L),
+            Integer.getInteger("loadtest.concurrency", 64),
+            Duration.ofSeconds(Long.getLong("loadtest.warmup", 15L)),
+            Duration.ofSeconds(Long.getLong("loadtest.duration", 60L)),
+            System.getProperty("loadtest.profiles", ""),
+            parseMix(System.getProperty("loadtest.mix")),
+            System.getProperty("loadtest.report", "target/load-test-report.json")
+        );
+    }
+
+    /**
+     * Parses an operation mix such as {@code "matchPage=30,createMatch=2"}. Operations that
+     * are not listed keep their default weight, a weight of 0 leaves an operation out.
+     */
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>(DEFAULT_MIX);
+        if (value == null || value.isBlank()) return mix;
+
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length != 2 || !mix.containsKey(parts[0].trim())) {
+                throw new IllegalArgumentException("Unknown loadtest.mix entry: " + entry
+                    + ". Known operations: " + DEFAULT_MIX.keySet());
+            }
+            mix.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    private static Map<String, Integer> defaultMix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put("matchPage", 20);
+        mix.put("matchesInWeek", 10);
+        mix.put("matchDetail", 15);
+        mix.put("players", 10);
+        mix.put("playerDetail", 10);
+        mix.put("teams", 5);
+        mix.put("venues", 3);
+        mix.put("standings", 8);
+        mix.put("teamStatistics", 3);
+        mix.put("favorites", 6);
+        mix.put("addFavorite", 3);
+        mix.put("createMatch", 3);
+        mix.put("patchPlayer", 3);
+        mix.put("login", 1);
+        return mix;
+    }
+}
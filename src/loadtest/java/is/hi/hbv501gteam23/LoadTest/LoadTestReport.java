@@ -0,0 +1,138 @@
+package is.hi.hbv501gteam23.LoadTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of a measured load test run, written as JSON so runs can be compared.
+ *
+ * @param concurrency            number of concurrent clients
+ * @param durationSeconds        length of the measured run
+ * @param profiles               Spring profiles the application ran with
+ * @param matches                number of generated matches
+ * @param requests               successful requests across all operations
+ * @param errors                 failed requests across all operations
+ * @param throughput             successful requests per second
+ * @param statementsPerRequest   prepared SQL statements per request over the whole run
+ * @param allocatedMbPerSecond   heap allocation rate of the JVM during the run
+ * @param allocatedKbPerRequest  heap allocated per request, load generator included
+ * @param operations             per operation results
+ */
+public record LoadTestReport(
+    int concurrency,
+    long durationSeconds,
+    String profiles,
+    long matches,
+    long requests,
+    long errors,
+    double throughput,
+    double statementsPerRequest,
+    double allocatedMbPerSecond,
+    double allocatedKbPerRequest,
+    List<OperationResult> operations
+) {
+    /**
+     * @param name                 operation name, as used in {@code loadtest.mix}
+     * @param requests             successful requests
+     * @param errors               failed requests, including unexpected statuses
+     * @param throughput           successful requests per second
+     * @param p50                  median latency in milliseconds
+     * @param p95                  95th percentile latency in milliseconds
+     * @param p99                  99th percentile latency in milliseconds
+     * @param max                  highest latency in milliseconds
+     * @param statementsPerRequest prepared SQL statements per request, measured one request at a time
+     */
+    public record OperationResult(
+        String name,
+        long requests,
+        long errors,
+        double throughput,
+        double p50,
+        double p95,
+        double p99,
+        double max,
+        double statementsPerRequest
+    ) {}
+
+    static LoadTestReport from(LoadTestConfig config,
+                               Map<String, LatencyRecorder> recorders,
+                               Map<String, Double> statementsPerRequest,
+                               long statements,
+                               long allocatedBytes) {
+        double seconds = config.duration().toMillis() / 1000.0;
+        List<OperationResult> operations = new ArrayList<>();
+        long requests = 0;
+        long errors = 0;
+
+        for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            double[] millis = recorder.sortedMillis();
+            operations.add(new OperationResult(
+                entry.getKey(),
+                recorder.count(),
+                recorder.errors(),
+                recorder.count() / seconds,
+                percentile(millis, 0.50),
+                percentile(millis, 0.95),
+                percentile(millis, 0.99),
+                millis.length == 0 ? 0 : millis[millis.length - 1],
+                statementsPerRequest.getOrDefault(entry.getKey(), 0.0)
+            ));
+            requests += recorder.count();
+            errors += recorder.errors();
+        }
+
+        long total = Math.max(1, requests + errors);
+        return new LoadTestReport(
+            config.concurrency(),
+            config.duration().toSeconds(),
+            config.profiles(),
+            config.matches(),
+            requests,
+            errors,
+            requests / seconds,
+            statements / (double) total,
+            allocatedBytes / seconds / (1024 * 1024),
+            allocatedBytes / (double) total / 1024,
+            operations
+        );
+    }
+
+    private static double percentile(double[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    /**
+     * Prints the report as a table.
+     */
+    public void print() {
+        System.out.printf("%n%-16s %10s %8s %10s %9s %9s %9s %9s %8s%n",
+            "operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "sql/req");
+        for (OperationResult o : operations) {
+            System.out.printf("%-16s %10d %8d %10.1f %9.1f %9.1f %9.1f %9.1f %8.1f%n",
+                o.name(), o.requests(), o.errors(), o.throughput(), o.p50(), o.p95(), o.p99(), o.max(),
+                o.statementsPerRequest());
+        }
+        System.out.printf("%ntotal: %d requests, %d errors, %.1f req/s, %.2f statements/request, "
+                + "allocation %.1f MB/s (%.1f KB/request)%n",
+            requests, errors, throughput, statementsPerRequest, allocatedMbPerSecond, allocatedKbPerRequest);
+    }
+
+    /**
+     * Writes the report as JSON.
+     *
+     * @param path the file to write
+     */
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), this);
+    }
+}
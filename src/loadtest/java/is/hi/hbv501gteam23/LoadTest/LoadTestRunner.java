@@ -0,0 +1,130 @@
+package is.hi.hbv501gteam23.LoadTest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import is.hi.hbv501gteam23.Hbv501GTeam23Application;
+import is.hi.hbv501gteam23.Persistence.enums.SystemRole;
+import is.hi.hbv501gteam23.Security.CustomUserDetails;
+import is.hi.hbv501gteam23.Security.JwtTokenProvider;
+import is.hi.hbv501gteam23.Services.Interfaces.StatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of the load test.
+ * <p>
+ * Starts an embedded Postgres, boots the application against it, fills it with synthetic
+ * data, runs the {@link Workload} and writes a {@link LoadTestReport}. Everything runs in
+ * one JVM and nothing outside it is needed. Settings are read by
+ * {@link LoadTestConfig#fromSystemProperties()}. Run through the {@code load-test} Maven profile.
+ */
+@Slf4j
+public class LoadTestRunner {
+    private static final String PASSWORD = "Load-Test-Password-42";
+    private static final String JWT_SECRET = "bG9hZC10ZXN0LXNpZ25pbmcta2V5LTAxMjM0NTY3ODlhYmNkZWYwMTIzNDU2Nzg5";
+    private static final int MATCH_SAMPLE = 50_000;
+    private static final int TOKEN_USERS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Path avatarRoot = Files.createTempDirectory("load-test-avatars");
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            SpringApplicationBuilder builder = new SpringApplicationBuilder(Hbv501GTeam23Application.class)
+                .properties(
+                    "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                    "spring.datasource.username=postgres",
+                    "spring.datasource.password=",
+                    "jwt.secret=" + JWT_SECRET,
+                    "server.port=0",
+                    "avatar.storage.root=" + avatarRoot,
+                    "avatar.migration.enabled=false",
+                    "spring.jpa.show-sql=false",
+                    "spring.jpa.properties.hibernate.generate_statistics=true",
+                    "logging.level.root=WARN",
+                    "logging.level.org.springframework=WARN",
+                    "logging.level.org.hibernate=WARN",
+                    "logging.level.org.hibernate.SQL=WARN",
+                    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                    "logging.level.is.hi.hbv501gteam23.LoadTest=INFO"
+                );
+            if (!config.profiles().isBlank()) builder.profiles(config.profiles().split(","));
+
+            try (ConfigurableApplicationContext context = builder.run(args)) {
+                DataSource dataSource = context.getBean(DataSource.class);
+                String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+                new SyntheticDataGenerator(config).generate(dataSource, passwordHash);
+
+                // The generated rows bypassed the application, so rebuild what it derives from them
+                context.getBean(StatisticsService.class).refresh();
+                EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+                entityManagerFactory.getCache().evictAll();
+                Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+                Workload.Targets targets = loadTargets(new JdbcTemplate(dataSource), context.getBean(JwtTokenProvider.class), config);
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+                LoadTestReport report = new Workload(config, targets, port, PASSWORD).run(statistics);
+                report.print();
+                report.write(Path.of(config.reportPath()));
+                log.info("Report written to {}", config.reportPath());
+            }
+        }
+    }
+
+    /**
+     * Reads the ids the workload picks from and signs tokens for a slice of the users,
+     * so requests do not pay for a login first.
+     */
+    private static Workload.Targets loadTargets(JdbcTemplate jdbc, JwtTokenProvider jwtTokenProvider, LoadTestConfig config) {
+        double samplePercent = Math.min(100.0, MATCH_SAMPLE * 100.0 / Math.max(1, config.matches()));
+        long[] matchIds = ids(jdbc.queryForList(
+            "SELECT match_id FROM matches TABLESAMPLE BERNOULLI (" + samplePercent + ") LIMIT " + MATCH_SAMPLE, Long.class));
+        LocalDate[] matchDays = jdbc.queryForObject(
+            "SELECT min(match_date)::date, max(match_date)::date FROM matches",
+            (rs, i) -> new LocalDate[] {rs.getObject(1, LocalDate.class), rs.getObject(2, LocalDate.class)});
+
+        List<String> userTokens = new ArrayList<>();
+        List<String> adminTokens = new ArrayList<>();
+        List<String> userEmails = new ArrayList<>();
+        jdbc.query("SELECT user_id, email, role FROM users ORDER BY user_id LIMIT " + TOKEN_USERS, rs -> {
+            SystemRole role = SystemRole.valueOf(rs.getString("role"));
+            String email = rs.getString("email");
+            String token = jwtTokenProvider.generateAccessToken(
+                new CustomUserDetails(rs.getLong("user_id"), email, role, true));
+            (role == SystemRole.ADMIN ? adminTokens : userTokens).add(token);
+            userEmails.add(email);
+        });
+        if (adminTokens.isEmpty() || userTokens.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.users must be at least 10 so there are admins to write as");
+        }
+
+        return new Workload.Targets(
+            ids(jdbc.queryForList("SELECT team_id FROM teams ORDER BY team_id", Long.class)),
+            ids(jdbc.queryForList("SELECT player_id FROM players ORDER BY player_id", Long.class)),
+            ids(jdbc.queryForList("SELECT venue_id FROM venues ORDER BY venue_id", Long.class)),
+            matchIds,
+            matchDays[0],
+            matchDays[1],
+            userTokens,
+            adminTokens,
+            userEmails
+        );
+    }
+
+    private static long[] ids(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,229 @@
+package is.hi.hbv501gteam23.LoadTest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Fills an empty database with synthetic league data straight through SQL.
+ * <p>
+ * Rows are generated server side with {@code generate_series}, so millions of matches take
+ * seconds instead of the hours the REST endpoints would need. Ids come from the column
+ * defaults, which keeps the sequences ahead of the blocks Hibernate allocates later.
+ * Everything runs on one connection after {@code setseed}, so the same seed produces the
+ * same data. The league table is rebuilt at the end, the statistics views are refreshed by
+ * the caller through the application.
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+    /** Matches are inserted in chunks so a single statement never holds millions of rows. */
+    private static final long MATCH_CHUNK = 250_000;
+    private static final String COUNTRIES = "ARRAY['IS','GB','DK','NO','SE','FO','DE','ES']";
+
+    private final LoadTestConfig config;
+
+    public SyntheticDataGenerator(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Generates venues, teams, players, matches, users and favorites.
+     *
+     * @param dataSource   the application's data source
+     * @param passwordHash hash stored for every generated user
+     */
+    public void generate(DataSource dataSource, String passwordHash) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+            // setseed takes a value in [-1, 1]
+            jdbc.execute("SELECT setseed(" + (config.seed() % 1000) / 1000.0 + ")");
+
+            long started = System.nanoTime();
+            insertVenues(jdbc);
+            insertTeams(jdbc);
+            insertPlayers(jdbc);
+            insertMatches(jdbc);
+            insertUsers(jdbc, passwordHash);
+            insertFavorites(jdbc);
+            rebuildStandings(jdbc);
+            jdbc.execute("ANALYZE");
+
+            log.info("Generated {} venues, {} teams, {} players, {} matches and {} users in {} s",
+                config.venues(), config.teams(), (long) config.teams() * config.playersPerTeam(),
+                config.matches(), config.users(), (System.nanoTime() - started) / 1_000_000_000);
+        }
+    }
+
+    private void insertVenues(JdbcTemplate jdbc) {
+        jdbc.update("""
+            INSERT INTO venues (venue_name, address, latitude, longitude)
+            SELECT 'Venue ' || g, 'Street ' || g || ', 101 Reykjavik',
+                   round((63.3 + random() * 3)::numeric, 6), round((-24 + random() * 10)::numeric, 6)
+            FROM generate_series(1, ?) g
+            """, config.venues());
+    }
+
+    private void insertTeams(JdbcTemplate jdbc) {
+        jdbc.update("""
+            INSERT INTO teams (team_name, team_country, venue_id, is_active)
+            SELECT 'Team ' || g,
+                   (%s)[1 + g %% 8],
+                   v.ids[1 + (g - 1) %% v.n],
+                   g %% 20 <> 0
+            FROM generate_series(1, ?) g,
+                 (SELECT array_agg(venue_id ORDER BY venue_id) ids, count(*)::int n FROM venues) v
+            """.formatted(COUNTRIES), config.teams());
+    }
+
+    private void insertPlayers(JdbcTemplate jdbc) {
+        jdbc.update("""
+            INSERT INTO players (player_name, player_country, team_id, player_position,
+                                 date_of_birth, gender, goals, is_active)
+            SELECT 'Player ' || t.team_id || '-' || g,
+                   CASE WHEN random() < 0.8 THEN t.team_country ELSE (%s)[1 + floor(random() * 8)::int] END,
+                   t.team_id,
+                   (ARRAY['GOALKEEPER','DEFENDER','MIDFIELDER','FORWARD'])[1 + g %% 4],
+                   DATE '1985-01-01' + floor(random() * 7000)::int,
+                   (ARRAY['MALE','FEMALE'])[1 + (t.team_id %% 2)::int],
+                   floor(random() * 30)::int,
+                   t.is_active
+            FROM teams t, generate_series(1, ?) g
+            """.formatted(COUNTRIES), config.playersPerTeam());
+    }
+
+    /**
+     * Matches go back in time from now, one every seven minutes, between two different
+     * random teams at the home team's venue.
+     * <p>
+     * Random venues double-book, so matches are inserted exempt from the venue slot constraint
+     * and then, as in the V11 migration, every match that starts at least one slot after the
+     * previous match at its venue is made subject to it again.
+     */
+    private void insertMatches(JdbcTemplate jdbc) {
+        for (long from = 1; from <= config.matches(); from += MATCH_CHUNK) {
+            long to = Math.min(config.matches(), from + MATCH_CHUNK - 1);
+            jdbc.update("""
+                WITH t AS (
+                    SELECT array_agg(team_id ORDER BY team_id) ids,
+                           array_agg(venue_id ORDER BY team_id) venues,
+                           count(*)::int n
+                    FROM teams
+                ),
+                r AS (
+                    SELECT g,
+                           1 + floor(random() * t.n)::int AS home,
+                           1 + floor(random() * (t.n - 1))::int AS offset_to_away,
+                           floor(random() * 5)::int AS home_goals,
+                           floor(random() * 4)::int AS away_goals
+                    FROM generate_series(?, ?) g, t
+                )
+                INSERT INTO matches (home_team_id, away_team_id, home_goals, away_goals, match_date, venue_id, overlap_exempt)
+                SELECT t.ids[r.home],
+                       t.ids[1 + (r.home - 1 + r.offset_to_away) % t.n],
+                       r.home_goals,
+                       r.away_goals,
+                       date_trunc('minute', now()) - r.g * interval '7 minutes',
+                       t.venues[r.home],
+                       TRUE
+                FROM r, t
+                """, from, to);
+            log.info("Inserted {} of {} matches", to, config.matches());
+        }
+
+        jdbc.update("""
+            UPDATE matches m
+            SET overlap_exempt = FALSE
+            FROM (
+                SELECT match_id,
+                       match_date - lag(match_date) OVER (PARTITION BY venue_id ORDER BY match_date, match_id) AS gap
+                FROM matches
+            ) previous
+            WHERE previous.match_id = m.match_id
+              AND (previous.gap IS NULL OR previous.gap >= INTERVAL '3 hours')
+            """);
+    }
+
+    /** Every tenth user is an admin, so the write operations have admins to act as. */
+    private void insertUsers(JdbcTemplate jdbc, String passwordHash) {
+        jdbc.update("""
+            INSERT INTO users (user_name, email, password_hash, role, is_active)
+            SELECT 'User ' || g,
+                   'loadtest' || g || '@example.com',
+                   ?,
+                   CASE WHEN g % 10 = 0 THEN 'ADMIN' ELSE 'USER' END,
+                   true
+            FROM generate_series(1, ?) g
+            """, passwordHash, config.users());
+    }
+
+    /** Match favorites point at recent matches, which is what users follow. */
+    private void insertFavorites(JdbcTemplate jdbc) {
+        jdbc.update("""
+            WITH p AS (SELECT array_agg(player_id) ids, count(*)::int n FROM players),
+                 t AS (SELECT array_agg(team_id) ids, count(*)::int n FROM teams),
+                 m AS (SELECT array_agg(match_id) ids, count(*)::int n
+                       FROM (SELECT match_id FROM matches ORDER BY match_date DESC LIMIT 10000) recent)
+            INSERT INTO favorites (user_id, entity_type, entity_id)
+            SELECT u.user_id,
+                   f.type,
+                   CASE f.type
+                       WHEN 'PLAYER' THEN p.ids[1 + floor(random() * p.n)::int]
+                       WHEN 'TEAM' THEN t.ids[1 + floor(random() * t.n)::int]
+                       ELSE m.ids[1 + floor(random() * m.n)::int]
+                   END
+            FROM users u
+            CROSS JOIN generate_series(1, ?) g
+            CROSS JOIN LATERAL (SELECT (ARRAY['PLAYER','TEAM','MATCH'])[1 + (g + u.user_id::int) % 3] AS type) f
+            CROSS JOIN p CROSS JOIN t CROSS JOIN m
+            ON CONFLICT ON CONSTRAINT uk_user_entity DO NOTHING
+            """, config.favoritesPerUser());
+    }
+
+    /**
+     * Rebuilds {@code team_standings} from the generated matches, since they were inserted
+     * past the application's incremental updates. Same aggregation as the V7 migration.
+     */
+    private void rebuildStandings(JdbcTemplate jdbc) {
+        jdbc.update("DELETE FROM team_standings");
+        jdbc.update("""
+            INSERT INTO team_standings (team_id, played, won, drawn, lost, goals_for, goals_against, points)
+            SELECT r.team_id,
+                   COUNT(*),
+                   COUNT(*) FILTER (WHERE r.scored > r.conceded),
+                   COUNT(*) FILTER (WHERE r.scored = r.conceded),
+                   COUNT(*) FILTER (WHERE r.scored < r.conceded),
+                   SUM(r.scored),
+                   SUM(r.conceded),
+                   SUM(CASE WHEN r.scored > r.conceded THEN 3 WHEN r.scored = r.conceded THEN 1 ELSE 0 END)
+            FROM (
+                SELECT home_team_id AS team_id, home_goals AS scored, away_goals AS conceded FROM matches
+                UNION ALL
+                SELECT away_team_id, away_goals, home_goals FROM matches
+            ) r
+            GROUP BY r.team_id
+            """);
+        jdbc.update("""
+            UPDATE team_standings s
+            SET form = COALESCE((
+                SELECT string_agg(x.result, '' ORDER BY x.match_date DESC, x.match_id DESC)
+                FROM (
+                    SELECT m.match_date, m.match_id,
+                           CASE
+                               WHEN m.home_goals = m.away_goals THEN 'D'
+                               WHEN (m.home_team_id = s.team_id) = (m.home_goals > m.away_goals) THEN 'W'
+                               ELSE 'L'
+                           END AS result
+                    FROM matches m
+                    WHERE m.home_team_id = s.team_id OR m.away_team_id = s.team_id
+                    ORDER BY m.match_date DESC, m.match_id DESC
+                    LIMIT 5
+                ) x
+            ), '')
+            """);
+    }
+}
@@ -0,0 +1,294 @@
+package is.hi.hbv501gteam23.LoadTest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.stat.Statistics;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Drives a weighted mix of REST calls against the running application.
+ * <p>
+ * Every client is a virtual thread that picks an operation by weight, sends it and records
+ * the latency, back to back without think time. Before the concurrent run each operation is
+ * sent a few times on its own to measure how many SQL statements it runs, since statements
+ * cannot be attributed to a request once requests overlap.
+ */
+@Slf4j
+public class Workload {
+    private static final int CALIBRATION_REQUESTS = 20;
+
+    /**
+     * Ids the operations pick from, read from the database after seeding.
+     *
+     * @param teamIds        all team ids
+     * @param playerIds      all player ids
+     * @param venueIds       all venue ids
+     * @param matchIds       a random sample of match ids
+     * @param firstMatchDay  date of the oldest match
+     * @param lastMatchDay   date of the newest match
+     * @param userTokens     access tokens of regular users
+     * @param adminTokens    access tokens of admins
+     * @param userEmails     emails users log in with
+     */
+    public record Targets(
+        long[] teamIds,
+        long[] playerIds,
+        long[] venueIds,
+        long[] matchIds,
+        LocalDate firstMatchDay,
+        LocalDate lastMatchDay,
+        List<String> userTokens,
+        List<String> adminTokens,
+        List<String> userEmails
+    ) {}
+
+    /**
+     * One kind of request in the mix.
+     *
+     * @param name     name used in the mix and the report
+     * @param request  builds a request, with random targets
+     * @param accepted statuses counted as a success
+     */
+    private record Operation(String name, Function<ThreadLocalRandom, HttpRequest> request, Set<Integer> accepted) {}
+
+    private final LoadTestConfig config;
+    private final Targets targets;
+    private final String baseUrl;
+    private final String password;
+    private final List<Operation> operations;
+    private final int[] cumulativeWeights;
+
+    public Workload(LoadTestConfig config, Targets targets, int port, String password) {
+        this.config = config;
+        this.targets = targets;
+        this.baseUrl = "http://localhost:" + port;
+        this.password = password;
+
+        Map<String, Operation> all = new HashMap<>();
+        for (Operation operation : allOperations()) all.put(operation.name(), operation);
+
+        this.operations = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        config.mix().forEach((name, weight) -> {
+            if (weight > 0) {
+                operations.add(all.get(name));
+                weights.add(weight);
+            }
+        });
+        if (operations.isEmpty()) throw new IllegalArgumentException("loadtest.mix leaves no operations");
+
+        this.cumulativeWeights = new int[weights.size()];
+        int sum = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            sum += weights.get(i);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * Calibrates, warms up and then measures the workload.
+     *
+     * @param statistics Hibernate statistics of the application, used to count statements
+     * @return the measured results
+     */
+    public LoadTestReport run(Statistics statistics) {
+        try (HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build()) {
+
+            Map<String, Double> statementsPerRequest = calibrate(http, statistics);
+
+            log.info("Warming up for {} s with {} clients", config.warmup().toSeconds(), config.concurrency());
+            drive(http, config.warmup());
+
+            log.info("Measuring for {} s with {} clients", config.duration().toSeconds(), config.concurrency());
+            long statementsBefore = statistics.getPrepareStatementCount();
+            long allocatedBefore = allocatedBytes();
+            Map<String, LatencyRecorder> recorders = drive(http, config.duration());
+            long allocated = allocatedBytes() - allocatedBefore;
+            long statements = statistics.getPrepareStatementCount() - statementsBefore;
+
+            return LoadTestReport.from(config, recorders, statementsPerRequest, statements, allocated);
+        }
+    }
+
+    /**
+     * Sends every operation {@link #CALIBRATION_REQUESTS} times, one request at a time,
+     * and returns the average number of prepared statements per request.
+     */
+    private Map<String, Double> calibrate(HttpClient http, Statistics statistics) {
+        Map<String, Double> statementsPerRequest = new LinkedHashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (Operation operation : operations) {
+            long before = statistics.getPrepareStatementCount();
+            for (int i = 0; i < CALIBRATION_REQUESTS; i++) {
+                send(http, operation, random);
+            }
+            long statements = statistics.getPrepareStatementCount() - before;
+            statementsPerRequest.put(operation.name(), statements / (double) CALIBRATION_REQUESTS);
+        }
+        return statementsPerRequest;
+    }
+
+    private Map<String, LatencyRecorder> drive(HttpClient http, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Map<String, LatencyRecorder>> perClient = new ArrayList<>();
+
+        // Closing the executor waits for every client to pass the deadline
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < config.concurrency(); c++) {
+                Map<String, LatencyRecorder> recorders = new HashMap<>();
+                perClient.add(recorders);
+                clients.execute(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        Operation operation = pick(random);
+                        long start = System.nanoTime();
+                        boolean ok = send(http, operation, random);
+                        recorders.computeIfAbsent(operation.name(), n -> new LatencyRecorder())
+                            .record(System.nanoTime() - start, ok);
+                    }
+                });
+            }
+        }
+
+        Map<String, LatencyRecorder> merged = new LinkedHashMap<>();
+        for (Operation operation : operations) merged.put(operation.name(), new LatencyRecorder());
+        for (Map<String, LatencyRecorder> recorders : perClient) {
+            recorders.forEach((name, recorder) -> merged.get(name).addAll(recorder));
+        }
+        return merged;
+    }
+
+    private Operation pick(ThreadLocalRandom random) {
+        int r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = Arrays.binarySearch(cumulativeWeights, r + 1);
+        return operations.get(i >= 0 ? i : -i - 1);
+    }
+
+    private boolean send(HttpClient http, Operation operation, ThreadLocalRandom random) {
+        try {
+            HttpResponse<Void> response = http.send(operation.request().apply(random), HttpResponse.BodyHandlers.discarding());
+            return operation.accepted().contains(response.statusCode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Heap bytes allocated by all threads since the JVM started. The application and the
+     * load generator share the JVM, so this includes the generator's own allocations.
+     */
+    private static long allocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+            || !threads.isThreadAllocatedMemorySupported()) {
+            return 0;
+        }
+        return Math.max(0, threads.getTotalThreadAllocatedBytes());
+    }
+
+    private List<Operation> allOperations() {
+        Set<Integer> ok = Set.of(200);
+        return List.of(
+            new Operation("matchPage", r -> get("/matches/page?limit=50&sortBy=matchDate&sortDir=desc", null), ok),
+            new Operation("matchesInWeek", r -> {
+                LocalDate start = randomDay(r);
+                return get("/matches?startDate=" + start + "&endDate=" + start.plusDays(6), null);
+            }, ok),
+            new Operation("matchDetail", r -> get("/matches/" + pick(r, targets.matchIds()), null), ok),
+            new Operation("players", r -> get("/players?teamId=" + pick(r, targets.teamIds()), null), ok),
+            new Operation("playerDetail", r -> get("/players/" + pick(r, targets.playerIds()), null), ok),
+            new Operation("teams", r -> get("/teams", null), ok),
+            new Operation("venues", r -> get("/venues", null), ok),
+            new Operation("standings", r -> get("/standings", null), ok),
+            new Operation("teamStatistics", r -> get("/statistics/teams/" + pick(r, targets.teamIds()), null), ok),
+            new Operation("favorites", r -> get("/favorites", pick(r, targets.userTokens())), ok),
+            new Operation("addFavorite", r -> {
+                long playerId = pick(r, targets.playerIds());
+                return post("/favorites/PLAYER/" + playerId,
+                    "{\"favoriteType\":\"PLAYER\",\"favoriteId\":" + playerId + "}",
+                    pick(r, targets.userTokens()));
+            }, Set.of(201, 409)),
+            new Operation("createMatch", r -> {
+                int home = r.nextInt(targets.teamIds().length);
+                int away = (home + 1 + r.nextInt(targets.teamIds().length - 1)) % targets.teamIds().length;
+                // Spread over the next five years, so few creates hit a booked venue slot
+                OffsetDateTime kickoff = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MINUTES)
+                    .plusMinutes(r.nextLong(5L * 365 * 24 * 60));
+                String body = "{\"matchDate\":\"" + kickoff + "\""
+                    + ",\"homeTeamId\":" + targets.teamIds()[home]
+                    + ",\"awayTeamId\":" + targets.teamIds()[away]
+                    + ",\"venueId\":" + pick(r, targets.venueIds())
+                    + ",\"homeGoals\":" + r.nextInt(5)
+                    + ",\"awayGoals\":" + r.nextInt(4) + "}";
+                return post("/matches", body, pick(r, targets.adminTokens()));
+            }, Set.of(201, 409)),
+            new Operation("patchPlayer", r -> HttpRequest.newBuilder(uri("/players/" + pick(r, targets.playerIds())))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + pick(r, targets.adminTokens()))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"goals\":" + r.nextInt(40) + "}"))
+                .build(), ok),
+            new Operation("login", r -> post("/auth/login",
+                "{\"email\":\"" + pick(r, targets.userEmails()) + "\",\"password\":\"" + password + "\"}", null), ok)
+        );
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) builder.header("Authorization", "Bearer " + token);
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String json, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) builder.header("Authorization", "Bearer " + token);
+        return builder.build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    /** A day in the most recent two years of matches, where the data is densest. */
+    private LocalDate randomDay(ThreadLocalRandom random) {
+        LocalDate from = targets.lastMatchDay().minusYears(2);
+        if (from.isBefore(targets.firstMatchDay())) from = targets.firstMatchDay();
+        long days = Math.max(1, ChronoUnit.DAYS.between(from, targets.lastMatchDay()));
+        return from.plusDays(random.nextLong(days));
+    }
+
+    private static long pick(ThreadLocalRandom random, long[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static String pick(ThreadLocalRandom random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,93 @@
+package is.hi.hbv501gteam23.Config;
+
+import is.hi.hbv501gteam23.Persistence.Repositories.ImageRepository;
+import is.hi.hbv501gteam23.Services.Interfaces.AvatarStorageService;
+import is.hi.hbv501gteam23.Utils.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Moves avatar bytes still stored in {@code images.image_data} to the {@link AvatarStorageService}.
+ * <p>
+ * Runs once on startup. Images are processed in id order, a batch of ids at a time, and each
+ * image is moved in its own short transaction so at most one image is held in memory and an
+ * interrupted run simply resumes where it stopped on the next startup.
+ */
+@Slf4j
+@Component
+public class AvatarMigrationJob implements ApplicationRunner {
+    private final ImageRepository imageRepository;
+    private final AvatarStorageService avatarStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public AvatarMigrationJob(
+        ImageRepository imageRepository,
+        AvatarStorageService avatarStorageService,
+        PlatformTransactionManager transactionManager,
+        @Value("${avatar.migration.enabled:true}") boolean enabled,
+        @Value("${avatar.migration.batch-size:100}") int batchSize
+    ) {
+        this.imageRepository = imageRepository;
+        this.avatarStorageService = avatarStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+
+        long migrated = 0;
+        long lastId = 0;
+        List<Long> ids;
+        while (!(ids = imageRepository.findUnmigratedIds(lastId, PageRequest.ofSize(batchSize))).isEmpty()) {
+            for (Long id : ids) {
+                if (migrate(id)) migrated++;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        if (migrated > 0) log.info("Moved {} avatar images to the blob store", migrated);
+    }
+
+    private boolean migrate(Long id) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                byte[] data = imageRepository.findImageDataById(id);
+                if (data == null) return false;
+
+                AvatarStorageService.StoredBlob blob;
+                try {
+                    blob = avatarStorageService.store(new ByteArrayInputStream(data));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                imageRepository.markMigrated(id, blob.hash(), blob.length());
+                AfterCommit.run(() -> {
+                    try {
+                        avatarStorageService.ensureStored(blob.hash(), new ByteArrayResource(data));
+                    } catch (IOException e) {
+                        log.warn("Could not restore avatar blob {} of image {}", blob.hash(), id, e);
+                    }
+                });
+                return true;
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Could not move avatar image {} to the blob store", id, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package is.hi.hbv501gteam23.Config;
+
+import is.hi.hbv501gteam23.Utils.AfterCommit;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Change counter per table, used to answer conditional GETs without querying.
+ * <p>
+ * Service write methods call {@link #bump(Resource...)}; the bump is applied once the
+ * surrounding transaction commits, so a version is never published before its data is
+ * visible. {@link ConditionalGetFilter} turns the versions into ETag and Last-Modified
+ * validators. The counters live in memory and start over on restart, so every ETag carries
+ * the startup time and old tags never match a new process.
+ */
+@Component
+public class ChangeVersions {
+    /**
+     * Tables whose changes are tracked.
+     */
+    public enum Resource { MATCHES, PLAYERS, TEAMS, VENUES }
+
+    /**
+     * One published version of a table.
+     *
+     * @param number       increases by one on every committed change
+     * @param lastModified when the change happened, in whole seconds and strictly increasing
+     */
+    private record Version(long number, Instant lastModified) {}
+
+    /**
+     * Validators for a response built from one or more tables.
+     *
+     * @param etag         strong ETag, including quotes
+     * @param lastModified the latest change among the tables
+     */
+    public record Validators(String etag, Instant lastModified) {}
+
+    private final String epoch;
+    private final Map<Resource, AtomicReference<Version>> versions = new EnumMap<>(Resource.class);
+
+    public ChangeVersions() {
+        Instant startedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        this.epoch = Long.toString(startedAt.getEpochSecond(), 36);
+        for (Resource resource : Resource.values()) {
+            versions.put(resource, new AtomicReference<>(new Version(0, startedAt)));
+        }
+    }
+
+    /**
+     * Marks the given tables as changed once the current transaction commits, or right away
+     * if there is none. Nothing happens if the transaction rolls back.
+     *
+     * @param resources the tables that were written
+     */
+    public void bump(Resource... resources) {
+        AfterCommit.run(() -> {
+            for (Resource resource : resources) {
+                versions.get(resource).updateAndGet(ChangeVersions::next);
+            }
+        });
+    }
+
+    /**
+     * Builds validators for a response that reads the given tables.
+     *
+     * @param resources the tables the response is built from
+     * @return an ETag that changes whenever any of the tables changes, and their latest change time
+     */
+    public Validators validators(Collection<Resource> resources) {
+        StringJoiner tag = new StringJoiner(".", "\"" + epoch + "-", "\"");
+        Instant lastModified = Instant.EPOCH;
+        for (Resource resource : Resource.values()) {
+            if (!resources.contains(resource)) continue;
+            Version version = versions.get(resource).get();
+            tag.add(Long.toString(version.number(), 36));
+            if (version.lastModified().isAfter(lastModified)) lastModified = version.lastModified();
+        }
+        return new Validators(tag.toString(), lastModified);
+    }
+
+    /**
+     * Last-Modified only has one second resolution, so each change moves it forward by at
+     * least a second. Otherwise two changes within the same second would share a timestamp,
+     * and a client holding the first would be told nothing changed.
+     */
+    private static Version next(Version current) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant floor = current.lastModified().plusSeconds(1);
+        return new Version(current.number() + 1, now.isAfter(floor) ? now : floor);
+    }
+}
@@ -0,0 +1,87 @@
+package is.hi.hbv501gteam23.Config;
+
+import io.micrometer.common.lang.NonNull;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of requests being handled at the same time.
+ * <p>
+ * On platform threads Tomcat's worker pool bounds concurrency. With virtual threads every
+ * request gets its own thread, so a burst would otherwise queue up on the Hikari pool until
+ * requests time out. The limit is sized from the pool in the {@code virtual-threads} profile.
+ * A request waits up to {@code request-concurrency.acquire-timeout} for a slot and is then
+ * answered with 503 and {@code Retry-After}. Actuator endpoints are not limited.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "request-concurrency.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final Counter rejected;
+
+    public ConcurrencyLimitFilter(
+        MeterRegistry meterRegistry,
+        @Value("${request-concurrency.max-in-flight:40}") int maxInFlight,
+        @Value("${request-concurrency.acquire-timeout:2s}") Duration acquireTimeout
+    ) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+
+        Gauge.builder("http.server.requests.in.flight", permits, p -> maxInFlight - p.availablePermits())
+            .description("Requests currently holding a concurrency slot")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("http.server.requests.rejected")
+            .description("Requests rejected because no concurrency slot freed up in time")
+            .register(meterRegistry);
+
+        log.info("Request concurrency limited to {} in flight", maxInFlight);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server is busy, please try again shortly");
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package is.hi.hbv501gteam23.Config;
+
+import io.micrometer.common.lang.NonNull;
+import is.hi.hbv501gteam23.Config.ChangeVersions.Resource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Answers conditional GETs on the list and detail endpoints from {@link ChangeVersions}.
+ * <p>
+ * The ETag and Last-Modified of a response are derived from the versions of every table it
+ * reads, e.g. a player response shows the team name, so {@code /players} depends on both
+ * players and teams. If the client's {@code If-None-Match} or {@code If-Modified-Since} still
+ * matches, the filter answers {@code 304 Not Modified} without calling the controller.
+ * Otherwise the validators are added to successful responses only.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetFilter extends OncePerRequestFilter {
+    private static final Map<String, Set<Resource>> ROUTES = Map.of(
+        "/matches", EnumSet.of(Resource.MATCHES, Resource.TEAMS, Resource.VENUES),
+        "/players", EnumSet.of(Resource.PLAYERS, Resource.TEAMS),
+        "/standings", EnumSet.of(Resource.MATCHES, Resource.TEAMS),
+        "/teams", EnumSet.of(Resource.TEAMS, Resource.VENUES),
+        "/venues", EnumSet.of(Resource.VENUES)
+    );
+
+    private final ChangeVersions changeVersions;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean safe = HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+        return !safe || routeFor(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        // Read the versions before the query runs. A write that commits in between makes the
+        // tag stale, which only costs the client one extra download.
+        ChangeVersions.Validators validators = changeVersions.validators(routeFor(request));
+        long lastModified = validators.lastModified().toEpochMilli();
+
+        if (new ServletWebRequest(request).checkNotModified(validators.etag(), lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            writeValidators(response, validators.etag(), lastModified);
+            return;
+        }
+
+        ValidatorResponse wrapped = new ValidatorResponse(response, validators.etag(), lastModified);
+        filterChain.doFilter(request, wrapped);
+        if (!response.isCommitted()) wrapped.apply();
+    }
+
+    private static Set<Resource> routeFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        // Availability defaults to a window starting now, so its body changes without any write,
+        // and live score streams never end with a body that could be revalidated
+        if (path.endsWith("/availability") || path.endsWith("/live")) return null;
+        for (Map.Entry<String, Set<Resource>> route : ROUTES.entrySet()) {
+            String prefix = route.getKey();
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) return route.getValue();
+        }
+        return null;
+    }
+
+    private static void writeValidators(HttpServletResponse response, String etag, long lastModified) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        // Let clients keep the body but revalidate on every use
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    }
+
+    /**
+     * Adds the validators when the body is first written, once the status is known, so
+     * error responses are never tagged.
+     */
+    private static final class ValidatorResponse extends HttpServletResponseWrapper {
+        private final String etag;
+        private final long lastModified;
+        private boolean applied;
+
+        ValidatorResponse(HttpServletResponse response, String etag, long lastModified) {
+            super(response);
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        void apply() {
+            if (applied) return;
+            applied = true;
+            int status = getStatus();
+            if (status >= 200 && status < 300) writeValidators((HttpServletResponse) getResponse(), etag, lastModified);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            apply();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            apply();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            apply();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            applied = true;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            applied = true;
+            super.sendError(sc, msg);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package is.hi.hbv501gteam23.Config;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Country;
+import is.hi.hbv501gteam23.Persistence.Repositories.CountryRepository;
+import is.hi.hbv501gteam23.Persistence.dto.MetadataDto;
+import is.hi.hbv501gteam23.Utils.MetadataUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of the {@code countries} table.
+ * <p>
+ * Loaded on startup and replaced by {@link CountrySyncService} after every sync. Each refresh
+ * publishes a new immutable snapshot, so lookups are lock-free O(1) map reads and never see a
+ * half-updated table. Writes that reference a country use {@link #resolve(String)}, which
+ * returns a reference proxy instead of loading the row.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CountryRegistry {
+    /**
+     * Immutable view of the countries at one point in time.
+     *
+     * @param byCode countries keyed by uppercase ISO code
+     * @param sorted countries sorted by name, as served by {@code /metadata/countries}
+     */
+    private record Snapshot(Map<String, MetadataDto> byCode, List<MetadataDto> sorted) {}
+
+    private final CountryRepository countryRepository;
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), List.of());
+
+    @PostConstruct
+    void load() {
+        refresh(countryRepository.findAll());
+    }
+
+    /**
+     * Replaces the registry contents with the given countries.
+     *
+     * @param countries every country currently in the database
+     */
+    public void refresh(Collection<Country> countries) {
+        List<MetadataDto> sorted = countries.stream()
+            .map(c -> new MetadataDto(c.getCountryName(), c.getCode()))
+            .sorted(Comparator.comparing(MetadataDto::label, String.CASE_INSENSITIVE_ORDER))
+            .toList();
+        Map<String, MetadataDto> byCode = sorted.stream()
+            .collect(Collectors.toUnmodifiableMap(MetadataDto::value, Function.identity()));
+
+        snapshot = new Snapshot(byCode, sorted);
+        log.debug("Country registry refreshed with {} countries", byCode.size());
+    }
+
+    /**
+     * @return all countries sorted alphabetically by name (case-insensitive)
+     */
+    public List<MetadataDto> getAll() {
+        return snapshot.sorted();
+    }
+
+    /**
+     * Checks whether a code belongs to a known country, ignoring case and surrounding whitespace.
+     *
+     * @param code the country code to check
+     * @return {@code true} if the country exists
+     */
+    public boolean contains(String code) {
+        return code != null && snapshot.byCode().containsKey(code.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Normalizes a country code and returns a reference to the matching {@link Country}
+     * without querying the database.
+     *
+     * @param code a 2-letter ISO country code, in any case
+     * @return a reference proxy to the country
+     * @throws IllegalArgumentException if the code is missing or not a valid ISO code
+     * @throws ResponseStatusException with status 404 if the country is not in the database
+     */
+    public Country resolve(String code) {
+        String normalized = MetadataUtils.normalizeCountryCode(code);
+        if (normalized == null) throw new IllegalArgumentException("Country code is required");
+
+        if (!snapshot.byCode().containsKey(normalized)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Country " + normalized + " not found");
+        }
+        return countryRepository.getReferenceById(normalized);
+    }
+}
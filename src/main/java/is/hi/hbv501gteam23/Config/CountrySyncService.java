@@ -2,6 +2,7 @@ package is.hi.hbv501gteam23.Config;
 
 import is.hi.hbv501gteam23.Persistence.Entities.Country;
 import is.hi.hbv501gteam23.Persistence.Repositories.CountryRepository;
+import is.hi.hbv501gteam23.Utils.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,9 +14,11 @@ import java.util.stream.Collectors;
 public class CountrySyncService {
 
     private final CountryRepository countryRepository;
+    private final CountryRegistry countryRegistry;
 
     /**
      * Synchronize countries from Java's Locale with the database in bulk.
+     * The {@link CountryRegistry} is refreshed once the transaction has committed.
      */
     @Transactional
     public void syncCountriesBulk() {
@@ -49,5 +52,9 @@ public class CountrySyncService {
 
         if (!toInsert.isEmpty()) countryRepository.saveAll(toInsert);
         if (!toUpdate.isEmpty()) countryRepository.saveAll(toUpdate);
+
+        List<Country> countries = new ArrayList<>(dbCountries.values());
+        countries.addAll(toInsert);
+        AfterCommit.run(() -> countryRegistry.refresh(countries));
     }
 }
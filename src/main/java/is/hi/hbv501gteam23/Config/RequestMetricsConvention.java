@@ -0,0 +1,40 @@
+package is.hi.hbv501gteam23.Config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import is.hi.hbv501gteam23.Persistence.enums.SystemRole;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Adds the handling controller and the caller's {@link SystemRole} to the
+ * {@code http.server.requests} metrics.
+ * <p>
+ * Both tags have a small, fixed set of values, like the URI template Spring already uses,
+ * so the number of time series stays bounded no matter which ids are requested. Requests
+ * that never reach a controller are tagged {@code none}, unauthenticated ones {@code ANONYMOUS}.
+ */
+@Component
+public class RequestMetricsConvention extends DefaultServerRequestObservationConvention {
+    /** Request attribute holding the authenticated user's {@link SystemRole}, set during authentication. */
+    public static final String ROLE_ATTRIBUTE = RequestMetricsConvention.class.getName() + ".role";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(controller(context), role(context));
+    }
+
+    private KeyValue controller(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        String name = handler instanceof HandlerMethod method ? method.getBeanType().getSimpleName() : "none";
+        return KeyValue.of("controller", name);
+    }
+
+    private KeyValue role(ServerRequestObservationContext context) {
+        Object role = context.getCarrier().getAttribute(ROLE_ATTRIBUTE);
+        return KeyValue.of("role", role instanceof SystemRole r ? r.name() : "ANONYMOUS");
+    }
+}
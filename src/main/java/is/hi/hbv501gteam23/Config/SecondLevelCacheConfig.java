@@ -0,0 +1,86 @@
+package is.hi.hbv501gteam23.Config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level and query cache for the read-mostly reference entities.
+ * <p>
+ * Teams, venues and countries are read on almost every request, as eager associations of
+ * matches and players and in every create and patch, but change a few times a day. Their
+ * regions live in an in-process Caffeine cache bounded by {@code second-level-cache.max-entries}
+ * per region and expiring after {@code second-level-cache.ttl}. Hibernate evicts an entry when
+ * its entity is updated or deleted through JPA. Set {@code second-level-cache.enabled=false}
+ * to turn the cache off.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    /** Entity regions, as named in the {@code @Cache} annotations. */
+    public static final String TEAMS = "teams";
+    public static final String VENUES = "venues";
+    public static final String COUNTRIES = "countries";
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager secondLevelCacheManager(
+        @Value("${second-level-cache.max-entries:10000}") long maxEntries,
+        @Value("${second-level-cache.ttl:10m}") Duration ttl
+    ) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A URI of its own, so application contexts (f.x. in tests) never share or close each other's caches
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("second-level-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : List.of(TEAMS, VENUES, COUNTRIES, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)) {
+            CaffeineConfiguration<Object, Object> config = regionConfig();
+            config.setMaximumSize(OptionalLong.of(maxEntries));
+            config.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            cacheManager.createCache(region, config);
+        }
+        // Cached query results are only valid while the update timestamps they are checked
+        // against are still around, so this region is neither bounded nor expired. It holds
+        // one entry per table.
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, regionConfig());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(ObjectProvider<CacheManager> secondLevelCacheManager) {
+        return properties -> {
+            CacheManager cacheManager = secondLevelCacheManager.getIfAvailable();
+            boolean enabled = cacheManager != null;
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (!enabled) return;
+
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            // Every region is created above, a missing one is a typo in a region name
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfig() {
+        CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+        // Hibernate caches immutable, disassembled state, so entries do not need to be copied
+        config.setStoreByValue(false);
+        return config;
+    }
+}
@@ -57,17 +57,23 @@ public class SecurityConfig {
                     "/teams/**",
                     "/favorites/**",
                     "/metadata/**",
+                    "/standings/**",
+                    "/statistics/**",
                     "/swagger-ui/**",
                     "/v3/api-docs/**"
                 ).permitAll()
                 .requestMatchers("/error").permitAll()
+                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
                 .requestMatchers("/users/**").hasRole("ADMIN")
+                .requestMatchers("/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/profile/**").authenticated()
                 .requestMatchers(HttpMethod.POST,
                     "/players/**",
                     "/venues/**",
                     "/matches/**",
-                    "/teams/**"
+                    "/teams/**",
+                    "/statistics/**"
                 ).hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PATCH,
                     "/players/**",
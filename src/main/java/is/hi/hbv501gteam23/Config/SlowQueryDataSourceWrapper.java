@@ -0,0 +1,136 @@
+package is.hi.hbv501gteam23.Config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Times every JDBC statement and hands the ones slower than {@code slow-query.threshold}
+ * to {@link SlowQueryLog}.
+ * <p>
+ * The application's {@link DataSource} is wrapped in a proxy whose connections return
+ * timing proxies for their statements. Prepared statements also remember the parameter
+ * setter calls, so a sampled slow statement can be explained with the values it actually
+ * ran with. Everything else, including {@code unwrap}, is passed through to the pool.
+ */
+@Component
+@ConditionalOnProperty(name = "slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryDataSourceWrapper implements BeanPostProcessor {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+    private final long thresholdNanos;
+
+    public SlowQueryDataSourceWrapper(ObjectProvider<SlowQueryLog> slowQueryLog,
+                                      @Value("${slow-query.threshold:200ms}") Duration threshold) {
+        this.slowQueryLog = slowQueryLog;
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * A parameter setter call on a prepared statement, replayed on the {@code EXPLAIN} statement.
+     *
+     * @param setter the {@code setXxx} method
+     * @param args   its arguments, starting with the parameter index
+     */
+    record Parameter(Method setter, Object[] args) {}
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return proxy(DataSource.class, dataSource, (p, method, args) -> dataSourceCall(dataSource, method, args));
+        }
+        return bean;
+    }
+
+    private Object dataSourceCall(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        return result instanceof Connection connection
+            ? proxy(Connection.class, connection, (p, m, a) -> connectionCall(connection, m, a))
+            : result;
+    }
+
+    private Object connectionCall(Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(target, method, args);
+        return switch (result) {
+            case CallableStatement statement ->
+                proxy(CallableStatement.class, statement, new StatementHandler(statement, (String) args[0]));
+            case PreparedStatement statement ->
+                proxy(PreparedStatement.class, statement, new StatementHandler(statement, (String) args[0]));
+            case Statement statement -> proxy(Statement.class, statement, new StatementHandler(statement, null));
+            case null, default -> result;
+        };
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String sql;
+        private final List<Parameter> parameters = new ArrayList<>();
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (sql != null && name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameters.add(new Parameter(method, args.clone()));
+            } else if (sql != null && (name.equals("clearParameters") || name.equals("addBatch"))) {
+                // Batched rows are writes and never explained, so only the current row is kept
+                parameters.clear();
+            }
+            if (!EXECUTE_METHODS.contains(name)) return SlowQueryDataSourceWrapper.invoke(target, method, args);
+
+            long start = System.nanoTime();
+            try {
+                return SlowQueryDataSourceWrapper.invoke(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (elapsed >= thresholdNanos) {
+                    String statementSql = sql != null ? sql : args != null && args.length > 0 ? String.valueOf(args[0]) : "";
+                    slowQueryLog.getObject().slowStatement(statementSql, List.copyOf(parameters), elapsed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a proxy of {@code type}. Identity methods are answered by the proxy itself, since
+     * Hibernate and the pool keep connections and statements in hash maps.
+     */
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        InvocationHandler identityAware = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> args != null && args.length == 1 && proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.invoke(proxy, method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(
+            SlowQueryDataSourceWrapper.class.getClassLoader(), new Class<?>[] {type}, identityAware));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package is.hi.hbv501gteam23.Config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import is.hi.hbv501gteam23.Config.SlowQueryDataSourceWrapper.Parameter;
+import is.hi.hbv501gteam23.Persistence.dto.SlowQueryDto;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Logs statements slower than {@code slow-query.threshold} and captures plans for a sample of them.
+ * <p>
+ * Each slow statement is logged as one line of JSON with its duration, the endpoint that ran
+ * it and the statement with parameters and literals replaced by {@code ?}; bound values are
+ * never logged. For a fraction {@code slow-query.explain-sample-rate} of slow reads, the
+ * statement is run again under {@code EXPLAIN (ANALYZE, BUFFERS)} with the same parameters,
+ * on a single background thread and its own pooled connection, inside a read-only transaction
+ * that is rolled back and limited by {@code slow-query.explain-timeout}. Postgres prints the
+ * bound values into the conditions of such a plan, so string literals and the numbers in
+ * condition lines are replaced by {@code ?} before the plan is kept. The latest
+ * {@code slow-query.max-plans} plans are kept in memory for {@code GET /admin/slow-queries}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLog {
+    private static final String EXPLAIN_PREFIX = "EXPLAIN (ANALYZE, BUFFERS) ";
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    /** Plan lines that print predicates, f.x. {@code Filter:}, {@code Index Cond:} or {@code Join Filter:}. */
+    private static final Pattern CONDITION_LINE = Pattern.compile("^\\s*(?:[\\w-]+ )?(?:Cond|Condition|Filter):");
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final double thresholdMs;
+    private final double explainSampleRate;
+    private final long explainTimeoutMillis;
+    private final int maxPlans;
+    private final ThreadPoolExecutor explainExecutor;
+    private final ConcurrentLinkedDeque<SlowQueryDto.SlowQueryPlanResponse> plans = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger planCount = new AtomicInteger();
+    private final Counter slowStatements;
+    private final Counter explainsSkipped;
+
+    public SlowQueryLog(
+        DataSource dataSource,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${slow-query.threshold:200ms}") Duration threshold,
+        @Value("${slow-query.explain-sample-rate:0.1}") double explainSampleRate,
+        @Value("${slow-query.explain-timeout:5s}") Duration explainTimeout,
+        @Value("${slow-query.explain-queue-capacity:16}") int explainQueueCapacity,
+        @Value("${slow-query.max-plans:100}") int maxPlans
+    ) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.thresholdMs = threshold.toNanos() / 1_000_000.0;
+        this.explainSampleRate = explainSampleRate;
+        this.explainTimeoutMillis = explainTimeout.toMillis();
+        this.maxPlans = maxPlans;
+
+        // One explain at a time; when the database is struggling, extra samples are skipped
+        this.explainExecutor = new ThreadPoolExecutor(
+            1, 1,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(explainQueueCapacity),
+            r -> {
+                Thread t = new Thread(r, "slow-query-explain");
+                t.setDaemon(true);
+                return t;
+            },
+            (task, executor) -> skippedExplain()
+        );
+
+        this.slowStatements = Counter.builder("sql.slow.statements")
+            .description("Statements slower than slow-query.threshold")
+            .register(meterRegistry);
+        this.explainsSkipped = Counter.builder("sql.slow.explains.skipped")
+            .description("Sampled slow statements not explained because the explain queue was full")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    /**
+     * @return the captured plans, newest first
+     */
+    public List<SlowQueryDto.SlowQueryPlanResponse> recentPlans() {
+        List<SlowQueryDto.SlowQueryPlanResponse> recent = new ArrayList<>(plans);
+        return recent.reversed();
+    }
+
+    /**
+     * Records a statement that took longer than the threshold.
+     * Called on the thread that ran the statement, right after it finished.
+     *
+     * @param sql          the statement as sent to the driver
+     * @param parameters   the parameter setter calls it ran with
+     * @param elapsedNanos how long it took
+     */
+    void slowStatement(String sql, List<Parameter> parameters, long elapsedNanos) {
+        // The explains themselves are expected to be slow
+        if (sql.startsWith(EXPLAIN_PREFIX)) return;
+
+        Instant finishedAt = Instant.now();
+        double durationMs = elapsedNanos / 1_000_000.0;
+        String shape = SqlStatementStats.shapeOf(sql);
+        String endpoint = currentEndpoint();
+        boolean explain = isRead(sql) && ThreadLocalRandom.current().nextDouble() < explainSampleRate;
+        slowStatements.increment();
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("event", "slow_query");
+        entry.put("duration_ms", Math.round(durationMs * 10) / 10.0);
+        entry.put("threshold_ms", thresholdMs);
+        entry.put("endpoint", endpoint);
+        entry.put("parameters", parameters.size());
+        entry.put("explain", explain);
+        entry.put("sql", shape);
+        try {
+            log.warn("{}", objectMapper.writeValueAsString(entry));
+        } catch (JsonProcessingException e) {
+            log.warn("Slow query ({} ms): {}", durationMs, shape);
+        }
+
+        if (explain) {
+            explainExecutor.execute(() -> store(new SlowQueryDto.SlowQueryPlanResponse(
+                finishedAt, endpoint, shape, durationMs, explain(sql, parameters))));
+        }
+    }
+
+    private void skippedExplain() {
+        explainsSkipped.increment();
+    }
+
+    private void store(SlowQueryDto.SlowQueryPlanResponse plan) {
+        plans.addLast(plan);
+        if (planCount.incrementAndGet() > maxPlans && plans.pollFirst() != null) {
+            planCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Runs the statement under {@code EXPLAIN (ANALYZE, BUFFERS)} with the recorded parameters
+     * and returns the plan, or why it could not be captured.
+     */
+    private String explain(String sql, List<Parameter> parameters) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                try (Statement settings = connection.createStatement()) {
+                    settings.execute("SET TRANSACTION READ ONLY");
+                    settings.execute("SET LOCAL statement_timeout = " + explainTimeoutMillis);
+                }
+                try (PreparedStatement statement = connection.prepareStatement(EXPLAIN_PREFIX + sql)) {
+                    for (Parameter parameter : parameters) {
+                        parameter.setter().invoke(statement, parameter.args());
+                    }
+                    StringJoiner plan = new StringJoiner("\n");
+                    try (ResultSet rows = statement.executeQuery()) {
+                        while (rows.next()) plan.add(redact(rows.getString(1)));
+                    }
+                    return plan.toString();
+                }
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException | ReflectiveOperationException e) {
+            Throwable cause = e instanceof InvocationTargetException ite ? ite.getCause() : e;
+            log.debug("Could not explain slow statement", cause);
+            return "EXPLAIN failed: " + cause.getMessage();
+        }
+    }
+
+    /**
+     * Replaces the values in a line of a plan by {@code ?}. String literals are replaced on
+     * every line, numbers only in conditions, so costs, row counts and timings stay readable.
+     */
+    static String redact(String planLine) {
+        String line = STRING_LITERAL.matcher(planLine).replaceAll("?");
+        if (!CONDITION_LINE.matcher(line).find()) return line;
+        int colon = line.indexOf(':');
+        return line.substring(0, colon + 1) + NUMBER_LITERAL.matcher(line.substring(colon + 1)).replaceAll("?");
+    }
+
+    private static boolean isRead(String sql) {
+        String start = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return start.startsWith("select") || start.startsWith("with");
+    }
+
+    private static String currentEndpoint() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return null;
+        HttpServletRequest request = attributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
@@ -0,0 +1,146 @@
+package is.hi.hbv501gteam23.Config;
+
+import io.micrometer.common.lang.NonNull;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports how many SQL statements each request ran and how long JDBC took.
+ * <p>
+ * Both are recorded as {@code http.server.sql.statements} and {@code http.server.sql.time},
+ * tagged with the method and URI template, and, unless {@code sql-stats.response-headers} is
+ * off as in the {@code prod} profile, returned in the {@code X-SQL-Statements} and
+ * {@code X-SQL-Time} (milliseconds) headers. The headers are added when the body is first
+ * written, which is after the service call and its transaction have finished.
+ * <p>
+ * When a request runs the same statement shape more than {@code sql-stats.repeated-statement-threshold}
+ * times, usually an N+1 loading a lazy association per row, the shape is logged as a warning,
+ * once per endpoint and shape so a busy endpoint does not flood the log.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementFilter extends OncePerRequestFilter {
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time";
+    private static final int MAX_REPORTED_SHAPES = 1_000;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeaders;
+    private final int repeatedStatementThreshold;
+    private final Set<String> reportedShapes = ConcurrentHashMap.newKeySet();
+
+    public SqlStatementFilter(MeterRegistry meterRegistry,
+                              @Value("${sql-stats.response-headers:false}") boolean responseHeaders,
+                              @Value("${sql-stats.repeated-statement-threshold:5}") int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeaders = responseHeaders;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        StatsResponse wrapped = responseHeaders ? new StatsResponse(response, stats) : null;
+        try {
+            filterChain.doFilter(request, wrapped != null ? wrapped : response);
+            if (wrapped != null && !response.isCommitted()) wrapped.apply();
+        } finally {
+            SqlStatementStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "none";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.sql.statements")
+            .description("SQL statements run per HTTP request")
+            .tags("method", method, "uri", uri)
+            .register(meterRegistry)
+            .record(stats.statements());
+        Timer.builder("http.server.sql.time")
+            .description("Time spent executing JDBC statements per HTTP request")
+            .tags("method", method, "uri", uri)
+            .register(meterRegistry)
+            .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        stats.repeatedShapes(repeatedStatementThreshold).forEach((shape, count) -> {
+            String key = method + " " + uri + " " + shape;
+            if (reportedShapes.size() < MAX_REPORTED_SHAPES && reportedShapes.add(key)) {
+                log.warn("Possible N+1 on {} {}: the same statement ran {} times in one request: {}",
+                    method, uri, count, shape);
+            }
+        });
+    }
+
+    private static final class StatsResponse extends HttpServletResponseWrapper {
+        private final SqlStatementStats stats;
+        private boolean applied;
+
+        StatsResponse(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void apply() {
+            if (applied) return;
+            applied = true;
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            response.setHeader(STATEMENTS_HEADER, Integer.toString(stats.statements()));
+            response.setHeader(TIME_HEADER, String.format("%.3f", stats.jdbcNanos() / 1_000_000.0));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            apply();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            apply();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            apply();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            apply();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            apply();
+            super.sendError(sc, msg);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package is.hi.hbv501gteam23.Config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+
+/**
+ * Counts every statement Hibernate prepares towards the current request's {@link SqlStatementStats}.
+ * <p>
+ * Registers itself as Hibernate's statement inspector, together with
+ * {@link SqlTimingEventListener} for the JDBC time. The SQL is passed through unchanged.
+ */
+@Component
+@ConditionalOnProperty(name = "sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+        hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingEventListener.class.getName());
+    }
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) stats.statementPrepared(sql);
+        return sql;
+    }
+}
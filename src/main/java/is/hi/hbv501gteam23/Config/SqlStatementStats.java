@@ -0,0 +1,91 @@
+package is.hi.hbv501gteam23.Config;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements run by the current request, collected by {@link SqlStatementInspector}
+ * and {@link SqlTimingEventListener} and reported by {@link SqlStatementFilter}.
+ * <p>
+ * Bound to the request thread like {@code AuditContext}, so statements run by background
+ * work or by streaming responses after the controller returned are not counted.
+ */
+public final class SqlStatementStats {
+    private static final ThreadLocal<SqlStatementStats> current = new ThreadLocal<>();
+
+    // IN-list padding and literal values make the same query look different, fold them away
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> executionsByShape = new HashMap<>();
+    private int statements;
+    private long jdbcNanos;
+
+    private SqlStatementStats() {}
+
+    /**
+     * Starts collecting for the current thread.
+     *
+     * @return the new, empty stats
+     */
+    static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        current.set(stats);
+        return stats;
+    }
+
+    /**
+     * @return the stats of the current request, or {@code null} outside a request
+     */
+    static SqlStatementStats current() {
+        return current.get();
+    }
+
+    static void end() {
+        current.remove();
+    }
+
+    void statementPrepared(String sql) {
+        statements++;
+        executionsByShape.merge(shapeOf(sql), 1, Integer::sum);
+    }
+
+    void jdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * @param threshold the highest number of executions that is not reported
+     * @return statement shapes run more than {@code threshold} times, with their execution counts
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executionsByShape.forEach((shape, count) -> {
+            if (count > threshold) repeated.put(shape, count);
+        });
+        return repeated;
+    }
+
+    /**
+     * Reduces a statement to its shape: parameters and literals become {@code ?} and
+     * IN-lists of any length become {@code (?...)}.
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,37 @@
+package is.hi.hbv501gteam23.Config;
+
+import org.hibernate.engine.spi.BaseSessionEventListener;
+
+/**
+ * Adds the time spent executing JDBC statements and batches to the current request's
+ * {@link SqlStatementStats}. Hibernate creates one instance per session.
+ */
+public class SqlTimingEventListener extends BaseSessionEventListener {
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null && start != 0) stats.jdbcTime(System.nanoTime() - start);
+    }
+}
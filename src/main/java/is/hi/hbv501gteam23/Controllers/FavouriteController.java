@@ -6,6 +6,7 @@ import is.hi.hbv501gteam23.Persistence.Entities.Favorite;
 import is.hi.hbv501gteam23.Persistence.Repositories.AuthRepository;
 import is.hi.hbv501gteam23.Persistence.dto.FavoriteDto;
 import is.hi.hbv501gteam23.Persistence.enums.FavoriteType;
+import is.hi.hbv501gteam23.Security.CustomUserDetails;
 import is.hi.hbv501gteam23.Services.Interfaces.FavoriteService;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -42,6 +43,9 @@ public class FavouriteController {
         if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
             throw new IllegalStateException("Not authenticated");
         }
+        if (auth.getPrincipal() instanceof CustomUserDetails user && user.getId() != null) {
+            return user.getId();
+        }
         String email = auth.getName();
         return authRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalStateException("User not found: " + email))
@@ -1,16 +1,29 @@
 package is.hi.hbv501gteam23.Controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.dto.CursorPage;
+import is.hi.hbv501gteam23.Persistence.dto.ImportDto;
 import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
 import is.hi.hbv501gteam23.Persistence.dto.MatchDto.MatchResponse;
+import is.hi.hbv501gteam23.Persistence.enums.ImportFormat;
+import is.hi.hbv501gteam23.Services.Interfaces.BulkImportService;
+import is.hi.hbv501gteam23.Services.Interfaces.LiveScoreService;
 import is.hi.hbv501gteam23.Services.Interfaces.MatchService;
+import is.hi.hbv501gteam23.Utils.ExportWriter;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -24,6 +37,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MatchController {
     private final MatchService matchService;
+    private final ObjectMapper objectMapper;
+    private final BulkImportService bulkImportService;
+    private final LiveScoreService liveScoreService;
 
     /**
      * Retrieves a list of matches filtered by the given optional criteria.
@@ -40,10 +56,49 @@ public class MatchController {
     public List<MatchResponse> listMatches(
         @ParameterObject @ModelAttribute MatchDto.MatchFilter filter
     ) {
-        List<Match> matches = matchService.findMatchFilter(filter);
-        return matches.stream()
-                      .map(this::toResponse)
-                      .toList();
+        return matchService.findMatchFilter(filter);
+    }
+
+    /**
+     * Retrieves one page of matches using keyset (cursor) pagination.
+     * <p>
+     * Accepts the same filter and sort parameters as {@link #listMatches}. The response
+     * carries a {@code nextCursor} that is passed back to fetch the following page;
+     * it is {@code null} on the last page.
+     *
+     * @param filter filter parameters for listing matches
+     * @param cursor cursor returned with the previous page, omitted for the first page
+     * @param limit  maximum number of matches on the page (defaults to 50, at most 200)
+     * @return a {@link CursorPage} of {@link MatchDto.MatchResponse}
+     */
+    @GetMapping("/page")
+    @Operation(summary = "List matches page by page")
+    public CursorPage<MatchResponse> listMatchPage(
+        @ParameterObject @ModelAttribute MatchDto.MatchFilter filter,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return matchService.findMatchPage(filter, cursor, limit);
+    }
+
+    /**
+     * Exports every match matching the filters as NDJSON or CSV.
+     * <p>
+     * Accepts the same filter and sort parameters as {@link #listMatches}. Rows are streamed
+     * straight from the database to the client, so the export size is not bounded by memory.
+     *
+     * @param filter filter parameters for listing matches
+     * @param format {@code ndjson} (default) or {@code csv}
+     * @return a streaming response with the matches as an attachment
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export matches", description = "Streams all matching matches as NDJSON or CSV.")
+    public ResponseEntity<StreamingResponseBody> exportMatches(
+        @ParameterObject @ModelAttribute MatchDto.MatchFilter filter,
+        @RequestParam(required = false) String format
+    ) {
+        return ExportWriter.response("matches", ExportWriter.parseFormat(format), MatchResponse.class, objectMapper,
+            sink -> matchService.exportMatches(filter, sink));
     }
 
     /**
@@ -58,6 +113,33 @@ public class MatchController {
         return toResponse(matchService.getMatchById(id));
     }
 
+    /**
+     * Streams the score of a match as server-sent events.
+     * <p>
+     * The first {@code score} event carries the current score and each change follows as
+     * another one, so clients do not have to poll {@link #getMatchById}.
+     *
+     * @param id the id of the match
+     * @return an event stream of {@link MatchDto.LiveScore}
+     */
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow the score of a match", description = "Server-sent events with the current score and every change.")
+    public SseEmitter followMatch(@PathVariable Long id) {
+        return liveScoreService.subscribe(List.of(id));
+    }
+
+    /**
+     * Streams the scores of several matches as server-sent events on one connection.
+     *
+     * @param ids the ids of the matches, f.x. {@code ?ids=1,2,3}
+     * @return an event stream of {@link MatchDto.LiveScore}
+     */
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow the scores of several matches", description = "Server-sent events with the current scores and every change.")
+    public SseEmitter followMatches(@RequestParam List<Long> ids) {
+        return liveScoreService.subscribe(ids);
+    }
+
     /**
      * Creates a new match.
      *
@@ -74,6 +156,26 @@ public class MatchController {
         return ResponseEntity.created(URI.create("/matches" + createdMatch.getId())).body(toResponse(createdMatch));
     }
 
+    /**
+     * Imports matches in bulk from a JSON array, newline delimited JSON or CSV upload.
+     * <p>
+     * Each row has the same fields as {@link MatchDto.CreateMatchRequest}. Valid rows are imported and
+     * invalid rows are skipped and listed in the report.
+     *
+     * @param contentType the upload content type, used to pick the format
+     * @param body        the upload
+     * @return an {@link ImportDto.ImportReport} with the imported count and per-row errors
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import matches")
+    public ImportDto.ImportReport importMatches(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body
+    ) throws IOException {
+        return bulkImportService.importMatches(body, ImportFormat.fromContentType(contentType));
+    }
+
     /**
      * Partially updates an existing match.
      *
@@ -109,7 +211,7 @@ public class MatchController {
      * @param m match entity to map
      * @return mapped {@link MatchDto.MatchResponse}
      */
-    private MatchDto.MatchResponse toResponse(Match m) {
+    static MatchDto.MatchResponse toResponse(Match m) {
         return new MatchDto.MatchResponse(
                 m.getId(),
                 m.getMatchDate(),
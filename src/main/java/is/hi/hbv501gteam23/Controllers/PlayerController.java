@@ -1,23 +1,33 @@
 package is.hi.hbv501gteam23.Controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import is.hi.hbv501gteam23.Persistence.Entities.Player;
+import is.hi.hbv501gteam23.Persistence.dto.ImportDto;
 import is.hi.hbv501gteam23.Persistence.dto.PlayerDto;
 import is.hi.hbv501gteam23.Persistence.dto.PlayerDto.PlayerResponse;
+import is.hi.hbv501gteam23.Persistence.enums.ImportFormat;
+import is.hi.hbv501gteam23.Services.Interfaces.BulkImportService;
 import is.hi.hbv501gteam23.Services.Interfaces.MetadataService;
 import is.hi.hbv501gteam23.Services.Interfaces.PlayerService;
+import is.hi.hbv501gteam23.Utils.ExportWriter;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * REST controller that exposes read/write operations for {@link Player} resources.
@@ -30,6 +40,8 @@ import java.util.stream.Collectors;
 public class PlayerController {
     private final PlayerService playerService;
     private final MetadataService metadataService;
+    private final ObjectMapper objectMapper;
+    private final BulkImportService bulkImportService;
 
     /**
      * Lists players using optional filters, with sorting and pagination.
@@ -52,8 +64,7 @@ public class PlayerController {
     ) {
         String country = filter != null ? filter.country() : null;
         if (country != null) {
-            boolean validCountry = metadataService.getAllCountries().stream()
-                .anyMatch(c -> c.value().equalsIgnoreCase(country));
+            boolean validCountry = metadataService.isKnownCountry(country);
             if (!validCountry) {
                 return ResponseEntity
                     .badRequest()
@@ -61,13 +72,33 @@ public class PlayerController {
             }
         }
 
-        List<Player> players = playerService.findPlayers(filter);
+        return ResponseEntity.ok(playerService.findPlayers(filter));
+    }
 
-        List<PlayerDto.PlayerResponse> response = players.stream()
-            .map(this::toResponse)
-            .collect(Collectors.toList());
+    /**
+     * Exports every player matching the filters as NDJSON or CSV.
+     * <p>
+     * Accepts the same filter and sort parameters as {@link #listPlayers}. Rows are streamed
+     * straight from the database to the client, so the export size is not bounded by memory.
+     *
+     * @param filter optional filter parameters
+     * @param format {@code ndjson} (default) or {@code csv}
+     * @return a streaming response with the players as an attachment
+     * @throws ResponseStatusException with status 400 if the country or format is invalid
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export players", description = "Streams all matching players as NDJSON or CSV.")
+    public ResponseEntity<StreamingResponseBody> exportPlayers(
+            @ParameterObject @ModelAttribute PlayerDto.PlayerFilter filter,
+            @RequestParam(required = false) String format
+    ) {
+        String country = filter != null ? filter.country() : null;
+        if (country != null && !metadataService.isKnownCountry(country)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Country " + country + " not found");
+        }
 
-        return ResponseEntity.ok(response);
+        return ExportWriter.response("players", ExportWriter.parseFormat(format), PlayerResponse.class, objectMapper,
+            sink -> playerService.exportPlayers(filter, sink));
     }
 
     /**
@@ -98,6 +129,26 @@ public class PlayerController {
         return ResponseEntity.created(URI.create("/players/" + created.getId())).body(toResponse(created));
     }
 
+    /**
+     * Imports players in bulk from a JSON array, newline delimited JSON or CSV upload.
+     * <p>
+     * Each row has the same fields as {@link PlayerDto.CreatePlayerRequest}. Valid rows are imported and
+     * invalid rows are skipped and listed in the report.
+     *
+     * @param contentType the upload content type, used to pick the format
+     * @param body        the upload
+     * @return an {@link ImportDto.ImportReport} with the imported count and per-row errors
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import players")
+    public ImportDto.ImportReport importPlayers(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body
+    ) throws IOException {
+        return bulkImportService.importPlayers(body, ImportFormat.fromContentType(contentType));
+    }
+
     /**
      * Partially updates an existing player. Admin only.
      *
@@ -119,7 +170,7 @@ public class PlayerController {
      * @param p player entity to map
      * @return mapped {@link PlayerResponse}
      */
-    private PlayerResponse toResponse(Player p) {
+    static PlayerResponse toResponse(Player p) {
         return new PlayerResponse(
                 p.getId(),
                 p.getName(),
@@ -11,6 +11,8 @@ import is.hi.hbv501gteam23.Services.Interfaces.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.*;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -102,26 +104,49 @@ public class ProfileController {
 
     /**
      * Retrieves the authenticated user's profile picture.
+     * <p>
+     * The image is streamed from the avatar store rather than loaded into memory. When a
+     * {@code size} is given, the smallest precomputed square variant of at least that many
+     * pixels is served; the original is served while the variant is still being generated or
+     * if the size exceeds every variant. The content hash is sent as the {@code ETag}, so
+     * clients revalidating with {@code If-None-Match} get 304 (Not Modified) without a body.
      *
      * @param userDetails the authenticated user's details injected by Spring Security
-     * @return {@link ResponseEntity} with status 200 (OK) containing the image bytes in the body
-     * and a {@code Content-Type} header matching the stored image type,
+     * @param size optional edge length in pixels the client will draw the image at
+     * @return {@link ResponseEntity} with status 200 (OK) streaming the image
+     * and a {@code Content-Type} header matching the served image type,
      * or 404 (Not Found) if no profile image exists for the user
      */
     @GetMapping("/avatar")
     @Operation(summary = "Get profile picture", description = "Retrieves the logged-in user's profile picture")
-    public ResponseEntity<byte[]> getAvatar(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<Resource> getAvatar(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) Integer size
+    ) {
+        if (size != null && size <= 0) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Size must be positive");
+
         User user = getAuthenticatedUser(userDetails);
-        if (user.getProfileImage() == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No profile image found");
+        String contentHash = user.getProfileImage() != null ? user.getProfileImage().getContentHash() : null;
 
-        byte[] imageBytes = user.getProfileImage().getImageData();
-        String contentType = user.getProfileImage().getImageType();
+        Resource image = size != null ? userService.getImageVariant(user, size) : null;
+        MediaType contentType;
+        String eTag;
+        if (image != null) {
+            contentType = MediaTypeFactory.getMediaType(image).orElse(MediaType.IMAGE_JPEG);
+            eTag = contentHash + "-" + size;
+        } else {
+            image = userService.getImage(user);
+            if (image == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No profile image found");
+            contentType = MediaType.parseMediaType(userService.getImageType(user));
+            eTag = contentHash;
+        }
 
-        return ResponseEntity.ok()
-            .contentType(MediaType.parseMediaType(contentType))
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(contentType)
             .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePrivate())
-            .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"avatar_" + user.getId() + "\"")
-            .body(imageBytes);
+            .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"avatar_" + user.getId() + "\"");
+        if (eTag != null) response.eTag(eTag);
+        return response.body(image);
     }
 
     /**
@@ -159,7 +184,7 @@ public class ProfileController {
 
     private User getAuthenticatedUser(CustomUserDetails userDetails) {
         if (userDetails == null) throw new EntityNotFoundException("User not authenticated");
-        return userService.findByEmail(userDetails.getUsername())
+        return userService.findByEmailWithProfileImage(userDetails.getUsername())
             .filter(User::isActive)
             .orElseThrow(() -> new EntityNotFoundException("User not found or inactive"));
     }
@@ -0,0 +1,39 @@
+package is.hi.hbv501gteam23.Controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import is.hi.hbv501gteam23.Config.SlowQueryLog;
+import is.hi.hbv501gteam23.Persistence.dto.SlowQueryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * REST controller that exposes the execution plans captured by {@link SlowQueryLog}.
+ * <p>
+ * Restricted to administrators. Base path is /admin/slow-queries
+ */
+@Tag(name = "Slow queries", description = "Restricted to admin only")
+@RestController
+@RequestMapping("/admin/slow-queries")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@ConditionalOnProperty(name = "slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryController {
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * Lists the most recently captured plans of slow statements.
+     *
+     * @return list of {@link SlowQueryDto.SlowQueryPlanResponse}, newest first
+     */
+    @GetMapping
+    @Operation(summary = "Plans of slow queries", description = "EXPLAIN (ANALYZE, BUFFERS) output for a sample of slow statements. Admin only.")
+    public List<SlowQueryDto.SlowQueryPlanResponse> listPlans() {
+        return slowQueryLog.recentPlans();
+    }
+}
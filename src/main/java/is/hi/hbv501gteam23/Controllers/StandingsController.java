@@ -0,0 +1,38 @@
+package is.hi.hbv501gteam23.Controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import is.hi.hbv501gteam23.Persistence.dto.StandingDto;
+import is.hi.hbv501gteam23.Services.Interfaces.StandingsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * REST controller that exposes the league table.
+ * <p>
+ * Base path is /standings.
+ */
+@Tag(name = "Standings")
+@RestController
+@RequestMapping("/standings")
+@RequiredArgsConstructor
+public class StandingsController {
+    private final StandingsService standingsService;
+
+    /**
+     * Retrieves the league table.
+     * <p>
+     * Teams are ranked by points, then goal difference, then goals scored. Only teams that
+     * have played at least one match are listed.
+     *
+     * @return list of {@link StandingDto.StandingResponse}, best team first
+     */
+    @GetMapping
+    @Operation(summary = "Get standings", description = "Returns the league table computed from all matches.")
+    public List<StandingDto.StandingResponse> getStandings() {
+        return standingsService.getStandings();
+    }
+}
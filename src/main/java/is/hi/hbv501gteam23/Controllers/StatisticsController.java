@@ -0,0 +1,83 @@
+package is.hi.hbv501gteam23.Controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import is.hi.hbv501gteam23.Persistence.dto.StatisticsDto;
+import is.hi.hbv501gteam23.Services.Interfaces.StatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+/**
+ * REST controller that exposes aggregated team and player statistics.
+ * <p>
+ * Base path is /statistics. The figures are read from periodically refreshed materialized
+ * views, so they may lag behind the latest writes by up to {@code statistics.refresh-interval}.
+ */
+@Tag(name = "Statistics")
+@RestController
+@RequestMapping("/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+    private final StatisticsService statisticsService;
+
+    /**
+     * Retrieves match totals for every team.
+     *
+     * @return list of {@link StatisticsDto.TeamStatisticsResponse} ordered by team name
+     */
+    @GetMapping("/teams")
+    @Operation(summary = "Team statistics", description = "Goals, results and clean sheets per team.")
+    public List<StatisticsDto.TeamStatisticsResponse> getTeamStatistics() {
+        return statisticsService.getTeamStatistics();
+    }
+
+    /**
+     * Retrieves match totals for a single team.
+     *
+     * @param id the id of the team
+     * @return the team's {@link StatisticsDto.TeamStatisticsResponse}
+     */
+    @GetMapping("/teams/{id}")
+    @Operation(summary = "Statistics of a team")
+    public StatisticsDto.TeamStatisticsResponse getTeamStatistics(@PathVariable Long id) {
+        return statisticsService.getTeamStatistics(id);
+    }
+
+    /**
+     * Retrieves player totals grouped by country.
+     *
+     * @return list of {@link StatisticsDto.PlayerStatisticsResponse} ordered by country name
+     */
+    @GetMapping("/players/countries")
+    @Operation(summary = "Player statistics by country")
+    public List<StatisticsDto.PlayerStatisticsResponse> getPlayerStatisticsByCountry() {
+        return statisticsService.getPlayerStatisticsByCountry();
+    }
+
+    /**
+     * Retrieves player totals grouped by position.
+     *
+     * @return list of {@link StatisticsDto.PlayerStatisticsResponse}, one per position
+     */
+    @GetMapping("/players/positions")
+    @Operation(summary = "Player statistics by position")
+    public List<StatisticsDto.PlayerStatisticsResponse> getPlayerStatisticsByPosition() {
+        return statisticsService.getPlayerStatisticsByPosition();
+    }
+
+    /**
+     * Rebuilds the statistics immediately instead of waiting for the next scheduled refresh.
+     *
+     * @return 204 No Content once every view has been refreshed
+     */
+    @PostMapping("/refresh")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Refresh statistics")
+    public ResponseEntity<Void> refresh() {
+        statisticsService.refresh();
+        return ResponseEntity.noContent().build();
+    }
+}
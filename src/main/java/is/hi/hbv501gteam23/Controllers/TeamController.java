@@ -1,17 +1,29 @@
 package is.hi.hbv501gteam23.Controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.dto.ImportDto;
 import is.hi.hbv501gteam23.Persistence.dto.TeamDto;
 import is.hi.hbv501gteam23.Persistence.dto.TeamDto.TeamResponse;
+import is.hi.hbv501gteam23.Persistence.enums.ImportFormat;
+import is.hi.hbv501gteam23.Services.Interfaces.BulkImportService;
 import is.hi.hbv501gteam23.Services.Interfaces.MetadataService;
 import is.hi.hbv501gteam23.Services.Interfaces.TeamService;
+import is.hi.hbv501gteam23.Utils.ExportWriter;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Collections;
 import java.util.List;
@@ -25,8 +37,12 @@ import java.util.List;
 @RequestMapping("/teams")
 @RequiredArgsConstructor
 public class TeamController {
+    private static final String NO_VENUE_NAME = "Enginn heimavöllur";
+
     private final TeamService teamService;
     private final MetadataService metadataService;
+    private final ObjectMapper objectMapper;
+    private final BulkImportService bulkImportService;
 
     /**
      * Retrieves a list of teams filtered by the given optional criteria.
@@ -45,22 +61,46 @@ public class TeamController {
             @ParameterObject @ModelAttribute TeamDto.TeamFilter filter
     ) {
         if (filter != null && filter.country() != null) {
-            boolean validCountry = metadataService.getAllCountries().stream()
-                    .anyMatch(c -> c.value().equalsIgnoreCase(filter.country()));
+            boolean validCountry = metadataService.isKnownCountry(filter.country());
             if (!validCountry) {
                 return ResponseEntity
                         .badRequest()
                         .body(Collections.emptyList());
             }
         }
-        List<Team> teams=teamService.listTeams(filter);
-        List<TeamDto.TeamResponse> response = teams.stream()
-                .map(this::toResponse)
+        List<TeamDto.TeamResponse> response = teamService.listTeams(filter).stream()
+                .map(TeamController::withDefaultVenueName)
                 .toList();
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Exports every team matching the filters as NDJSON or CSV.
+     * <p>
+     * Accepts the same filter and sort parameters as {@link #listTeams}. Rows are streamed
+     * straight from the database to the client, so the export size is not bounded by memory.
+     *
+     * @param filter filter for filtering and sorting params
+     * @param format {@code ndjson} (default) or {@code csv}
+     * @return a streaming response with the teams as an attachment
+     * @throws ResponseStatusException with status 400 if the country or format is invalid
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export teams", description = "Streams all matching teams as NDJSON or CSV.")
+    public ResponseEntity<StreamingResponseBody> exportTeams(
+            @ParameterObject @ModelAttribute TeamDto.TeamFilter filter,
+            @RequestParam(required = false) String format
+    ) {
+        String country = filter != null ? filter.country() : null;
+        if (country != null && !metadataService.isKnownCountry(country)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Country " + country + " not found");
+        }
+
+        return ExportWriter.response("teams", ExportWriter.parseFormat(format), TeamResponse.class, objectMapper,
+            sink -> teamService.exportTeams(filter, row -> sink.accept(withDefaultVenueName(row))));
+    }
+
     /**
      * Retrieves a {@link Team} entity by its id
      * @param id the id of the team to be retrieved
@@ -83,7 +123,7 @@ public class TeamController {
     public List<TeamResponse> getByVenueId(@PathVariable("venueId") Long venueId) {
         return teamService.findByVenueId(venueId)
                 .stream()
-                .map(this::toResponse)
+                .map(TeamController::toResponse)
                 .toList();
     }
 
@@ -103,6 +143,26 @@ public class TeamController {
         return ResponseEntity.created(URI.create("/teams" + created.getId())).body(toResponse(created));
     }
 
+    /**
+     * Imports teams in bulk from a JSON array, newline delimited JSON or CSV upload.
+     * <p>
+     * Each row has the same fields as {@link TeamDto.CreateTeamRequest}. Valid rows are imported and
+     * invalid rows are skipped and listed in the report.
+     *
+     * @param contentType the upload content type, used to pick the format
+     * @param body        the upload
+     * @return an {@link ImportDto.ImportReport} with the imported count and per-row errors
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import teams")
+    public ImportDto.ImportReport importTeams(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body
+    ) throws IOException {
+        return bulkImportService.importTeams(body, ImportFormat.fromContentType(contentType));
+    }
+
     /**
      * Updates an existing team. Team can be marked as inactive with isActive = false.
      * @param id the id of the team to update
@@ -128,12 +188,10 @@ public class TeamController {
      * @param t the team entity to map
      * @return the mapped {@link TeamDto.TeamResponse}
      */
-    private TeamDto.TeamResponse toResponse(Team t) {
+    static TeamDto.TeamResponse toResponse(Team t) {
         var v = t.getVenue();
         Long venueId   = (v != null) ? v.getId() : null;
-        String venueName = (v != null && v.getName() != null && !v.getName().isBlank())
-                ? v.getName()
-                : "Enginn heimavöllur";
+        String venueName = venueNameOrDefault(v != null ? v.getName() : null);
         return new TeamDto.TeamResponse(
                 t.getId(),
                 t.getName(),
@@ -143,4 +201,28 @@ public class TeamController {
                 venueName
         );
     }
+
+    /**
+     * Applies the venue name default to a team row read straight from the database.
+     *
+     * @param row the projected team row
+     * @return the row with {@code "Enginn heimavöllur"} as venue name if the team has no named venue
+     */
+    private static TeamDto.TeamResponse withDefaultVenueName(TeamDto.TeamResponse row) {
+        return new TeamDto.TeamResponse(
+                row.id(),
+                row.name(),
+                row.isActive(),
+                row.country(),
+                row.venueId(),
+                venueNameOrDefault(row.venueName())
+        );
+    }
+
+    /**
+     * Returns the venue name, or {@code "Enginn heimavöllur"} if the team has no named venue.
+     */
+    private static String venueNameOrDefault(String venueName) {
+        return (venueName != null && !venueName.isBlank()) ? venueName : NO_VENUE_NAME;
+    }
 }
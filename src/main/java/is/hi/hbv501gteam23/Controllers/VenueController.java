@@ -1,19 +1,24 @@
 package is.hi.hbv501gteam23.Controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import is.hi.hbv501gteam23.Persistence.Entities.Venue;
 import is.hi.hbv501gteam23.Persistence.dto.VenueDto;
 import is.hi.hbv501gteam23.Services.Interfaces.VenueService;
+import is.hi.hbv501gteam23.Utils.ExportWriter;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.server.ResponseStatusException;
 import java.net.URI;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,6 +33,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class VenueController {
     private final VenueService venueService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Lists venues using optional filters, with sorting.
@@ -44,11 +50,31 @@ public class VenueController {
     ) {
         List<Venue> venues = venueService.listVenues(filter);
         List<VenueDto.VenueResponse> response = venues.stream()
-                .map(this::toResponse)
+                .map(VenueController::toResponse)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Exports every venue matching the filters as NDJSON or CSV.
+     * <p>
+     * Accepts the same filter and sort parameters as {@link #listVenues}. Rows are streamed
+     * straight from the database to the client, so the export size is not bounded by memory.
+     *
+     * @param filter filter and sort parameters bound from query parameters
+     * @param format {@code ndjson} (default) or {@code csv}
+     * @return a streaming response with the venues as an attachment
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export venues", description = "Streams all matching venues as NDJSON or CSV.")
+    public ResponseEntity<StreamingResponseBody> exportVenues(
+        @ParameterObject @ModelAttribute VenueDto.VenueFilter filter,
+        @RequestParam(required = false) String format
+    ) {
+        return ExportWriter.response("venues", ExportWriter.parseFormat(format), VenueDto.VenueResponse.class, objectMapper,
+            sink -> venueService.exportVenues(filter, sink));
+    }
+
     /**
      * Retrieves a {@link Venue} entity by id
      * @param id id of the venue to be retrieved
@@ -62,6 +88,24 @@ public class VenueController {
         return toResponse(venueService.findById(id));
     }
 
+    /**
+     * Lists when a venue is booked and when another match fits, within a time window.
+     *
+     * @param id   id of the venue
+     * @param from start of the window (ISO-8601), defaults to now
+     * @param to   end of the window (ISO-8601), defaults to seven days after {@code from}
+     * @return the venue's {@link VenueDto.AvailabilityResponse}
+     */
+    @GetMapping("/{id}/availability")
+    @Operation(summary = "Venue availability", description = "Booked match slots and free windows of a venue. The window defaults to the next seven days and can be at most a year.")
+    public VenueDto.AvailabilityResponse getAvailability(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to
+    ) {
+        return venueService.getAvailability(id, from, to);
+    }
+
     /**
      * Creates a new venue.
      * Only admin is allowed
@@ -123,7 +167,7 @@ public class VenueController {
      * @param v the venue entity to map
      * @return the mapped {@link VenueDto.VenueResponse}
      */
-    private VenueDto.VenueResponse toResponse(Venue v) {
+    static VenueDto.VenueResponse toResponse(Venue v) {
         return new VenueDto.VenueResponse(
                 v.getId(),
                 v.getName(),
@@ -1,7 +1,10 @@
 package is.hi.hbv501gteam23.Persistence.Entities;
 
+import is.hi.hbv501gteam23.Config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -9,6 +12,8 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.COUNTRIES)
 @Table(name = "countries")
 public class Country {
 
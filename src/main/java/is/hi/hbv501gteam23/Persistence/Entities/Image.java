@@ -22,9 +22,22 @@ public class Image {
     @Column(name = "image_type", nullable = false)
     private String imageType;
 
-    @Column(name = "image_data", nullable = false)
+    /**
+     * Raw image bytes of avatars stored before the blob store was introduced.
+     * {@code null} once the image has been moved to the blob store.
+     */
+    @Column(name = "image_data")
     private byte[] imageData;
 
+    /**
+     * SHA-256 hash (hex) of the image content, the key of the image in the blob store.
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "content_length")
+    private Long contentLength;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
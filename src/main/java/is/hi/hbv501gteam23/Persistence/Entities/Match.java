@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 
@@ -14,10 +15,23 @@ import java.time.OffsetDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@NamedEntityGraph(name = Match.DETAIL, attributeNodes = {
+    @NamedAttributeNode("homeTeam"),
+    @NamedAttributeNode("awayTeam"),
+    @NamedAttributeNode("venue")
+})
 @Table(name = "matches")
 public class Match {
+    /** Loads both teams and the venue, whose names the detail view shows. */
+    public static final String DETAIL = "Match.detail";
+    /**
+     * How long a match occupies its venue from kick-off. Slots at the same venue may not
+     * overlap; the length must equal {@code match_slot()} in the database.
+     */
+    public static final Duration VENUE_SLOT = Duration.ofHours(3);
+
     @Id
-    @SequenceGenerator(name = "match_sequence", sequenceName = "match_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "match_sequence", sequenceName = "match_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_sequence")
     @Column(name = "match_id")
     private Long id;
@@ -26,15 +40,15 @@ public class Match {
     @Column(name = "match_date", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
     private OffsetDateTime matchDate;
 
-    @ManyToOne(fetch = FetchType.EAGER,  optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "home_team_id", nullable = false)
     private Team homeTeam;
 
-    @ManyToOne(fetch = FetchType.EAGER,   optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "away_team_id", nullable = false)
     private Team awayTeam;
 
-    @ManyToOne(fetch = FetchType.EAGER,   optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "venue_id", nullable = false)
     private Venue venue;
 
@@ -46,6 +60,14 @@ public class Match {
     @Column(name = "away_goals", nullable = false)
     private Integer awayGoals = 0;
 
+    /**
+     * Set on matches that already overlapped another match at their venue when the venue slot
+     * constraint was added. They are left out of the constraint until they are moved.
+     */
+    @Builder.Default
+    @Column(name = "overlap_exempt", nullable = false)
+    private boolean overlapExempt = false;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
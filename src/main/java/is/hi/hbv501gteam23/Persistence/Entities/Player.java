@@ -15,10 +15,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@NamedEntityGraph(name = Player.DETAIL, attributeNodes = @NamedAttributeNode("team"))
 @Table(name = "players")
 public class Player {
+    /** Loads the team, whose name the detail view shows. The country is only shown by code. */
+    public static final String DETAIL = "Player.detail";
+
     @Id
-    @SequenceGenerator(name = "player_sequence", sequenceName = "player_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "player_sequence", sequenceName = "player_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "player_sequence")
     @Column(name = "player_id")
     private Long id;
@@ -37,11 +41,11 @@ public class Player {
     @Column(name = "gender", columnDefinition = "gender_enum")
     private Gender gender;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "player_country", referencedColumnName = "code", nullable = false)
     private Country country;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     private Team team;
 
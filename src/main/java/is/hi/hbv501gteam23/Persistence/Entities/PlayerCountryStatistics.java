@@ -0,0 +1,35 @@
+package is.hi.hbv501gteam23.Persistence.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+
+/**
+ * Player totals per country, read from the {@code mv_player_country_statistics} materialized view.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "mv_player_country_statistics")
+public class PlayerCountryStatistics {
+    @Id
+    @Column(name = "country_code", length = 2)
+    private String countryCode;
+
+    @Column(name = "country_name")
+    private String countryName;
+
+    @Column(name = "players")
+    private long players;
+
+    @Column(name = "active_players")
+    private long activePlayers;
+
+    @Column(name = "goals")
+    private long goals;
+
+    @Column(name = "average_goals")
+    private BigDecimal averageGoals;
+}
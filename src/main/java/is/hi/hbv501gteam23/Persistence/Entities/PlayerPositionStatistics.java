@@ -0,0 +1,34 @@
+package is.hi.hbv501gteam23.Persistence.Entities;
+
+import is.hi.hbv501gteam23.Persistence.enums.PlayerPosition;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import java.math.BigDecimal;
+
+/**
+ * Player totals per position, read from the {@code mv_player_position_statistics} materialized view.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "mv_player_position_statistics")
+public class PlayerPositionStatistics {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "position")
+    private PlayerPosition position;
+
+    @Column(name = "players")
+    private long players;
+
+    @Column(name = "active_players")
+    private long activePlayers;
+
+    @Column(name = "goals")
+    private long goals;
+
+    @Column(name = "average_goals")
+    private BigDecimal averageGoals;
+}
@@ -1,7 +1,10 @@
 package is.hi.hbv501gteam23.Persistence.Entities;
 
+import is.hi.hbv501gteam23.Config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
@@ -12,10 +15,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@NamedEntityGraph(name = Team.DETAIL, attributeNodes = @NamedAttributeNode("venue"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TEAMS)
 @Table(name = "teams")
 public class Team {
+    /** Loads the venue, whose name the detail view shows. The country is only shown by code. */
+    public static final String DETAIL = "Team.detail";
+
     @Id
-    @SequenceGenerator(name = "team_sequence", sequenceName = "team_sequence",  allocationSize = 1)
+    @SequenceGenerator(name = "team_sequence", sequenceName = "team_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_sequence")
     @Column(name = "team_id")
     private Long id;
@@ -26,11 +35,11 @@ public class Team {
     @Column(name = "is_active", nullable = false)
     private boolean isActive = true;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_country", referencedColumnName = "code", nullable = false)
     private Country country;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "venue_id")
     private Venue venue;
 
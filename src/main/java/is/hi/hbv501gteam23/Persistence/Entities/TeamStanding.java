@@ -0,0 +1,60 @@
+package is.hi.hbv501gteam23.Persistence.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDateTime;
+
+/**
+ * A team's row in the league table.
+ * <p>
+ * Rows are only written through the delta statements in
+ * {@link is.hi.hbv501gteam23.Persistence.Repositories.TeamStandingRepository}, so the entity is
+ * mapped read-only.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "team_standings")
+@Immutable
+public class TeamStanding {
+    @Id
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", insertable = false, updatable = false)
+    private Team team;
+
+    @Column(name = "played", nullable = false)
+    private int played;
+
+    @Column(name = "won", nullable = false)
+    private int won;
+
+    @Column(name = "drawn", nullable = false)
+    private int drawn;
+
+    @Column(name = "lost", nullable = false)
+    private int lost;
+
+    @Column(name = "goals_for", nullable = false)
+    private int goalsFor;
+
+    @Column(name = "goals_against", nullable = false)
+    private int goalsAgainst;
+
+    @Column(name = "goal_difference", insertable = false, updatable = false)
+    private int goalDifference;
+
+    @Column(name = "points", nullable = false)
+    private int points;
+
+    @Column(name = "form", nullable = false, length = 5)
+    private String form;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,46 @@
+package is.hi.hbv501gteam23.Persistence.Entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Per-team match totals, read from the {@code mv_team_statistics} materialized view.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "mv_team_statistics")
+public class TeamStatistics {
+    @Id
+    @Column(name = "team_id")
+    private Long teamId;
+
+    @Column(name = "team_name")
+    private String teamName;
+
+    @Column(name = "played")
+    private long played;
+
+    @Column(name = "wins")
+    private long wins;
+
+    @Column(name = "draws")
+    private long draws;
+
+    @Column(name = "losses")
+    private long losses;
+
+    @Column(name = "goals_for")
+    private long goalsFor;
+
+    @Column(name = "goals_against")
+    private long goalsAgainst;
+
+    @Column(name = "clean_sheets")
+    private long cleanSheets;
+
+    @Column(name = "failed_to_score")
+    private long failedToScore;
+}
@@ -5,6 +5,8 @@ import is.hi.hbv501gteam23.Persistence.enums.Gender;
 import is.hi.hbv501gteam23.Persistence.enums.SystemRole;
 import jakarta.persistence.*;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import lombok.*;
 import org.hibernate.annotations.*;
@@ -18,10 +20,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@NamedEntityGraph(name = User.WITH_PROFILE_IMAGE, attributeNodes = @NamedAttributeNode("profileImage"))
 @Table(name = "users")
 @FilterDef(name = "activeUserFilter", parameters = @ParamDef(name = "isActive", type = Boolean.class))
 @Filter(name = "activeUserFilter", condition = "is_active = :isActive")
 public class User implements Serializable {
+    /** Loads the profile image metadata, needed to serve and replace the avatar. */
+    public static final String WITH_PROFILE_IMAGE = "User.withProfileImage";
+
     @Serial
     private static final long serialVersionUID = 1L;
 
@@ -54,7 +60,7 @@ public class User implements Serializable {
     @Column(name = "role", nullable = false, columnDefinition = "role_enum")
     private SystemRole role;
 
-    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JsonIgnore
     @JoinColumn(name = "profile_image_id")
     private Image profileImage;
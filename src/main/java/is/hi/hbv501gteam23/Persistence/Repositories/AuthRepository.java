@@ -1,10 +1,35 @@
 package is.hi.hbv501gteam23.Persistence.Repositories;
 
 import is.hi.hbv501gteam23.Persistence.Entities.User;
+import is.hi.hbv501gteam23.Persistence.dto.UserStatusView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 public interface AuthRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+    /**
+     * Retrieves a user by email without their profile image, as needed for authentication
+     * @param email the email of the user
+     * @return the user, or empty if none is found
+     */
     Optional<User> findByEmail(String email);
+
+    /**
+     * Retrieves a user by email together with their profile image, in a single query
+     * @param email the email of the user
+     * @return the user, or empty if none is found
+     */
+    @EntityGraph(User.WITH_PROFILE_IMAGE)
+    Optional<User> findWithProfileImageByEmail(String email);
+
+    /**
+     * Retrieves the email, role and active flag of a user without loading the entity
+     * @param id the id of the user
+     * @return the status of the user, or empty if the user does not exist
+     */
+    @Query("select u.id as id, u.email as email, u.role as role, u.isActive as active from User u where u.id = :id")
+    Optional<UserStatusView> findStatusById(@Param("id") Long id);
 }
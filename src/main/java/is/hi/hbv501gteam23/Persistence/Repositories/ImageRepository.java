@@ -0,0 +1,50 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Image;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * Repository for accessing and managing {@link Image} entities.
+ */
+@Repository
+public interface ImageRepository extends JpaRepository<Image, Long> {
+    /**
+     * Counts the images that reference a blob
+     * @param contentHash the hash of the blob
+     * @return number of images stored under the hash
+     */
+    long countByContentHash(String contentHash);
+
+    /**
+     * Retrieves ids of images whose bytes are still stored in the database, in id order
+     * @param afterId only ids greater than this are returned
+     * @param pageable limits the number of ids returned
+     * @return ids of images still to be moved to the blob store
+     */
+    @Query("select i.id from Image i where i.contentHash is null and i.imageData is not null and i.id > :afterId order by i.id")
+    List<Long> findUnmigratedIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves only the raw bytes of an image
+     * @param id the id of the image
+     * @return the bytes stored in the database, or {@code null} if none
+     */
+    @Query("select i.imageData from Image i where i.id = :id")
+    byte[] findImageDataById(@Param("id") Long id);
+
+    /**
+     * Points an image at its blob and drops the bytes from the database
+     * @param id the id of the image
+     * @param contentHash the hash of the blob
+     * @param contentLength the size of the blob in bytes
+     */
+    @Modifying
+    @Query("update Image i set i.contentHash = :contentHash, i.contentLength = :contentLength, i.imageData = null where i.id = :id")
+    void markMigrated(@Param("id") Long id, @Param("contentHash") String contentHash, @Param("contentLength") Long contentLength);
+}
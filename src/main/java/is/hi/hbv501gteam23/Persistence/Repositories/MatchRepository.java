@@ -1,13 +1,43 @@
 package is.hi.hbv501gteam23.Persistence.Repositories;
 
 import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.dto.NameView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for accessing and managing {@link Match} entities.
+ * <p>
+ * Associations are lazy. Methods that return entities for the detail view name the
+ * {@link Match#DETAIL} entity graph; every other method, including {@code findById}
+ * used for write validation, loads the match row only.
  */
 @Repository
-public interface MatchRepository extends JpaRepository<Match, Long> , JpaSpecificationExecutor<Match> {
+public interface MatchRepository extends JpaRepository<Match, Long> , JpaSpecificationExecutor<Match>, MatchRepositoryCustom {
+    /**
+     * Retrieves a match together with both teams and the venue, in a single query
+     * @param id the id of the match
+     * @return the match, or empty if it does not exist
+     */
+    @EntityGraph(Match.DETAIL)
+    Optional<Match> findDetailById(Long id);
+
+    /**
+     * Retrieves the id and a "home vs away" label of every match in {@code ids} in a single query
+     * @param ids the ids of the matches
+     * @return id and label of the matches found
+     */
+    @Query("""
+        select m.id as id, concat(h.name, ' vs ', a.name) as name
+        from Match m join m.homeTeam h join m.awayTeam a
+        where m.id in :ids
+        """)
+    List<NameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
 }
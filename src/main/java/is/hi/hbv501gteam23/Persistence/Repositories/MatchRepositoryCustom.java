@@ -0,0 +1,66 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
+import is.hi.hbv501gteam23.Persistence.dto.VenueDto;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Projection queries for {@link Match} that bypass entity hydration.
+ */
+public interface MatchRepositoryCustom {
+    /**
+     * Finds matches as {@link MatchDto.MatchResponse} rows in a single statement, without loading entities.
+     *
+     * @param spec filter to apply, may be {@code null}
+     * @param sort sort order
+     * @return the matching rows
+     */
+    List<MatchDto.MatchResponse> findResponses(Specification<Match> spec, Sort sort);
+
+    /**
+     * Finds at most {@code limit} matches as {@link MatchDto.MatchResponse} rows in a single statement.
+     *
+     * @param spec  filter to apply, may be {@code null}
+     * @param sort  sort order
+     * @param limit maximum number of rows to return
+     * @return the matching rows
+     */
+    List<MatchDto.MatchResponse> findResponses(Specification<Match> spec, Sort sort, int limit);
+
+    /**
+     * Streams matches as {@link MatchDto.MatchResponse} rows through a forward-only cursor.
+     * Must be called inside a transaction and the stream closed after use.
+     *
+     * @param spec filter to apply, may be {@code null}
+     * @param sort sort order
+     * @return a stream of match rows
+     */
+    Stream<MatchDto.MatchResponse> streamResponses(Specification<Match> spec, Sort sort);
+
+    /**
+     * Finds a match whose venue slot overlaps the slot of a match at {@code matchDate},
+     * through the venue slot index.
+     *
+     * @param venueId        the id of the venue
+     * @param matchDate      kick-off of the match to place
+     * @param excludeMatchId the match being moved, which cannot conflict with itself, or {@code null}
+     * @return the id of a conflicting match, or empty if the slot is free
+     */
+    Optional<Long> findVenueConflict(Long venueId, OffsetDateTime matchDate, Long excludeMatchId);
+
+    /**
+     * Finds the matches whose venue slots overlap {@code [from, to)}, through the venue slot index.
+     *
+     * @param venueId the id of the venue
+     * @param from    start of the window
+     * @param to      end of the window
+     * @return the booked slots, earliest first
+     */
+    List<VenueDto.BookedSlot> findVenueBookings(Long venueId, OffsetDateTime from, OffsetDateTime to);
+}
@@ -0,0 +1,108 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
+import is.hi.hbv501gteam23.Persistence.dto.VenueDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link MatchRepositoryCustom}.
+ */
+public class MatchRepositoryCustomImpl implements MatchRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MatchDto.MatchResponse> findResponses(Specification<Match> spec, Sort sort) {
+        return responseQuery(spec, sort).getResultList();
+    }
+
+    @Override
+    public List<MatchDto.MatchResponse> findResponses(Specification<Match> spec, Sort sort, int limit) {
+        return responseQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<MatchDto.MatchResponse> streamResponses(Specification<Match> spec, Sort sort) {
+        return ProjectionQuery.stream(responseQuery(spec, sort));
+    }
+
+    /**
+     * The predicates on {@code venue_id} and {@code match_slot(match_date)} match the GiST index
+     * {@code idx_matches_venue_slot}, so both lookups are index probes rather than scans of the
+     * venue's matches. Unlike the exclusion constraint, they also see matches that are exempt
+     * from it, since those still occupy the venue.
+     */
+    @Override
+    public Optional<Long> findVenueConflict(Long venueId, OffsetDateTime matchDate, Long excludeMatchId) {
+        List<?> ids = entityManager.createNativeQuery("""
+                SELECT match_id FROM matches
+                WHERE venue_id = :venueId
+                  AND match_slot(match_date) && match_slot(CAST(:matchDate AS TIMESTAMPTZ))
+                  AND match_id <> :excludeMatchId
+                LIMIT 1
+                """)
+            .setParameter("venueId", venueId)
+            .setParameter("matchDate", matchDate)
+            .setParameter("excludeMatchId", excludeMatchId != null ? excludeMatchId : 0L)
+            .getResultList();
+        return ids.stream().findFirst().map(id -> ((Number) id).longValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<VenueDto.BookedSlot> findVenueBookings(Long venueId, OffsetDateTime from, OffsetDateTime to) {
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                SELECT match_id, lower(match_slot(match_date)) AS slot_start, upper(match_slot(match_date)) AS slot_end
+                FROM matches
+                WHERE venue_id = :venueId
+                  AND match_slot(match_date) && tstzrange(CAST(:from AS TIMESTAMPTZ), CAST(:to AS TIMESTAMPTZ))
+                ORDER BY match_date
+                """)
+            .setParameter("venueId", venueId)
+            .setParameter("from", from)
+            .setParameter("to", to)
+            .unwrap(NativeQuery.class)
+            .addScalar("match_id", StandardBasicTypes.LONG)
+            .addScalar("slot_start", StandardBasicTypes.OFFSET_DATE_TIME)
+            .addScalar("slot_end", StandardBasicTypes.OFFSET_DATE_TIME)
+            .getResultList();
+        return rows.stream()
+            .map(row -> new VenueDto.BookedSlot((Long) row[0], (OffsetDateTime) row[1], (OffsetDateTime) row[2]))
+            .toList();
+    }
+
+    private TypedQuery<MatchDto.MatchResponse> responseQuery(Specification<Match> spec, Sort sort) {
+        return ProjectionQuery.create(entityManager, Match.class, MatchDto.MatchResponse.class, spec, sort, (root, cb) -> {
+            Join<Match, Team> home = root.join("homeTeam");
+            Join<Match, Team> away = root.join("awayTeam");
+            Join<Match, Venue> venue = root.join("venue");
+            return new Selection<?>[] {
+                root.get("id"),
+                root.get("matchDate"),
+                home.get("id"),
+                home.get("name"),
+                away.get("id"),
+                away.get("name"),
+                venue.get("id"),
+                venue.get("name"),
+                root.get("homeGoals"),
+                root.get("awayGoals")
+            };
+        });
+    }
+}
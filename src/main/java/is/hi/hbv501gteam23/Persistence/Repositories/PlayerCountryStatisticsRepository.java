@@ -0,0 +1,11 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.PlayerCountryStatistics;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-only repository for {@link PlayerCountryStatistics}.
+ */
+@Repository
+public interface PlayerCountryStatisticsRepository extends ReadOnlyRepository<PlayerCountryStatistics, String> {
+}
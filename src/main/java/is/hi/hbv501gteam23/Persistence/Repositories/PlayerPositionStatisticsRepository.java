@@ -0,0 +1,12 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.PlayerPositionStatistics;
+import is.hi.hbv501gteam23.Persistence.enums.PlayerPosition;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-only repository for {@link PlayerPositionStatistics}.
+ */
+@Repository
+public interface PlayerPositionStatisticsRepository extends ReadOnlyRepository<PlayerPositionStatistics, PlayerPosition> {
+}
@@ -1,18 +1,36 @@
 package is.hi.hbv501gteam23.Persistence.Repositories;
 
 import is.hi.hbv501gteam23.Persistence.Entities.Player;
+import is.hi.hbv501gteam23.Persistence.dto.NameView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for accessing and managing {@link Player} entities.
+ * <p>
+ * Associations are lazy. Methods that return entities for the detail view name the
+ * {@link Player#DETAIL} entity graph; every other method, including {@code findById}
+ * used for write validation, loads the player row only.
  */
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, Long>, JpaSpecificationExecutor<Player> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, JpaSpecificationExecutor<Player>, PlayerRepositoryCustom {
+    /**
+     * Retrieves a player together with their team, in a single query
+     * @param id the id of the player
+     * @return the player, or empty if it does not exist
+     */
+    @EntityGraph(Player.DETAIL)
+    Optional<Player> findDetailById(Long id);
+
     /**
      * Retrieves player from name
      * @param name the name of the player
@@ -28,4 +46,20 @@ public interface PlayerRepository extends JpaRepository<Player, Long>, JpaSpecif
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update Player p set p.team = null where p.team.id = :teamId")
     void clearTeamByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * Retrieves the id and name of every player in {@code ids} in a single query
+     * @param ids the ids of the players
+     * @return id and name of the players found
+     */
+    @Query("select p.id as id, p.name as name from Player p where p.id in :ids")
+    List<NameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves which of the given lowercase names are already used by a player, in a single query
+     * @param names lowercase player names
+     * @return the lowercase names that are taken
+     */
+    @Query("select lower(p.name) from Player p where lower(p.name) in :names")
+    Set<String> findExistingLowerNames(@Param("names") Collection<String> names);
 }
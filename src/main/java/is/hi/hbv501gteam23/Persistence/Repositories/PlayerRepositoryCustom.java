@@ -0,0 +1,32 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Player;
+import is.hi.hbv501gteam23.Persistence.dto.PlayerDto;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Projection queries for {@link Player} that bypass entity hydration.
+ */
+public interface PlayerRepositoryCustom {
+    /**
+     * Finds players as {@link PlayerDto.PlayerResponse} rows in a single statement, without loading entities.
+     *
+     * @param spec filter to apply, may be {@code null}
+     * @param sort sort order
+     * @return the matching rows
+     */
+    List<PlayerDto.PlayerResponse> findResponses(Specification<Player> spec, Sort sort);
+
+    /**
+     * Streams players as {@link PlayerDto.PlayerResponse} rows through a forward-only cursor.
+     * Must be called inside a transaction and the stream closed after use.
+     *
+     * @param spec filter to apply, may be {@code null}
+     * @param sort sort order
+     * @return a stream of player rows
+     */
+    Stream<PlayerDto.PlayerResponse> streamResponses(Specification<Player> spec, Sort sort);
+}
@@ -0,0 +1,52 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Player;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.dto.PlayerDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link PlayerRepositoryCustom}.
+ */
+public class PlayerRepositoryCustomImpl implements PlayerRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PlayerDto.PlayerResponse> findResponses(Specification<Player> spec, Sort sort) {
+        return responseQuery(spec, sort).getResultList();
+    }
+
+    @Override
+    public Stream<PlayerDto.PlayerResponse> streamResponses(Specification<Player> spec, Sort sort) {
+        return ProjectionQuery.stream(responseQuery(spec, sort));
+    }
+
+    private TypedQuery<PlayerDto.PlayerResponse> responseQuery(Specification<Player> spec, Sort sort) {
+        return ProjectionQuery.create(entityManager, Player.class, PlayerDto.PlayerResponse.class, spec, sort, (root, cb) -> {
+            // Players without a team must still be listed
+            Join<Player, Team> team = root.join("team", JoinType.LEFT);
+            return new Selection<?>[] {
+                root.get("id"),
+                root.get("name"),
+                root.get("dateOfBirth"),
+                root.get("gender"),
+                root.get("country").get("code"),
+                team.get("id"),
+                team.get("name"),
+                root.get("position"),
+                root.get("goals"),
+                root.get("isActive")
+            };
+        });
+    }
+}
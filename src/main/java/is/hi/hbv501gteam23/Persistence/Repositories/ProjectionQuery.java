@@ -0,0 +1,74 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Builds criteria queries that select straight into a DTO constructor while still
+ * applying the {@link Specification} filters used by the regular repositories.
+ */
+final class ProjectionQuery {
+    /**
+     * Number of rows the JDBC driver pulls from the server cursor per round trip.
+     */
+    static final int FETCH_SIZE = 500;
+
+    private ProjectionQuery() {}
+
+    /**
+     * Creates a typed query selecting {@code resultType} rows from {@code entityType}.
+     *
+     * @param entityManager the entity manager to build the query with
+     * @param entityType    the root entity of the query
+     * @param resultType    the DTO type, constructed from the selected columns in order
+     * @param spec          filter to apply, may be {@code null}
+     * @param sort          sort to apply, may be {@code null} or unsorted
+     * @param columns       selects the constructor arguments from the root
+     * @return the prepared query
+     */
+    static <T, R> TypedQuery<R> create(EntityManager entityManager,
+                                       Class<T> entityType,
+                                       Class<R> resultType,
+                                       Specification<T> spec,
+                                       Sort sort,
+                                       BiFunction<Root<T>, CriteriaBuilder, Selection<?>[]> columns) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(resultType);
+        Root<T> root = query.from(entityType);
+        query.select(cb.construct(resultType, columns.apply(root, cb)));
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) query.where(predicate);
+        }
+        if (sort != null && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    /**
+     * Streams the results through a forward-only cursor with a fixed fetch size.
+     * Must be consumed inside a transaction and closed by the caller.
+     *
+     * @param query the query to stream
+     * @return a lazily populated stream of rows
+     */
+    static <R> Stream<R> stream(TypedQuery<R> query) {
+        return query
+            .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+}
@@ -0,0 +1,20 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base for repositories over views, which expose lookups but no save or delete methods.
+ *
+ * @param <T>  the entity type
+ * @param <ID> the id type
+ */
+@NoRepositoryBean
+public interface ReadOnlyRepository<T, ID> extends Repository<T, ID> {
+    List<T> findAll(Sort sort);
+
+    Optional<T> findById(ID id);
+}
@@ -1,17 +1,35 @@
 package is.hi.hbv501gteam23.Persistence.Repositories;
 
 import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.dto.NameView;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for accessing and managing {@link Team} entities.
+ * <p>
+ * Associations are lazy. Methods that return entities for the detail view name the
+ * {@link Team#DETAIL} entity graph; every other method, including {@code findById}
+ * used for write validation, loads the team row only.
  */
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long>, JpaSpecificationExecutor<Team> {
+public interface TeamRepository extends JpaRepository<Team, Long>, JpaSpecificationExecutor<Team>, TeamRepositoryCustom {
+    /**
+     * Retrieves a team together with its venue, in a single query
+     * @param id the id of the team
+     * @return the team, or empty if it does not exist
+     */
+    @EntityGraph(Team.DETAIL)
+    Optional<Team> findDetailById(Long id);
+
     /**
      * Retrieves a team by name and ignores case
      * @param name the name of the team
@@ -25,5 +43,30 @@ public interface TeamRepository extends JpaRepository<Team, Long>, JpaSpecificat
      * @return List of all teams that have teamId as a venue
      */
     @Query("SELECT t FROM Team t WHERE t.venue.id = :venueId")
+    @EntityGraph(Team.DETAIL)
     List<Team> findByVenueId(Long venueId);
+
+    /**
+     * Retrieves the id and name of every team in {@code ids} in a single query
+     * @param ids the ids of the teams
+     * @return id and name of the teams found
+     */
+    @Query("select t.id as id, t.name as name from Team t where t.id in :ids")
+    List<NameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves which of the given ids belong to an existing team, in a single query
+     * @param ids the ids to check
+     * @return the ids that exist
+     */
+    @Query("select t.id from Team t where t.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves which of the given lowercase names are already used by a team, in a single query
+     * @param names lowercase team names
+     * @return the lowercase names that are taken
+     */
+    @Query("select lower(t.name) from Team t where lower(t.name) in :names")
+    Set<String> findExistingLowerNames(@Param("names") Collection<String> names);
 }
@@ -0,0 +1,34 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.dto.TeamDto;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Projection queries for {@link Team} that bypass entity hydration.
+ */
+public interface TeamRepositoryCustom {
+    /**
+     * Finds teams as {@link TeamDto.TeamResponse} rows in a single statement, without loading entities.
+     * The venue name is returned as stored, without a default for teams with no venue.
+     *
+     * @param spec filter to apply, may be {@code null}
+     * @param sort sort order
+     * @return the matching rows
+     */
+    List<TeamDto.TeamResponse> findResponses(Specification<Team> spec, Sort sort);
+
+    /**
+     * Streams teams as {@link TeamDto.TeamResponse} rows through a forward-only cursor.
+     * Must be called inside a transaction and the stream closed after use.
+     * The venue name is returned as stored, without a default for teams with no venue.
+     *
+     * @param spec filter to apply, may be {@code null}
+     * @param sort sort order
+     * @return a stream of team rows
+     */
+    Stream<TeamDto.TeamResponse> streamResponses(Specification<Team> spec, Sort sort);
+}
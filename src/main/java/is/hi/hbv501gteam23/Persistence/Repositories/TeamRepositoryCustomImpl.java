@@ -0,0 +1,48 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.dto.TeamDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link TeamRepositoryCustom}.
+ */
+public class TeamRepositoryCustomImpl implements TeamRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TeamDto.TeamResponse> findResponses(Specification<Team> spec, Sort sort) {
+        return responseQuery(spec, sort).getResultList();
+    }
+
+    @Override
+    public Stream<TeamDto.TeamResponse> streamResponses(Specification<Team> spec, Sort sort) {
+        return ProjectionQuery.stream(responseQuery(spec, sort));
+    }
+
+    private TypedQuery<TeamDto.TeamResponse> responseQuery(Specification<Team> spec, Sort sort) {
+        return ProjectionQuery.create(entityManager, Team.class, TeamDto.TeamResponse.class, spec, sort, (root, cb) -> {
+            // Teams without a home venue must still be listed
+            Join<Team, Venue> venue = root.join("venue", JoinType.LEFT);
+            return new Selection<?>[] {
+                root.get("id"),
+                root.get("name"),
+                root.get("isActive"),
+                root.get("country").get("code"),
+                venue.get("id"),
+                venue.get("name")
+            };
+        });
+    }
+}
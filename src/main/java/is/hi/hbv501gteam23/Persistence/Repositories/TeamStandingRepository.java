@@ -0,0 +1,120 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.TeamStanding;
+import is.hi.hbv501gteam23.Persistence.dto.StandingDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+/**
+ * Repository for the {@link TeamStanding} league table.
+ * <p>
+ * Rows are changed with atomic {@code col = col + delta} statements rather than
+ * read-modify-write, so concurrent match writes for the same team cannot lose updates.
+ * The native statements name {@code team_standings} as their query space; without it
+ * Hibernate would clear the whole second-level cache after each of them.
+ */
+@Repository
+public interface TeamStandingRepository extends JpaRepository<TeamStanding, Long> {
+    /**
+     * Reads the whole table in ranking order, backed by {@code idx_team_standings_rank}.
+     * @return every team that has played, best first
+     */
+    @Query("""
+        select new is.hi.hbv501gteam23.Persistence.dto.StandingDto$StandingResponse(
+            cast(row_number() over (order by s.points desc, s.goalDifference desc, s.goalsFor desc, s.teamId) as Integer),
+            t.id, t.name, s.played, s.won, s.drawn, s.lost,
+            s.goalsFor, s.goalsAgainst, s.goalDifference, s.points, s.form)
+        from TeamStanding s join s.team t
+        order by s.points desc, s.goalDifference desc, s.goalsFor desc, s.teamId
+        """)
+    List<StandingDto.StandingResponse> findTable();
+
+    /**
+     * Adds a delta to a team's row, creating the row if the team has none yet.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_standings"))
+    @Query(value = """
+        INSERT INTO team_standings (team_id, played, won, drawn, lost, goals_for, goals_against, points, updated_at)
+        VALUES (:teamId, :played, :won, :drawn, :lost, :goalsFor, :goalsAgainst, :points, now())
+        ON CONFLICT (team_id) DO UPDATE SET
+            played = team_standings.played + EXCLUDED.played,
+            won = team_standings.won + EXCLUDED.won,
+            drawn = team_standings.drawn + EXCLUDED.drawn,
+            lost = team_standings.lost + EXCLUDED.lost,
+            goals_for = team_standings.goals_for + EXCLUDED.goals_for,
+            goals_against = team_standings.goals_against + EXCLUDED.goals_against,
+            points = team_standings.points + EXCLUDED.points,
+            updated_at = now()
+        """, nativeQuery = true)
+    void applyDelta(
+        @Param("teamId") Long teamId,
+        @Param("played") int played,
+        @Param("won") int won,
+        @Param("drawn") int drawn,
+        @Param("lost") int lost,
+        @Param("goalsFor") int goalsFor,
+        @Param("goalsAgainst") int goalsAgainst,
+        @Param("points") int points
+    );
+
+    /**
+     * Recomputes a team's form from its five most recent matches.
+     * Home and away matches are read separately, each as an ordered scan of at most five rows
+     * on {@code idx_matches_home_team_date} and {@code idx_matches_away_team_date}, and the
+     * newest five of those ten are kept.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_standings"))
+    @Query(value = """
+        UPDATE team_standings s
+        SET form = COALESCE((
+            SELECT string_agg(x.result, '' ORDER BY x.match_date DESC, x.match_id DESC)
+            FROM (
+                SELECT recent.match_date, recent.match_id, recent.result
+                FROM (
+                    (SELECT m.match_date, m.match_id,
+                            CASE
+                                WHEN m.home_goals = m.away_goals THEN 'D'
+                                WHEN m.home_goals > m.away_goals THEN 'W'
+                                ELSE 'L'
+                            END AS result
+                     FROM matches m
+                     WHERE m.home_team_id = :teamId
+                     ORDER BY m.match_date DESC, m.match_id DESC
+                     LIMIT 5)
+                    UNION ALL
+                    (SELECT m.match_date, m.match_id,
+                            CASE
+                                WHEN m.home_goals = m.away_goals THEN 'D'
+                                WHEN m.away_goals > m.home_goals THEN 'W'
+                                ELSE 'L'
+                            END AS result
+                     FROM matches m
+                     WHERE m.away_team_id = :teamId
+                     ORDER BY m.match_date DESC, m.match_id DESC
+                     LIMIT 5)
+                ) recent
+                ORDER BY recent.match_date DESC, recent.match_id DESC
+                LIMIT 5
+            ) x
+        ), '')
+        WHERE s.team_id = :teamId
+        """, nativeQuery = true)
+    void refreshForm(@Param("teamId") Long teamId);
+
+    /**
+     * Removes rows of teams that no longer have any matches.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "team_standings"))
+    @Query(value = "DELETE FROM team_standings WHERE team_id = :teamId AND played <= 0", nativeQuery = true)
+    void deleteIfEmpty(@Param("teamId") Long teamId);
+}
@@ -0,0 +1,11 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.TeamStatistics;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-only repository for {@link TeamStatistics}.
+ */
+@Repository
+public interface TeamStatisticsRepository extends ReadOnlyRepository<TeamStatistics, Long> {
+}
@@ -1,15 +1,31 @@
 package is.hi.hbv501gteam23.Persistence.Repositories;
 
 import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.Set;
 
-public interface VenueRepository extends JpaRepository<Venue, Long>, JpaSpecificationExecutor<Venue> {
+public interface VenueRepository extends JpaRepository<Venue, Long>, JpaSpecificationExecutor<Venue>, VenueRepositoryCustom {
     /**
      * Finds a venue by its name, ignoring case.
      *
      * @param name the venue name to search for
      * @return the matching {@link Venue}, or {@code null} if none is found
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Venue findByNameIgnoreCase(String name);
+
+    /**
+     * Retrieves which of the given ids belong to an existing venue, in a single query
+     * @param ids the ids to check
+     * @return the ids that exist
+     */
+    @Query("select v.id from Venue v where v.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,22 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.dto.VenueDto;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.stream.Stream;
+
+/**
+ * Projection queries for {@link Venue} that bypass entity hydration.
+ */
+public interface VenueRepositoryCustom {
+    /**
+     * Streams venues as {@link VenueDto.VenueResponse} rows through a forward-only cursor.
+     * Must be called inside a transaction and the stream closed after use.
+     *
+     * @param spec filter to apply, may be {@code null}
+     * @param sort sort order
+     * @return a stream of venue rows
+     */
+    Stream<VenueDto.VenueResponse> streamResponses(Specification<Venue> spec, Sort sort);
+}
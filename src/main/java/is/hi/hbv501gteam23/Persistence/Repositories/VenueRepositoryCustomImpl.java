@@ -0,0 +1,32 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.dto.VenueDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link VenueRepositoryCustom}.
+ */
+public class VenueRepositoryCustomImpl implements VenueRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<VenueDto.VenueResponse> streamResponses(Specification<Venue> spec, Sort sort) {
+        return ProjectionQuery.stream(
+            ProjectionQuery.create(entityManager, Venue.class, VenueDto.VenueResponse.class, spec, sort, (root, cb) ->
+                new Selection<?>[] {
+                    root.get("id"),
+                    root.get("name"),
+                    root.get("address"),
+                    root.get("latitude"),
+                    root.get("longitude")
+                })
+        );
+    }
+}
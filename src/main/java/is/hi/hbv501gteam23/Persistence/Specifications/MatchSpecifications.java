@@ -1,6 +1,8 @@
 package is.hi.hbv501gteam23.Persistence.Specifications;
 
 import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -47,18 +49,52 @@ public class MatchSpecifications {
     public static Specification<Match> matchHomeTeamName(String homeTeamName){
         return (root, query, cb) ->
             (homeTeamName == null || homeTeamName.isBlank()) ? null:
-            cb.like(cb.lower(root.get("homeTeam").get("name")), "%" + homeTeamName.toLowerCase() + "%");
+            TextSearch.containsIgnoreCase(cb, root.get("homeTeam").get("name"), homeTeamName);
     }
 
     public static Specification<Match> matchAwayTeamName(String awayTeamName){
         return (root, query, cb) ->
             (awayTeamName == null || awayTeamName.isBlank()) ? null:
-            cb.like(cb.lower(root.get("awayTeam").get("name")), "%" + awayTeamName.toLowerCase() + "%");
+            TextSearch.containsIgnoreCase(cb, root.get("awayTeam").get("name"), awayTeamName);
     }
 
     public static Specification<Match> matchVenueName(String name){
         return (root, query, cb) ->
             (name == null || name.isBlank()) ? null:
-            cb.like(cb.lower(root.get("venue").get("name")), "%" + name.toLowerCase() + "%");
+            TextSearch.containsIgnoreCase(cb, root.get("venue").get("name"), name);
+    }
+
+    /**
+     * Keyset predicate that only keeps rows strictly after the given position in
+     * {@code (property, id)} order. The id breaks ties between equal sort values.
+     * <p>
+     * The OR alone gives Postgres no bound to start the {@code (column, match_id)} index scan
+     * from, so it would read every earlier row and filter it out. The redundant
+     * {@code property >= lastValue} ({@code <=} when descending) supplies that bound, and a
+     * page deep in the listing starts its scan where the previous page ended.
+     *
+     * @param property   sort property path (f.x. "matchDate" or "homeTeam.name")
+     * @param descending whether the listing is sorted descending
+     * @param lastValue  sort value of the last row on the previous page
+     * @param lastId     id of the last row on the previous page
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Match> keysetAfter(String property, boolean descending, Comparable lastValue, Long lastId){
+        return (root, query, cb) -> {
+            if (lastId == null) return null;
+
+            Path<Long> id = root.get("id");
+            Predicate idAfter = descending ? cb.lessThan(id, lastId) : cb.greaterThan(id, lastId);
+            if ("id".equals(property)) return idAfter;
+
+            Path<Comparable> path = null;
+            for (String part : property.split("\\.")) {
+                path = (path == null) ? root.get(part) : path.get(part);
+            }
+
+            Predicate valueFrom = descending ? cb.lessThanOrEqualTo(path, lastValue) : cb.greaterThanOrEqualTo(path, lastValue);
+            Predicate valueAfter = descending ? cb.lessThan(path, lastValue) : cb.greaterThan(path, lastValue);
+            return cb.and(valueFrom, cb.or(valueAfter, cb.and(cb.equal(path, lastValue), idAfter)));
+        };
     }
 }
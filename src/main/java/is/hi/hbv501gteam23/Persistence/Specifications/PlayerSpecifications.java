@@ -8,7 +8,7 @@ public class PlayerSpecifications {
     public static Specification<Player> nameContains(String name) {
         return (root, query, cb) -> {
             if (name == null || name.isBlank()) return null;
-            return cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%");
+            return TextSearch.containsIgnoreCase(cb, root.get("name"), name);
         };
     }
 
@@ -22,7 +22,7 @@ public class PlayerSpecifications {
     public static Specification<Player> hasTeamName(String teamName) {
         return (root, query, cb) -> {
             if (teamName == null || teamName.isBlank()) return null;
-            return cb.like(cb.lower(root.get("team").get("name")), "%" + teamName.toLowerCase() + "%");
+            return TextSearch.containsIgnoreCase(cb, root.get("team").get("name"), teamName);
         };
     }
 
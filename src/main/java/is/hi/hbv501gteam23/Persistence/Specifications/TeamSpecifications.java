@@ -8,7 +8,7 @@ public class TeamSpecifications {
     public static Specification<Team> nameContains(String name) {
         return (root, query, cb) ->
                 (name == null || name.isBlank()) ? null:
-                        cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%");
+                        TextSearch.containsIgnoreCase(cb, root.get("name"), name);
     }
 
     public static Specification<Team> hasActiveStatus(Boolean isActive) {
@@ -26,6 +26,6 @@ public class TeamSpecifications {
     public static Specification<Team> venueNameContains(String venueName){
         return (root, query, cb) ->
                 (venueName == null || venueName.isBlank()) ? null:
-                        cb.like(cb.lower(root.get("venue").get("name")), "%" + venueName.toLowerCase() + "%");
+                        TextSearch.containsIgnoreCase(cb, root.get("venue").get("name"), venueName);
     }
 }
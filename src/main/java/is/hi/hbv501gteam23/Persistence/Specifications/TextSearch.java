@@ -0,0 +1,39 @@
+package is.hi.hbv501gteam23.Persistence.Specifications;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.Locale;
+
+/**
+ * Case-insensitive substring predicates that can use the {@code pg_trgm} GIN indexes.
+ * <p>
+ * The indexes are built on {@code lower(column)}, so the predicate is always rendered as
+ * {@code lower(column) LIKE ? ESCAPE '\'} with the pattern bound as a parameter. Any
+ * {@code %}, {@code _} or {@code \} typed by the user is escaped so it matches literally
+ * instead of turning the search into a broader pattern.
+ */
+final class TextSearch {
+    private static final char ESCAPE = '\\';
+
+    private TextSearch() {}
+
+    /**
+     * @param cb         the criteria builder
+     * @param expression the string column to search, f.x. {@code root.get("name")}
+     * @param term       the text to look for, must not be blank
+     * @return a predicate matching rows whose column contains {@code term}, ignoring case
+     */
+    static Predicate containsIgnoreCase(CriteriaBuilder cb, Expression<String> expression, String term) {
+        return cb.like(cb.lower(expression), "%" + escape(term.trim().toLowerCase(Locale.ROOT)) + "%", ESCAPE);
+    }
+
+    private static String escape(String term) {
+        StringBuilder escaped = new StringBuilder(term.length());
+        for (char c : term.toCharArray()) {
+            if (c == '%' || c == '_' || c == ESCAPE) escaped.append(ESCAPE);
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -9,14 +9,14 @@ public class UserSpecifications {
     public static Specification<User> emailContains(String email) {
         return (root, query, cb) -> {
             if (email == null || email.isBlank()) return null;
-            return cb.like(cb.lower(root.get("email")), "%" + email.toLowerCase() + "%");
+            return TextSearch.containsIgnoreCase(cb, root.get("email"), email);
         };
     }
 
     public static Specification<User> nameContains(String name) {
         return (root, query, cb) -> {
             if (name == null || name.isBlank()) return null;
-            return cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%");
+            return TextSearch.containsIgnoreCase(cb, root.get("name"), name);
         };
     }
 
@@ -8,12 +8,12 @@ public class VenueSpecifications {
     public static Specification<Venue> nameContains(String name) {
         return (root, query, cb) ->
                 (name == null || name.isBlank()) ? null :
-                        cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%");
+                        TextSearch.containsIgnoreCase(cb, root.get("name"), name);
     }
 
     public static Specification<Venue> addressContains(String address) {
         return (root, query, cb) ->
                 (address == null || address.isBlank()) ? null :
-                        cb.like(cb.lower(root.get("address")), "%" + address.toLowerCase() + "%");
+                        TextSearch.containsIgnoreCase(cb, root.get("address"), address);
     }
 }
@@ -0,0 +1,27 @@
+package is.hi.hbv501gteam23.Persistence.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (cursor) paginated listing.
+ *
+ * @param items      the rows on this page
+ * @param nextCursor opaque cursor for the next page, or {@code null} if this is the last page
+ * @param <T>        the row type
+ */
+public record CursorPage<T>(
+    List<T> items,
+    String nextCursor
+) {
+    /**
+     * Maps the rows on this page while keeping the cursor.
+     *
+     * @param mapper function applied to each row
+     * @param <R>    the mapped row type
+     * @return a page with the mapped rows
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,38 @@
+package is.hi.hbv501gteam23.Persistence.dto;
+
+import java.util.List;
+
+public final class ImportDto {
+
+    /**
+     * Outcome of a bulk import.
+     *
+     * @param received        number of rows read from the upload
+     * @param imported        number of rows stored
+     * @param failed          number of rows rejected
+     * @param errors          why rows were rejected, in row order
+     * @param errorsTruncated whether more rows failed than are listed in {@code errors}
+     * @param stoppedEarly    why reading stopped before the end of the upload, f.x. a malformed
+     *                        row or the row limit, or {@code null} if the whole upload was read.
+     *                        Rows before that point are imported.
+     */
+    public record ImportReport(
+            int received,
+            int imported,
+            int failed,
+            List<RowError> errors,
+            boolean errorsTruncated,
+            String stoppedEarly
+    ) {}
+
+    /**
+     * A rejected row.
+     *
+     * @param row     the 1-based row number, not counting a CSV header
+     * @param message why the row was rejected
+     */
+    public record RowError(
+            int row,
+            String message
+    ) {}
+}
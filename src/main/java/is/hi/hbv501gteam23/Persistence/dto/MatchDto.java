@@ -105,4 +105,16 @@ public final class MatchDto {
             Integer homeGoals,
             Integer awayGoals
     ) {}
+
+    /**
+     * Current score of a match, sent as a {@code score} event on the live streams.
+     * @param matchId the id of the match
+     * @param homeGoals home teams goals
+     * @param awayGoals away teams goals
+     */
+    public record LiveScore(
+            Long matchId,
+            Integer homeGoals,
+            Integer awayGoals
+    ) {}
 }
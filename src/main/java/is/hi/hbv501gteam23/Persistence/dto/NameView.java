@@ -0,0 +1,10 @@
+package is.hi.hbv501gteam23.Persistence.dto;
+
+/**
+ * Lightweight projection of an entity id and its display name.
+ * Used where only a label is needed, so the full entity and its associations are not loaded.
+ */
+public interface NameView {
+    Long getId();
+    String getName();
+}
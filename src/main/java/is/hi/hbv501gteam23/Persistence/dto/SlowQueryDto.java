@@ -0,0 +1,23 @@
+package is.hi.hbv501gteam23.Persistence.dto;
+
+import java.time.Instant;
+
+public final class SlowQueryDto {
+
+    /**
+     * Execution plan captured for a slow statement.
+     *
+     * @param capturedAt when the slow statement finished
+     * @param endpoint   method and URI template of the request that ran it, or {@code null} outside a request
+     * @param sql        the statement, with literals and parameters replaced by {@code ?}
+     * @param durationMs how long the statement took when it was slow
+     * @param plan       output of {@code EXPLAIN (ANALYZE, BUFFERS)}, or the reason it could not be run
+     */
+    public record SlowQueryPlanResponse(
+            Instant capturedAt,
+            String endpoint,
+            String sql,
+            double durationMs,
+            String plan
+    ) {}
+}
@@ -0,0 +1,35 @@
+package is.hi.hbv501gteam23.Persistence.dto;
+
+public final class StandingDto {
+
+    /**
+     * A team's row in the league table.
+     *
+     * @param position       the 1-based position in the table
+     * @param teamId         the id of the team
+     * @param teamName       the name of the team
+     * @param played         matches played
+     * @param won            matches won
+     * @param drawn          matches drawn
+     * @param lost           matches lost
+     * @param goalsFor       goals scored
+     * @param goalsAgainst   goals conceded
+     * @param goalDifference goals scored minus goals conceded
+     * @param points         3 per win and 1 per draw
+     * @param form           results of the last five matches, most recent first (f.x. "WWDLW")
+     */
+    public record StandingResponse(
+            int position,
+            Long teamId,
+            String teamName,
+            int played,
+            int won,
+            int drawn,
+            int lost,
+            int goalsFor,
+            int goalsAgainst,
+            int goalDifference,
+            int points,
+            String form
+    ) {}
+}
@@ -0,0 +1,52 @@
+package is.hi.hbv501gteam23.Persistence.dto;
+
+import java.math.BigDecimal;
+
+public final class StatisticsDto {
+
+    /**
+     * Match totals of a single team.
+     *
+     * @param teamId        the id of the team
+     * @param teamName      the name of the team
+     * @param played        matches played
+     * @param wins          matches won
+     * @param draws         matches drawn
+     * @param losses        matches lost
+     * @param goalsFor      goals scored
+     * @param goalsAgainst  goals conceded
+     * @param cleanSheets   matches without conceding a goal
+     * @param failedToScore matches without scoring a goal
+     */
+    public record TeamStatisticsResponse(
+            Long teamId,
+            String teamName,
+            long played,
+            long wins,
+            long draws,
+            long losses,
+            long goalsFor,
+            long goalsAgainst,
+            long cleanSheets,
+            long failedToScore
+    ) {}
+
+    /**
+     * Player totals for one group of players (a country or a position).
+     *
+     * @param key           the group, f.x. a country code or a position name
+     * @param label         human readable name of the group
+     * @param players       number of players in the group
+     * @param activePlayers number of active players in the group
+     * @param goals         goals scored by all players in the group
+     * @param averageGoals  average goals per player, rounded to two decimals
+     */
+    public record PlayerStatisticsResponse(
+            String key,
+            String label,
+            long players,
+            long activePlayers,
+            long goals,
+            BigDecimal averageGoals
+    ) {}
+}
@@ -0,0 +1,14 @@
+package is.hi.hbv501gteam23.Persistence.dto;
+
+import is.hi.hbv501gteam23.Persistence.enums.SystemRole;
+
+/**
+ * Projection of the fields needed to check whether a user's access token is still honoured.
+ * Loaded without the user's profile image or any other association.
+ */
+public interface UserStatusView {
+    Long getId();
+    String getEmail();
+    SystemRole getRole();
+    Boolean getActive();
+}
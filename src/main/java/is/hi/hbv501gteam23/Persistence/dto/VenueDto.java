@@ -1,6 +1,8 @@
 package is.hi.hbv501gteam23.Persistence.dto;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
 
 public final class VenueDto {
     public record CreateVenueRequest(
@@ -36,4 +38,45 @@ public final class VenueDto {
             BigDecimal latitude,
             BigDecimal longitude
     ) {}
+
+    /**
+     * Time a match occupies its venue.
+     *
+     * @param matchId the id of the match
+     * @param start   kick-off
+     * @param end     when the venue is free again
+     */
+    public record BookedSlot(
+            Long matchId,
+            OffsetDateTime start,
+            OffsetDateTime end
+    ) {}
+
+    /**
+     * Time in which at least one more match fits.
+     *
+     * @param start earliest kick-off
+     * @param end   when the window closes; the latest kick-off is one slot earlier
+     */
+    public record FreeWindow(
+            OffsetDateTime start,
+            OffsetDateTime end
+    ) {}
+
+    /**
+     * Bookings of a venue within a time window.
+     *
+     * @param venueId the id of the venue
+     * @param from    start of the window
+     * @param to      end of the window
+     * @param booked  slots taken by matches, earliest first
+     * @param free    gaps long enough for another match, earliest first
+     */
+    public record AvailabilityResponse(
+            Long venueId,
+            OffsetDateTime from,
+            OffsetDateTime to,
+            List<BookedSlot> booked,
+            List<FreeWindow> free
+    ) {}
 }
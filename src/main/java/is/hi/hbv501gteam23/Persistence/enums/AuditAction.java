@@ -0,0 +1,10 @@
+package is.hi.hbv501gteam23.Persistence.enums;
+
+/**
+ * Kinds of change recorded in the audit log.
+ */
+public enum AuditAction {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,25 @@
+package is.hi.hbv501gteam23.Persistence.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+    NDJSON("Newline delimited JSON", "application/x-ndjson", "ndjson"),
+    CSV("CSV", "text/csv", "csv");
+
+    private final String label;
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String label, String mediaType, String extension) {
+        this.label = label;
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    @JsonCreator
+    public static ExportFormat fromString(String value) {
+        return value == null ? null : ExportFormat.valueOf(value.trim().toUpperCase());
+    }
+}
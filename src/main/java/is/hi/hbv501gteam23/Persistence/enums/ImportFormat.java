@@ -0,0 +1,28 @@
+package is.hi.hbv501gteam23.Persistence.enums;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+public enum ImportFormat {
+    JSON("JSON array or newline delimited JSON"),
+    CSV("CSV with a header row");
+
+    private final String label;
+
+    ImportFormat(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Picks the import format from a request {@code Content-Type}.
+     *
+     * @param contentType the content type, may include parameters such as a charset
+     * @return {@link #CSV} for {@code text/csv}, otherwise {@link #JSON}
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) return JSON;
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv")) ? CSV : JSON;
+    }
+}
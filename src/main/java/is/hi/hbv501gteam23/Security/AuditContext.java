@@ -5,6 +5,10 @@ import org.springframework.stereotype.Component;
 /**
  * Tracks the current user for auditing purposes.
  * Supports application-level ThreadLocal tracking.
+ * <p>
+ * The value is bound to the thread handling the request, which is a fresh virtual thread
+ * per request when {@code spring.threads.virtual.enabled} is on. It is not inherited by
+ * {@code @Async} or scheduled tasks, and the request filters clear it when the request ends.
  */
 @Component
 public class AuditContext {
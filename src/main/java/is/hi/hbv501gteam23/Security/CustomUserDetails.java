@@ -27,6 +27,23 @@ public class CustomUserDetails implements UserDetails {
         this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole()));
     }
 
+    /**
+     * Builds a principal from verified access token claims, without a password hash.
+     *
+     * @param id     the id of the user
+     * @param email  the email of the user
+     * @param role   the role of the user
+     * @param active whether the account is active
+     */
+    public CustomUserDetails(Long id, String email, SystemRole role, boolean active) {
+        this.id = id;
+        this.email = email;
+        this.passwordHash = null;
+        this.active = active;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -0,0 +1,25 @@
+package is.hi.hbv501gteam23.Security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when the password hashing pool is saturated.
+ * Maps to 503 (Service Unavailable) with a {@code Retry-After} header.
+ */
+public class HashingUnavailableException extends ResponseStatusException {
+    private final long retryAfterSeconds;
+
+    public HashingUnavailableException(long retryAfterSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy, please try again shortly");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+}
@@ -1,9 +1,12 @@
 package is.hi.hbv501gteam23.Security;
 
+import io.jsonwebtoken.Claims;
+import is.hi.hbv501gteam23.Config.RequestMetricsConvention;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.Nullable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,14 +20,20 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final UserStatusCache userStatusCache;
     private final AuditContext auditContext;
+    private final boolean statelessPrincipal;
 
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
                                    CustomUserDetailsService customUserDetailsService,
-                                   AuditContext auditContext) {
+                                   UserStatusCache userStatusCache,
+                                   AuditContext auditContext,
+                                   @Value("${jwt.stateless-principal:true}") boolean statelessPrincipal) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.customUserDetailsService = customUserDetailsService;
+        this.userStatusCache = userStatusCache;
         this.auditContext = auditContext;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     @Override
@@ -37,10 +46,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String token = getTokenFromRequest(request);
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                String email = jwtTokenProvider.getEmailFromToken(token);
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-
+            Claims claims = token != null ? jwtTokenProvider.parseClaims(token) : null;
+            UserDetails userDetails = claims != null ? resolveUser(claims) : null;
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken =
                     new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -52,6 +60,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 if (userDetails instanceof CustomUserDetails customUser) {
                     auditContext.setCurrentUserId(customUser.getId());
+                    request.setAttribute(RequestMetricsConvention.ROLE_ATTRIBUTE, customUser.getRole());
                 }
             }
         } catch (Exception e) {
@@ -64,6 +73,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * Resolves the principal for a verified token.
+     * <p>
+     * In stateless mode the principal is built from the token claims and only checked
+     * against the cached account status, so a deactivated, deleted or changed account
+     * stops authenticating without the user entity being loaded. Tokens without the
+     * required claims fall back to loading the user by email.
+     *
+     * @param claims verified token claims
+     * @return the principal, or {@code null} if the token is no longer honoured
+     */
+    private UserDetails resolveUser(Claims claims) {
+        if (statelessPrincipal) {
+            CustomUserDetails principal = jwtTokenProvider.toPrincipal(claims);
+            if (principal != null) {
+                UserStatusCache.UserStatus status = userStatusCache.get(principal.getId());
+                boolean honoured = principal.isActive()
+                    && status != null
+                    && status.active()
+                    && status.role() == principal.getRole()
+                    && status.email().equalsIgnoreCase(principal.getEmail());
+                return honoured ? principal : null;
+            }
+        }
+        return customUserDetailsService.loadUserByUsername(claims.getSubject());
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String token = request.getHeader("Authorization");
         if (token != null && token.startsWith("Bearer ")) {
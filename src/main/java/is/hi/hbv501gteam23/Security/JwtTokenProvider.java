@@ -1,35 +1,59 @@
 package is.hi.hbv501gteam23.Security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import is.hi.hbv501gteam23.Persistence.Entities.User;
+import is.hi.hbv501gteam23.Persistence.enums.SystemRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_ACTIVE = "active";
+
     private final SecretKey key;
     private final long jwtExpirationMillis;
+    private final Timer validTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
 
     public JwtTokenProvider(
         @Value("${jwt.secret}") String secret,
-        @Value("${jwt.expiration}") long jwtExpirationMillis
+        @Value("${jwt.expiration}") long jwtExpirationMillis,
+        MeterRegistry meterRegistry
     ) {
         byte[] decodedKey = Base64.getDecoder().decode(secret);
         this.key = Keys.hmacShaKeyFor(decodedKey);
         this.jwtExpirationMillis = jwtExpirationMillis;
+        this.validTimer = validationTimer(meterRegistry, "valid");
+        this.expiredTimer = validationTimer(meterRegistry, "expired");
+        this.invalidTimer = validationTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.validation")
+            .description("Time to parse and verify a JWT")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
     }
 
     /**
      * Generates a signed access JWT for the given user.
      * <p>
-     * The token uses the user's email as the subject, includes the user's role as a claim,
+     * The token uses the user's email as the subject, includes the user's id, role and
+     * active flag as claims so the principal can be rebuilt without a database lookup,
      * sets the issued-at and expiration timestamps based on {@code jwtExpirationMillis},
      * and is signed using the configured HMAC-SHA-256 secret key.
      *
@@ -42,7 +66,9 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
             .subject(userDetails.getEmail())
-            .claim("role", userDetails.getRole())
+            .claim(CLAIM_USER_ID, userDetails.getId())
+            .claim(CLAIM_ROLE, userDetails.getRole().name())
+            .claim(CLAIM_ACTIVE, userDetails.isActive())
             .issuedAt(Date.from(now))
             .expiration(Date.from(expiry))
             .signWith(key)
@@ -82,12 +108,7 @@ public class JwtTokenProvider {
      * @throws io.jsonwebtoken.JwtException if the token cannot be parsed or is invalid
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-            .verifyWith(key)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-        return claims.getSubject();
+        return verify(token).getSubject();
     }
 
     /**
@@ -101,10 +122,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
+            verify(token);
             return true;
         } catch (JwtException | IllegalArgumentException ex) {
             return false;
@@ -123,4 +141,68 @@ public class JwtTokenProvider {
     public String getEmailFromToken(String token) {
         return getUsernameFromToken(token);
     }
+
+    /**
+     * Parses and verifies the given JWT.
+     *
+     * @param token the JWT to parse
+     * @return the verified claims, or {@code null} if the token is invalid or cannot be parsed
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return verify(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses and verifies the given JWT, recording the time taken under {@code jwt.validation}
+     * tagged with the outcome.
+     *
+     * @param token the JWT to verify
+     * @return the verified claims
+     * @throws JwtException if the token is expired, malformed or has an invalid signature
+     */
+    private Claims verify(String token) {
+        long start = System.nanoTime();
+        Timer timer = invalidTimer;
+        try {
+            Claims claims = Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+            timer = validTimer;
+            return claims;
+        } catch (ExpiredJwtException ex) {
+            timer = expiredTimer;
+            throw ex;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Builds a {@link CustomUserDetails} from verified access token claims alone.
+     * <p>
+     * Refresh tokens and access tokens issued before the id, role and active claims
+     * were added carry none of them; for those {@code null} is returned and the caller
+     * has to load the user instead.
+     *
+     * @param claims verified claims of an access token
+     * @return the principal described by the claims, or {@code null} if the claims are incomplete
+     */
+    public CustomUserDetails toPrincipal(Claims claims) {
+        Long id = claims.get(CLAIM_USER_ID, Long.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Boolean active = claims.get(CLAIM_ACTIVE, Boolean.class);
+        if (id == null || role == null || active == null || claims.getSubject() == null) return null;
+
+        try {
+            return new CustomUserDetails(id, claims.getSubject(), SystemRole.valueOf(role), active);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+package is.hi.hbv501gteam23.Security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing and verification off the request threads.
+ * <p>
+ * Every Argon2 hash allocates {@code password-hashing.memory-per-hash-mb} of memory and
+ * saturates a core, so hashes run on a fixed-size worker pool in front of a bounded queue.
+ * The pool has one worker per core, or fewer if the memory budget does not cover that many
+ * hashes, so every worker is running a hash and every queued task is waiting for one. When the
+ * queue is full, or a caller has waited longer than {@code password-hashing.timeout}, a
+ * {@link HashingUnavailableException} (503 with {@code Retry-After}) is thrown instead of
+ * letting a login burst exhaust the heap or starve the other endpoints.
+ */
+@Slf4j
+@Component
+public class PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int concurrency;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(
+        PasswordEncoder passwordEncoder,
+        MeterRegistry meterRegistry,
+        @Value("${password-hashing.threads:0}") int threads,
+        @Value("${password-hashing.queue-capacity:64}") int queueCapacity,
+        @Value("${password-hashing.memory-budget-mb:512}") int memoryBudgetMb,
+        @Value("${password-hashing.memory-per-hash-mb:64}") int memoryPerHashMb,
+        @Value("${password-hashing.timeout:10s}") Duration timeout
+    ) {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int permits = Math.max(1, memoryBudgetMb / memoryPerHashMb);
+
+        this.passwordEncoder = passwordEncoder;
+        this.concurrency = Math.min(workers, permits);
+        this.timeoutMillis = timeout.toMillis();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            concurrency, concurrency,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+                Thread t = new Thread(r, "password-hashing-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size())
+            .description("Password hashes waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashes currently running")
+            .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hashing.latency")
+            .description("Time to hash or verify a password, including queueing")
+            .tag("operation", "encode")
+            .register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hashing.latency")
+            .description("Time to hash or verify a password, including queueing")
+            .tag("operation", "matches")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected")
+            .description("Hash requests rejected because the pool was saturated")
+            .register(meterRegistry);
+
+        log.info("Password hashing pool: {} workers, queue capacity {}", concurrency, queueCapacity);
+    }
+
+    /**
+     * Hashes a raw password on the hashing pool.
+     *
+     * @param rawPassword the password to hash
+     * @return the encoded password
+     * @throws HashingUnavailableException if the pool is saturated
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Verifies a raw password against a stored hash on the hashing pool.
+     *
+     * @param rawPassword     the password to check
+     * @param encodedPassword the stored hash
+     * @return {@code true} if the password matches
+     * @throws HashingUnavailableException if the pool is saturated
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T run(Timer timer, Callable<T> task) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new HashingUnavailableException(retryAfterSeconds());
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new HashingUnavailableException(retryAfterSeconds());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new HashingUnavailableException(retryAfterSeconds());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("Password hashing failed", cause);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Estimates how long the current queue takes to drain, from the mean hash latency.
+     */
+    private long retryAfterSeconds() {
+        double meanMillis = Math.max(encodeTimer.mean(TimeUnit.MILLISECONDS), matchTimer.mean(TimeUnit.MILLISECONDS));
+        if (meanMillis <= 0) return 1;
+        double drainMillis = (executor.getQueue().size() + 1) * meanMillis / concurrency;
+        return Math.max(1, (long) Math.ceil(drainMillis / 1000));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,97 @@
+package is.hi.hbv501gteam23.Security;
+
+import is.hi.hbv501gteam23.Persistence.Repositories.AuthRepository;
+import is.hi.hbv501gteam23.Persistence.enums.SystemRole;
+import is.hi.hbv501gteam23.Utils.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small, bounded cache of the account status of users, keyed by user id.
+ * <p>
+ * Used by {@link JwtAuthenticationFilter} to check that the user behind a stateless token
+ * still exists, is active and has the same role and email, without loading the full
+ * {@code User} entity. Entries expire after a short TTL and are evicted least recently used
+ * once the cache is full. Services that change a user's status call {@link #invalidate(Long)}
+ * so the change takes effect on the next request.
+ */
+@Component
+public class UserStatusCache {
+    /**
+     * Status of a user as seen by the authentication filter.
+     *
+     * @param email  the current email of the user
+     * @param role   the current role of the user
+     * @param active whether the account is active
+     */
+    public record UserStatus(String email, SystemRole role, boolean active) {}
+
+    /** Cached status, {@code status} is {@code null} when the user does not exist. */
+    private record Entry(UserStatus status, long expiresAtNanos) {}
+
+    private final AuthRepository authRepository;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserStatusCache(
+        AuthRepository authRepository,
+        @Value("${jwt.status-cache.max-size:10000}") int maxSize,
+        @Value("${jwt.status-cache.ttl:30s}") Duration ttl
+    ) {
+        this.authRepository = authRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the status of a user, loading it from the database if it is not cached or has expired.
+     *
+     * @param userId the id of the user
+     * @return the status of the user, or {@code null} if the user does not exist
+     */
+    public UserStatus get(Long userId) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry cached = entries.get(userId);
+            if (cached != null && now - cached.expiresAtNanos() < 0) return cached.status();
+        }
+
+        // Load outside the lock; drop the result if an invalidation raced with the load
+        long generation = invalidations.get();
+        UserStatus status = authRepository.findStatusById(userId)
+            .map(v -> new UserStatus(v.getEmail(), v.getRole(), Boolean.TRUE.equals(v.getActive())))
+            .orElse(null);
+
+        synchronized (entries) {
+            if (invalidations.get() == generation) {
+                entries.put(userId, new Entry(status, System.nanoTime() + ttlNanos));
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Drops the cached status of a user once the current transaction commits.
+     *
+     * @param userId the id of the user whose status changed
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) return;
+        AfterCommit.run(() -> {
+            invalidations.incrementAndGet();
+            synchronized (entries) {
+                entries.remove(userId);
+            }
+        });
+    }
+}
@@ -0,0 +1,202 @@
+package is.hi.hbv501gteam23.Services.Implementation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import is.hi.hbv501gteam23.Persistence.enums.AuditAction;
+import is.hi.hbv501gteam23.Security.AuditContext;
+import is.hi.hbv501gteam23.Services.Interfaces.AuditService;
+import is.hi.hbv501gteam23.Utils.AfterCommit;
+import is.hi.hbv501gteam23.Utils.RingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import java.lang.reflect.RecordComponent;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes audit events to {@code audit_events} without slowing down the requests that produce them.
+ * <p>
+ * Request threads only put the event into a lock-free {@link RingBuffer} after their
+ * transaction commits. A single background thread drains the buffer and inserts the events
+ * in JDBC batches of up to {@code audit.batch-size}, waking up at least every
+ * {@code audit.flush-interval} and as soon as a full batch is waiting.
+ * <p>
+ * When the buffer is full, {@code audit.overflow-policy} decides: {@code DROP} discards the
+ * event at once, {@code BLOCK} makes the request wait up to {@code audit.block-timeout} for
+ * room before discarding it, so a stalled database slows writers down but cannot hang them.
+ * Discarded events and failed batches are counted in {@code audit.events.dropped} and
+ * {@code audit.events.failed}.
+ */
+@Slf4j
+@Service
+public class AuditServiceImplementation implements AuditService {
+    /**
+     * What to do with an event when the buffer is full.
+     */
+    public enum OverflowPolicy { DROP, BLOCK }
+
+    private static final String INSERT_SQL = """
+        INSERT INTO audit_events (occurred_at, actor_user_id, action, entity_type, entity_id, changed_fields)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+    private static final long BLOCK_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+    private static final ClassValue<RecordComponent[]> RECORD_COMPONENTS = new ClassValue<>() {
+        @Override
+        protected RecordComponent[] computeValue(Class<?> type) {
+            return type.getRecordComponents();
+        }
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditContext auditContext;
+    private final RingBuffer<AuditEvent> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AuditServiceImplementation(
+        JdbcTemplate jdbcTemplate,
+        AuditContext auditContext,
+        MeterRegistry meterRegistry,
+        @Value("${audit.buffer-capacity:8192}") int bufferCapacity,
+        @Value("${audit.batch-size:200}") int batchSize,
+        @Value("${audit.flush-interval:500ms}") Duration flushInterval,
+        @Value("${audit.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+        @Value("${audit.block-timeout:100ms}") Duration blockTimeout
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditContext = auditContext;
+        this.buffer = new RingBuffer<>(bufferCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+
+        this.writer = new Thread(this::writeLoop, "audit-writer");
+        this.writer.setDaemon(true);
+
+        Gauge.builder("audit.buffer.size", buffer, RingBuffer::size)
+            .description("Audit events waiting to be written")
+            .register(meterRegistry);
+        this.written = Counter.builder("audit.events.written")
+            .description("Audit events inserted into audit_events")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("audit.events.dropped")
+            .description("Audit events discarded because the buffer was full")
+            .register(meterRegistry);
+        this.failed = Counter.builder("audit.events.failed")
+            .description("Audit events lost because their batch could not be written")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    /**
+     * Stops the writer after it has written everything already in the buffer.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Override
+    public void record(AuditAction action, Class<?> entityType, Long entityId, Record request) {
+        AuditEvent event = new AuditEvent(
+            Instant.now(),
+            auditContext.getCurrentUserId(),
+            action,
+            entityType.getSimpleName(),
+            entityId,
+            changedFields(request)
+        );
+        AfterCommit.run(() -> enqueue(event));
+    }
+
+    private void enqueue(AuditEvent event) {
+        if (buffer.offer(event)) {
+            if (buffer.size() >= batchSize) LockSupport.unpark(writer);
+            return;
+        }
+
+        LockSupport.unpark(writer);
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (System.nanoTime() - deadline < 0) {
+                LockSupport.parkNanos(BLOCK_BACKOFF_NANOS);
+                if (buffer.offer(event)) return;
+            }
+        }
+        dropped.increment();
+    }
+
+    private void writeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            buffer.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                if (running) LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setObject(1, OffsetDateTime.ofInstant(event.occurredAt(), ZoneOffset.UTC));
+                if (event.actorUserId() != null) ps.setLong(2, event.actorUserId());
+                else ps.setNull(2, Types.BIGINT);
+                ps.setString(3, event.action().name());
+                ps.setString(4, event.entityType());
+                if (event.entityId() != null) ps.setLong(5, event.entityId());
+                else ps.setNull(5, Types.BIGINT);
+                ps.setArray(6, ps.getConnection().createArrayOf("text", event.changedFields().toArray()));
+            });
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.warn("Could not write {} audit events", batch.size(), e);
+        }
+    }
+
+    /**
+     * Names of the components of {@code request} that are not {@code null}.
+     */
+    private static List<String> changedFields(Record request) {
+        if (request == null) return List.of();
+        List<String> fields = new ArrayList<>();
+        for (RecordComponent component : RECORD_COMPONENTS.get(request.getClass())) {
+            try {
+                if (component.getAccessor().invoke(request) != null) fields.add(component.getName());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot read " + component.getName() + " of " + request.getClass(), e);
+            }
+        }
+        return List.copyOf(fields);
+    }
+}
@@ -7,11 +7,11 @@ import is.hi.hbv501gteam23.Persistence.dto.UserDto;
 import is.hi.hbv501gteam23.Persistence.enums.SystemRole;
 import is.hi.hbv501gteam23.Security.CustomUserDetails;
 import is.hi.hbv501gteam23.Security.JwtTokenProvider;
+import is.hi.hbv501gteam23.Security.PasswordHashingService;
 import is.hi.hbv501gteam23.Services.Interfaces.AuthService;
 import is.hi.hbv501gteam23.Services.Interfaces.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
@@ -25,7 +25,7 @@ import java.time.LocalDateTime;
 public class AuthServiceImplementation implements AuthService {
     private final AuthRepository authRepository;
     private final UserService userService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
 
     /**
@@ -41,7 +41,7 @@ public class AuthServiceImplementation implements AuthService {
         User user = userService.findByEmail(email)
             .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
 
-        if (user == null || !passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (user == null || !passwordHashingService.matches(password, user.getPasswordHash())) {
             throw new BadCredentialsException("Invalid email or password");
         }
         CustomUserDetails userDetails = new CustomUserDetails(user);
@@ -67,7 +67,7 @@ public class AuthServiceImplementation implements AuthService {
         user.setName(request.username());
         user.setGender(request.gender());
         user.setRole(SystemRole.USER);
-        user.setPasswordHash(passwordEncoder.encode(request.password()));
+        user.setPasswordHash(passwordHashingService.encode(request.password()));
         user.setCreatedAt(LocalDateTime.now());
         user.setActive(true);
 
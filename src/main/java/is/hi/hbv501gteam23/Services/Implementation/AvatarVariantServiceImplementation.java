@@ -0,0 +1,220 @@
+package is.hi.hbv501gteam23.Services.Implementation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import is.hi.hbv501gteam23.Services.Interfaces.AvatarStorageService;
+import is.hi.hbv501gteam23.Services.Interfaces.AvatarVariantService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link AvatarVariantService} that resizes avatars on a small, bounded worker pool.
+ * <p>
+ * Each original is decoded once and scaled down to every configured size, center-cropped to a
+ * square. Opaque images are encoded as JPEG, images with transparency as PNG. The JDK ships
+ * no WebP encoder, so JPEG at {@code avatar.variants.jpeg-quality} is used as the compact format.
+ */
+@Slf4j
+@Service
+public class AvatarVariantServiceImplementation implements AvatarVariantService {
+    private final AvatarStorageService avatarStorageService;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final int[] sizes;
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    public AvatarVariantServiceImplementation(
+        AvatarStorageService avatarStorageService,
+        MeterRegistry meterRegistry,
+        @Value("${avatar.variants.sizes:64,128,256}") int[] sizes,
+        @Value("${avatar.variants.threads:2}") int threads,
+        @Value("${avatar.variants.queue-capacity:100}") int queueCapacity,
+        @Value("${avatar.variants.jpeg-quality:0.8}") float jpegQuality,
+        @Value("${avatar.variants.max-pixels:40000000}") long maxPixels
+    ) {
+        this.avatarStorageService = avatarStorageService;
+        this.sizes = Arrays.stream(sizes).filter(s -> s > 0).sorted().distinct().toArray();
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+                Thread t = new Thread(r, "avatar-variants-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                t.setPriority(Thread.NORM_PRIORITY - 1);
+                return t;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("avatar.variants.queue.depth", executor, e -> e.getQueue().size())
+            .description("Avatars waiting for their variants to be generated")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void generate(String hash) {
+        if (hash == null || sizes.length == 0 || !pending.add(hash)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    generateNow(hash);
+                } catch (Exception e) {
+                    log.warn("Could not generate variants of avatar blob {}", hash, e);
+                } finally {
+                    pending.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(hash);
+            log.debug("Avatar variant queue full, skipping {}", hash);
+        }
+    }
+
+    @Override
+    public Resource find(String hash, int size) {
+        Integer variantSize = variantSizeFor(size);
+        if (variantSize == null) return null;
+
+        Resource variant = avatarStorageService.loadVariant(hash, variantSize);
+        if (variant == null) generate(hash);
+        return variant;
+    }
+
+    private Integer variantSizeFor(int size) {
+        for (int s : sizes) {
+            if (s >= size) return s;
+        }
+        return null;
+    }
+
+    private void generateNow(String hash) throws IOException {
+        Resource original = avatarStorageService.load(hash);
+        if (original == null) return;
+
+        BufferedImage source;
+        try (InputStream in = original.getInputStream()) {
+            source = decode(in);
+        }
+        if (source == null) return;
+
+        BufferedImage square = cropToSquare(source);
+        boolean alpha = square.getColorModel().hasAlpha();
+        String extension = alpha ? "png" : "jpg";
+
+        // Largest first, each step scales from the previous one to keep downscaling smooth
+        BufferedImage current = square;
+        for (int i = sizes.length - 1; i >= 0; i--) {
+            int size = sizes[i];
+            current = scale(current, Math.min(size, square.getWidth()), alpha);
+            avatarStorageService.storeVariant(hash, size, extension, encode(current, alpha));
+        }
+    }
+
+    /**
+     * Decodes an image after checking its dimensions, so a small file that expands to a huge
+     * bitmap does not exhaust the heap.
+     */
+    private BufferedImage decode(InputStream in) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) throw new IOException("Image too large: " + pixels + " pixels");
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage cropToSquare(BufferedImage image) {
+        int edge = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - edge) / 2;
+        int y = (image.getHeight() - edge) / 2;
+        return image.getSubimage(x, y, edge, edge);
+    }
+
+    /**
+     * Scales a square image down to {@code target} pixels, halving at most once per pass
+     * so bilinear interpolation does not skip source pixels.
+     */
+    private static BufferedImage scale(BufferedImage image, int target, boolean alpha) {
+        BufferedImage current = image;
+        int edge = image.getWidth();
+        do {
+            edge = Math.max(target, edge / 2);
+            BufferedImage next = new BufferedImage(edge, edge, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, edge, edge, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (edge > target);
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image, boolean alpha) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (alpha) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
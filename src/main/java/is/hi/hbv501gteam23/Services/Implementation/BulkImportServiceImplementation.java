@@ -0,0 +1,416 @@
+package is.hi.hbv501gteam23.Services.Implementation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import is.hi.hbv501gteam23.Config.ChangeVersions;
+import is.hi.hbv501gteam23.Config.ChangeVersions.Resource;
+import is.hi.hbv501gteam23.Config.CountryRegistry;
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Entities.Player;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Repositories.MatchRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.PlayerRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.TeamRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.VenueRepository;
+import is.hi.hbv501gteam23.Persistence.dto.ImportDto;
+import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
+import is.hi.hbv501gteam23.Persistence.dto.PlayerDto;
+import is.hi.hbv501gteam23.Persistence.dto.TeamDto;
+import is.hi.hbv501gteam23.Persistence.enums.AuditAction;
+import is.hi.hbv501gteam23.Persistence.enums.ImportFormat;
+import is.hi.hbv501gteam23.Services.Interfaces.AuditService;
+import is.hi.hbv501gteam23.Services.Interfaces.BulkImportService;
+import is.hi.hbv501gteam23.Services.Interfaces.StandingsService;
+import is.hi.hbv501gteam23.Services.Interfaces.StatisticsService;
+import is.hi.hbv501gteam23.Utils.ImportReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports matches, players and teams in chunks.
+ * <p>
+ * Rows are read from the upload one at a time and written {@code bulk-import.chunk-size} at a
+ * time, each chunk in its own transaction. Within a chunk, every team, venue and name that the
+ * rows refer to is checked with one IN-list query per kind, countries come from the
+ * {@link CountryRegistry}, ids come from pooled sequences and the inserts are sent as JDBC
+ * batches. Invalid rows are skipped and reported; if the database rejects a chunk, its rows
+ * are retried one by one so only the offending rows fail. If the upload turns out to be
+ * malformed or too large part way through, the rows read so far are still imported and the
+ * report says why reading stopped. Every imported row is audited like a single create.
+ */
+@Slf4j
+@Service
+public class BulkImportServiceImplementation implements BulkImportService {
+    private final MatchRepository matchRepository;
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final VenueRepository venueRepository;
+    private final CountryRegistry countryRegistry;
+    private final ChangeVersions changeVersions;
+    private final StandingsService standingsService;
+    private final StatisticsService statisticsService;
+    private final AuditService auditService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxRows;
+    private final int maxErrors;
+
+    public BulkImportServiceImplementation(
+        MatchRepository matchRepository,
+        PlayerRepository playerRepository,
+        TeamRepository teamRepository,
+        VenueRepository venueRepository,
+        CountryRegistry countryRegistry,
+        ChangeVersions changeVersions,
+        StandingsService standingsService,
+        StatisticsService statisticsService,
+        AuditService auditService,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        @Value("${bulk-import.chunk-size:500}") int chunkSize,
+        @Value("${bulk-import.max-rows:100000}") int maxRows,
+        @Value("${bulk-import.max-errors:1000}") int maxErrors
+    ) {
+        this.matchRepository = matchRepository;
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.venueRepository = venueRepository;
+        this.countryRegistry = countryRegistry;
+        this.changeVersions = changeVersions;
+        this.standingsService = standingsService;
+        this.statisticsService = statisticsService;
+        this.auditService = auditService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public ImportDto.ImportReport importMatches(InputStream in, ImportFormat format) throws IOException {
+        return importRows(in, format, MatchDto.CreateMatchRequest.class, this::writeMatches);
+    }
+
+    @Override
+    public ImportDto.ImportReport importPlayers(InputStream in, ImportFormat format) throws IOException {
+        return importRows(in, format, PlayerDto.CreatePlayerRequest.class, this::writePlayers);
+    }
+
+    @Override
+    public ImportDto.ImportReport importTeams(InputStream in, ImportFormat format) throws IOException {
+        return importRows(in, format, TeamDto.CreateTeamRequest.class, this::writeTeams);
+    }
+
+    private <T> ImportDto.ImportReport importRows(InputStream in, ImportFormat format, Class<T> rowType, ChunkWriter<T> writer) throws IOException {
+        Report report = new Report(maxErrors);
+        List<Row<T>> chunk = new ArrayList<>(chunkSize);
+
+        try {
+            ImportReader.read(in, format, rowType, objectMapper, maxRows, new ImportReader.RowHandler<T>() {
+                @Override
+                public void row(int row, T value) {
+                    report.received++;
+                    chunk.add(new Row<>(row, value));
+                    if (chunk.size() >= chunkSize) {
+                        writeChunk(chunk, writer, report);
+                        chunk.clear();
+                    }
+                }
+
+                @Override
+                public void error(int row, String message) {
+                    report.received++;
+                    report.fail(row, message);
+                }
+            });
+        } catch (ResponseStatusException e) {
+            // Nothing has been read, so there is no report to return
+            if (report.received == 0) throw e;
+            // Earlier chunks are committed, so report them and what stopped the import
+            report.stoppedEarly = e.getReason();
+        } catch (IOException e) {
+            if (report.received == 0) throw e;
+            report.stoppedEarly = "Upload could not be read: " + e.getMessage();
+        }
+        if (!chunk.isEmpty()) writeChunk(chunk, writer, report);
+
+        if (report.imported > 0) statisticsService.requestRefresh();
+        return report.toResponse();
+    }
+
+    /**
+     * Writes a chunk in one transaction. If the database rejects it, the rows are written
+     * one by one so the report names the rows that failed.
+     */
+    private <T> void writeChunk(List<Row<T>> rows, ChunkWriter<T> writer, Report report) {
+        Report chunkReport = new Report(maxErrors);
+        try {
+            transactionTemplate.executeWithoutResult(status -> writer.write(rows, chunkReport));
+            report.merge(chunkReport);
+        } catch (RuntimeException e) {
+            if (rows.size() == 1) {
+                report.fail(rows.get(0).number(), describe(e));
+                return;
+            }
+            log.debug("Import chunk of {} rows rejected, retrying row by row", rows.size(), e);
+            for (Row<T> row : rows) writeChunk(List.of(row), writer, report);
+        }
+    }
+
+    private void writeMatches(List<Row<MatchDto.CreateMatchRequest>> rows, Report report) {
+        Set<Long> teamIds = new HashSet<>();
+        Set<Long> venueIds = new HashSet<>();
+        for (Row<MatchDto.CreateMatchRequest> row : rows) {
+            MatchDto.CreateMatchRequest body = row.value();
+            if (body.homeTeamId() != null) teamIds.add(body.homeTeamId());
+            if (body.awayTeamId() != null) teamIds.add(body.awayTeamId());
+            if (body.venueId() != null) venueIds.add(body.venueId());
+        }
+        Set<Long> existingTeams = teamIds.isEmpty() ? Set.of() : teamRepository.findExistingIds(teamIds);
+        Set<Long> existingVenues = venueIds.isEmpty() ? Set.of() : venueRepository.findExistingIds(venueIds);
+
+        List<Match> matches = new ArrayList<>(rows.size());
+        List<MatchDto.CreateMatchRequest> accepted = new ArrayList<>(rows.size());
+        for (Row<MatchDto.CreateMatchRequest> row : rows) {
+            MatchDto.CreateMatchRequest body = row.value();
+            String error = validateMatch(body, existingTeams, existingVenues);
+            if (error != null) {
+                report.fail(row.number(), error);
+                continue;
+            }
+
+            Match m = new Match();
+            m.setHomeTeam(teamRepository.getReferenceById(body.homeTeamId()));
+            m.setAwayTeam(teamRepository.getReferenceById(body.awayTeamId()));
+            m.setVenue(venueRepository.getReferenceById(body.venueId()));
+            m.setMatchDate(body.matchDate());
+            m.setHomeGoals(body.homeGoals() != null ? body.homeGoals() : 0);
+            m.setAwayGoals(body.awayGoals() != null ? body.awayGoals() : 0);
+            matches.add(m);
+            accepted.add(body);
+        }
+        if (matches.isEmpty()) return;
+
+        matchRepository.saveAll(matches);
+        matchRepository.flush();
+        changeVersions.bump(Resource.MATCHES);
+        standingsService.matchesAdded(matches.stream().map(StandingsService.MatchResult::of).toList());
+        auditCreated(Match.class, matches, Match::getId, accepted);
+        report.imported += matches.size();
+    }
+
+    private static String validateMatch(MatchDto.CreateMatchRequest body, Set<Long> existingTeams, Set<Long> existingVenues) {
+        if (body.homeTeamId() == null) return "homeTeamId is required";
+        if (body.awayTeamId() == null) return "awayTeamId is required";
+        if (body.venueId() == null) return "venueId is required";
+        if (body.matchDate() == null) return "matchDate is required";
+        if (body.homeTeamId().equals(body.awayTeamId())) return "homeTeamId and awayTeamId must be different";
+        if (body.homeGoals() != null && body.homeGoals() < 0) return "homeGoals must be >= 0";
+        if (body.awayGoals() != null && body.awayGoals() < 0) return "awayGoals must be >= 0";
+        if (!existingTeams.contains(body.homeTeamId())) return "Home team " + body.homeTeamId() + " not found";
+        if (!existingTeams.contains(body.awayTeamId())) return "Away team " + body.awayTeamId() + " not found";
+        if (!existingVenues.contains(body.venueId())) return "Venue " + body.venueId() + " not found";
+        return null;
+    }
+
+    private void writePlayers(List<Row<PlayerDto.CreatePlayerRequest>> rows, Report report) {
+        Set<Long> teamIds = rows.stream()
+            .map(row -> row.value().teamId())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<Long> existingTeams = teamIds.isEmpty() ? Set.of() : teamRepository.findExistingIds(teamIds);
+        Set<String> takenNames = new HashSet<>(findTakenNames(rows, r -> r.name(), playerRepository::findExistingLowerNames));
+
+        List<Player> players = new ArrayList<>(rows.size());
+        List<PlayerDto.CreatePlayerRequest> accepted = new ArrayList<>(rows.size());
+        for (Row<PlayerDto.CreatePlayerRequest> row : rows) {
+            PlayerDto.CreatePlayerRequest body = row.value();
+            String name = body.name() == null ? null : body.name().trim();
+            String error = validatePlayer(body, name, existingTeams);
+            if (error == null && takenNames.contains(name.toLowerCase(Locale.ROOT))) error = "Player " + name + " already exists";
+            if (error != null) {
+                report.fail(row.number(), error);
+                continue;
+            }
+
+            Player p = new Player();
+            try {
+                p.setCountry(countryRegistry.resolve(body.country()));
+            } catch (IllegalArgumentException | ResponseStatusException e) {
+                report.fail(row.number(), describe(e));
+                continue;
+            }
+            // Only a row that will be written reserves its name
+            takenNames.add(name.toLowerCase(Locale.ROOT));
+            p.setName(name);
+            p.setDateOfBirth(body.dateOfBirth());
+            p.setPosition(body.position());
+            p.setGoals(body.goals() != null ? body.goals() : 0);
+            if (body.isActive() != null) p.setActive(body.isActive());
+            if (body.teamId() != null) p.setTeam(teamRepository.getReferenceById(body.teamId()));
+            players.add(p);
+            accepted.add(body);
+        }
+        if (players.isEmpty()) return;
+
+        playerRepository.saveAll(players);
+        playerRepository.flush();
+        changeVersions.bump(Resource.PLAYERS);
+        auditCreated(Player.class, players, Player::getId, accepted);
+        report.imported += players.size();
+    }
+
+    private static String validatePlayer(PlayerDto.CreatePlayerRequest body, String name, Set<Long> existingTeams) {
+        if (name == null || name.isBlank()) return "Player name is required";
+        if (body.dateOfBirth() == null) return "dateOfBirth is required";
+        if (body.dateOfBirth().isAfter(LocalDate.now())) return "dateOfBirth cannot be in the future";
+        if (body.goals() != null && body.goals() < 0) return "goals must be >= 0";
+        if (body.position() == null) return "position is required";
+        if (body.teamId() != null && !existingTeams.contains(body.teamId())) return "Team " + body.teamId() + " not found";
+        return null;
+    }
+
+    private void writeTeams(List<Row<TeamDto.CreateTeamRequest>> rows, Report report) {
+        Set<Long> venueIds = rows.stream()
+            .map(row -> row.value().venueId())
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<Long> existingVenues = venueIds.isEmpty() ? Set.of() : venueRepository.findExistingIds(venueIds);
+        Set<String> takenNames = new HashSet<>(findTakenNames(rows, r -> r.name(), teamRepository::findExistingLowerNames));
+
+        List<Team> teams = new ArrayList<>(rows.size());
+        List<TeamDto.CreateTeamRequest> accepted = new ArrayList<>(rows.size());
+        for (Row<TeamDto.CreateTeamRequest> row : rows) {
+            TeamDto.CreateTeamRequest body = row.value();
+            String name = body.name() == null ? null : body.name().trim();
+            String error = null;
+            if (name == null || name.isBlank()) error = "name is required";
+            else if (body.country() == null) error = "country is required";
+            else if (body.venueId() != null && !existingVenues.contains(body.venueId())) error = "Venue " + body.venueId() + " not found";
+            else if (takenNames.contains(name.toLowerCase(Locale.ROOT))) error = "Team with name already exists";
+            if (error != null) {
+                report.fail(row.number(), error);
+                continue;
+            }
+
+            Team t = new Team();
+            try {
+                t.setCountry(countryRegistry.resolve(body.country()));
+            } catch (IllegalArgumentException | ResponseStatusException e) {
+                report.fail(row.number(), describe(e));
+                continue;
+            }
+            takenNames.add(name.toLowerCase(Locale.ROOT));
+            t.setName(name);
+            t.setActive(true);
+            if (body.venueId() != null) t.setVenue(venueRepository.getReferenceById(body.venueId()));
+            teams.add(t);
+            accepted.add(body);
+        }
+        if (teams.isEmpty()) return;
+
+        teamRepository.saveAll(teams);
+        teamRepository.flush();
+        changeVersions.bump(Resource.TEAMS);
+        auditCreated(Team.class, teams, Team::getId, accepted);
+        report.imported += teams.size();
+    }
+
+    /**
+     * Records a {@code CREATE} audit event for every row of the chunk. The events are queued
+     * once the chunk commits, like those of single creates, and dropped if it rolls back.
+     */
+    private <E> void auditCreated(Class<E> type, List<E> entities, Function<E, Long> id, List<? extends Record> requests) {
+        for (int i = 0; i < entities.size(); i++) {
+            auditService.record(AuditAction.CREATE, type, id.apply(entities.get(i)), requests.get(i));
+        }
+    }
+
+    /**
+     * Looks up which names in the chunk are already taken, with one query.
+     */
+    private static <T> Set<String> findTakenNames(
+        List<Row<T>> rows,
+        Function<T, String> name,
+        Function<Set<String>, Set<String>> lookup
+    ) {
+        Set<String> names = rows.stream()
+            .map(row -> name.apply(row.value()))
+            .filter(n -> n != null && !n.isBlank())
+            .map(n -> n.trim().toLowerCase(Locale.ROOT))
+            .collect(Collectors.toSet());
+        return names.isEmpty() ? Set.of() : lookup.apply(names);
+    }
+
+    private static String describe(Exception e) {
+        if (e instanceof ResponseStatusException rse) return rse.getReason();
+        if (e instanceof DataIntegrityViolationException) {
+            return "Rejected by the database: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        }
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    /**
+     * Writes one chunk of rows inside a transaction, recording rejected rows in the report.
+     */
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<Row<T>> rows, Report report);
+    }
+
+    private record Row<T>(int number, T value) {}
+
+    /**
+     * Mutable tally behind {@link ImportDto.ImportReport}.
+     */
+    private static final class Report {
+        private final int maxErrors;
+        private final List<ImportDto.RowError> errors = new ArrayList<>();
+        private int received;
+        private int imported;
+        private int failed;
+        private String stoppedEarly;
+
+        Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(int row, String message) {
+            failed++;
+            if (errors.size() < maxErrors) errors.add(new ImportDto.RowError(row, message));
+        }
+
+        void merge(Report other) {
+            imported += other.imported;
+            // Rows the other report counted but could not list are counted here too
+            failed += other.failed - other.errors.size();
+            for (ImportDto.RowError error : other.errors) fail(error.row(), error.message());
+        }
+
+        ImportDto.ImportReport toResponse() {
+            List<ImportDto.RowError> sorted = errors.stream()
+                .sorted(Comparator.comparingInt(ImportDto.RowError::row))
+                .toList();
+            return new ImportDto.ImportReport(received, imported, failed, sorted, failed > errors.size(), stoppedEarly);
+        }
+    }
+}
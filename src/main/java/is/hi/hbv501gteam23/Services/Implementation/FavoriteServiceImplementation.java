@@ -1,11 +1,11 @@
 package is.hi.hbv501gteam23.Services.Implementation;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import is.hi.hbv501gteam23.Persistence.Entities.Favorite;
-import is.hi.hbv501gteam23.Persistence.Entities.Match;
-import is.hi.hbv501gteam23.Persistence.Entities.Player;
-import is.hi.hbv501gteam23.Persistence.Entities.Team;
 import is.hi.hbv501gteam23.Persistence.Repositories.*;
 import is.hi.hbv501gteam23.Persistence.dto.FavoriteDto;
+import is.hi.hbv501gteam23.Persistence.dto.NameView;
 import is.hi.hbv501gteam23.Persistence.enums.FavoriteType;
 import is.hi.hbv501gteam23.Services.Interfaces.FavoriteService;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +13,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for handling favorite items.
@@ -28,6 +32,7 @@ public class FavoriteServiceImplementation implements FavoriteService {
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
     private final AuthRepository authRepository;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Adds a new favorite item for the given user and entity.
@@ -54,7 +59,8 @@ public class FavoriteServiceImplementation implements FavoriteService {
         f.setEntityId(entityId);
 
         Favorite saved = favoriteRepository.save(f);
-        return toResponse(saved);
+        countChange(type, "add");
+        return toResponses(List.of(saved)).get(0);
     }
 
     /**
@@ -70,6 +76,19 @@ public class FavoriteServiceImplementation implements FavoriteService {
         var existing = favoriteRepository.findByUserIdAndEntityTypeAndEntityId(userId, type, entityId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Favorite not found"));
         favoriteRepository.delete(existing);
+        countChange(type, "remove");
+    }
+
+    /**
+     * Counts a favorite being added or removed, tagged with its {@link FavoriteType}.
+     */
+    private void countChange(FavoriteType type, String operation) {
+        Counter.builder("favorites.changes")
+                .description("Favorites added or removed")
+                .tag("type", type.name())
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
     }
 
     /**
@@ -81,9 +100,7 @@ public class FavoriteServiceImplementation implements FavoriteService {
     @Override
     @Transactional(readOnly = true)
     public List<FavoriteDto.FavoriteResponse> listAllForUser(Long userId) {
-        return favoriteRepository.findByUserId(userId).stream()
-                .map(this::toResponse)
-                .toList();
+        return toResponses(favoriteRepository.findByUserId(userId));
     }
 
     /**
@@ -96,35 +113,54 @@ public class FavoriteServiceImplementation implements FavoriteService {
     @Override
     @Transactional(readOnly = true)
     public List<FavoriteDto.FavoriteResponse> listForUserAndType(Long userId, FavoriteType type) {
-        return favoriteRepository.findByUserIdAndEntityType(userId, type).stream()
-                .map(this::toResponse)
-                .toList();
+        return toResponses(favoriteRepository.findByUserIdAndEntityType(userId, type));
     }
 
     /**
-     * Maps a {@link Favorite} entity to a {@link FavoriteDto.FavoriteResponse} DTO.
+     * Maps {@link Favorite} entities to {@link FavoriteDto.FavoriteResponse} DTOs.
+     * <p>
+     * Favorites are grouped by {@link FavoriteType} and the display names of each group are
+     * resolved with a single IN-list query, so the number of queries does not grow with the
+     * number of favorites.
      *
-     * @param f the favorite entity to map
-     * @return the mapped {@link FavoriteDto.FavoriteResponse}
+     * @param favorites the favorite entities to map
+     * @return the mapped responses, in the same order as {@code favorites}
      */
-    private FavoriteDto.FavoriteResponse toResponse(Favorite f) {
-        Object entity = switch (f.getEntityType()) {
-            case MATCH  -> matchRepository.findById(f.getEntityId()).orElse(null);
-            case PLAYER -> playerRepository.findById(f.getEntityId()).orElse(null);
-            case TEAM   -> teamRepository.findById(f.getEntityId()).orElse(null);
-        };
+    private List<FavoriteDto.FavoriteResponse> toResponses(List<Favorite> favorites) {
+        Map<FavoriteType, Set<Long>> idsByType = favorites.stream()
+                .collect(Collectors.groupingBy(
+                        Favorite::getEntityType,
+                        () -> new EnumMap<>(FavoriteType.class),
+                        Collectors.mapping(Favorite::getEntityId, Collectors.toSet())
+                ));
 
-        String name = switch (f.getEntityType()) {
-            case MATCH -> entity instanceof Match m ? m.getHomeTeam().getName() + " vs " + m.getAwayTeam().getName() : "Unknown Match";
-            case PLAYER -> entity instanceof Player p ? p.getName() : "Unknown Player";
-            case TEAM -> entity instanceof Team t ? t.getName() : "Unknown Team";
-        };
+        Map<FavoriteType, Map<Long, String>> namesByType = new EnumMap<>(FavoriteType.class);
+        idsByType.forEach((type, ids) -> namesByType.put(type, findNames(type, ids)));
 
-        return new FavoriteDto.FavoriteResponse(
-                f.getId(),
-                f.getEntityType(),
-                f.getEntityId(),
-                name
-        );
+        return favorites.stream()
+                .map(f -> new FavoriteDto.FavoriteResponse(
+                        f.getId(),
+                        f.getEntityType(),
+                        f.getEntityId(),
+                        namesByType.get(f.getEntityType())
+                                .getOrDefault(f.getEntityId(), "Unknown " + f.getEntityType().getLabel())
+                ))
+                .toList();
+    }
+
+    /**
+     * Looks up the display names of the given entities of one type.
+     *
+     * @param type the type of the entities
+     * @param ids  the ids of the entities
+     * @return display names keyed by entity id; entities that no longer exist are absent
+     */
+    private Map<Long, String> findNames(FavoriteType type, Set<Long> ids) {
+        List<NameView> names = switch (type) {
+            case MATCH  -> matchRepository.findNamesByIdIn(ids);
+            case PLAYER -> playerRepository.findNamesByIdIn(ids);
+            case TEAM   -> teamRepository.findNamesByIdIn(ids);
+        };
+        return names.stream().collect(Collectors.toMap(NameView::getId, NameView::getName));
     }
 }
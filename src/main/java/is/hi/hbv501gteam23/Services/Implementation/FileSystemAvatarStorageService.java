@@ -0,0 +1,204 @@
+package is.hi.hbv501gteam23.Services.Implementation;
+
+import is.hi.hbv501gteam23.Services.Interfaces.AvatarStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * {@link AvatarStorageService} that keeps blobs on the local filesystem.
+ * <p>
+ * A blob with hash {@code abcd...} is stored at {@code <root>/ab/abcd...}. Uploads are written
+ * to a temporary file under {@code <root>/.tmp} while being hashed, then atomically moved into
+ * place, so readers never see a partially written blob. Resized variants live next to the
+ * originals at {@code <root>/variants/<size>/ab/abcd....<ext>}.
+ * <p>
+ * Deleting an unreferenced blob and re-checking a blob after a new reference commits share a
+ * lock per hash (striped), so an upload of the same content that raced a delete puts the blob
+ * back instead of leaving its image pointing at nothing.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "avatar.storage.type", havingValue = "filesystem", matchIfMissing = true)
+public class FileSystemAvatarStorageService implements AvatarStorageService {
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final List<String> VARIANT_EXTENSIONS = List.of("jpg", "png");
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    private final Path tmp;
+    private final Path variants;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public FileSystemAvatarStorageService(@Value("${avatar.storage.root:./data/avatars}") String root) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tmp = this.root.resolve(".tmp");
+        this.variants = this.root.resolve("variants");
+        Files.createDirectories(tmp);
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new ReentrantLock();
+    }
+
+    @Override
+    public StoredBlob store(InputStream in) throws IOException {
+        Path temp = Files.createTempFile(tmp, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long length;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                length = in.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            Path target = pathOf(hash);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                moveIntoPlace(temp, target);
+            }
+            return new StoredBlob(hash, length);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void ensureStored(String hash, InputStreamSource content) throws IOException {
+        ReentrantLock lock = lockFor(hash);
+        lock.lock();
+        try {
+            if (Files.exists(pathOf(hash))) return;
+            StoredBlob restored;
+            try (InputStream in = content.getInputStream()) {
+                restored = store(in);
+            }
+            if (!restored.hash().equals(hash)) {
+                throw new IOException("Content of avatar blob " + hash + " hashed to " + restored.hash());
+            }
+            log.info("Restored avatar blob {} deleted while a new reference was committed", hash);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Resource load(String hash) {
+        Path path = pathOf(hash);
+        return Files.isRegularFile(path) ? new FileSystemResource(path) : null;
+    }
+
+    @Override
+    public void storeVariant(String hash, int size, String extension, byte[] content) throws IOException {
+        if (!VARIANT_EXTENSIONS.contains(extension)) {
+            throw new IllegalArgumentException("Unsupported variant extension: " + extension);
+        }
+
+        Path target = variantPathOf(hash, size, extension);
+        Path temp = Files.createTempFile(tmp, "variant-", ".part");
+        try {
+            Files.write(temp, content);
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Resource loadVariant(String hash, int size) {
+        for (String extension : VARIANT_EXTENSIONS) {
+            Path path = variantPathOf(hash, size, extension);
+            if (Files.isRegularFile(path)) return new FileSystemResource(path);
+        }
+        return null;
+    }
+
+    @Override
+    public void deleteIfUnreferenced(String hash, BooleanSupplier referenced) {
+        ReentrantLock lock = lockFor(hash);
+        lock.lock();
+        try {
+            if (!referenced.getAsBoolean()) delete(hash);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void delete(String hash) {
+        try {
+            Files.deleteIfExists(pathOf(hash));
+        } catch (IOException e) {
+            log.warn("Could not delete avatar blob {}", hash, e);
+        }
+
+        if (!Files.isDirectory(variants)) return;
+        try (Stream<Path> sizes = Files.list(variants)) {
+            for (Path sizeDir : sizes.toList()) {
+                for (String extension : VARIANT_EXTENSIONS) {
+                    Files.deleteIfExists(sizeDir.resolve(hash.substring(0, 2)).resolve(hash + "." + extension));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete variants of avatar blob {}", hash, e);
+        }
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Same content was stored concurrently
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private ReentrantLock lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private Path pathOf(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid blob hash: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path variantPathOf(String hash, int size, String extension) {
+        Path original = pathOf(hash);
+        return variants.resolve(Integer.toString(size))
+            .resolve(original.getParent().getFileName())
+            .resolve(hash + "." + extension);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package is.hi.hbv501gteam23.Services.Implementation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Repositories.MatchRepository;
+import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
+import is.hi.hbv501gteam23.Services.Interfaces.LiveScoreService;
+import is.hi.hbv501gteam23.Utils.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Fans score changes out to server-sent event streams, in this instance only.
+ * <p>
+ * Each subscriber keeps the latest unsent score per followed match, so its buffer never holds
+ * more than one entry per match and a newer score replaces one the client has not read yet.
+ * Replaced scores are counted in {@code live.updates.dropped}. Publishing only updates these
+ * buffers; the writes to the client run on a virtual thread per subscriber, at most one at a
+ * time, so a slow client holds up nobody but itself.
+ * <p>
+ * At most {@code live.max-subscribers} streams are open at once, further ones are answered
+ * with 503. Deleting a match ends the streams following it. Streams end after {@code live.stream-timeout} and get a comment every
+ * {@code live.heartbeat-interval}, so connections that died silently are noticed.
+ */
+@Slf4j
+@Service
+public class LiveScoreServiceImplementation implements LiveScoreService {
+    private static final String SCORE_EVENT = "score";
+
+    private final MatchRepository matchRepository;
+    private final int maxMatches;
+    private final long streamTimeoutMillis;
+    private final Semaphore slots;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Subscriber>> subscribersByMatch = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("live-score-sender-", 0).factory());
+    private final Counter sent;
+    private final Counter dropped;
+
+    public LiveScoreServiceImplementation(
+        MatchRepository matchRepository,
+        MeterRegistry meterRegistry,
+        @Value("${live.max-subscribers:10000}") int maxSubscribers,
+        @Value("${live.max-matches:50}") int maxMatches,
+        @Value("${live.stream-timeout:30m}") Duration streamTimeout
+    ) {
+        this.matchRepository = matchRepository;
+        this.maxMatches = maxMatches;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        this.slots = new Semaphore(maxSubscribers);
+
+        Gauge.builder("live.subscribers", subscribers, Set::size)
+            .description("Open live score streams")
+            .register(meterRegistry);
+        this.sent = Counter.builder("live.updates.sent")
+            .description("Score events written to live score streams")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("live.updates.dropped")
+            .description("Scores replaced by a newer score before the subscriber read them")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the given matches.
+     * <p>
+     * The subscriber is registered before the current scores are read, and nothing is sent
+     * until they are queued, so a change committed in between is never lost or overwritten
+     * by an older score.
+     *
+     * @param matchIds the ids of the matches to follow
+     * @return the event stream
+     * @throws ResponseStatusException with status 400 if no ids or more than {@code live.max-matches} are given
+     * @throws ResponseStatusException with status 404 if a match does not exist
+     * @throws ResponseStatusException with status 503 if {@code live.max-subscribers} streams are open
+     */
+    @Override
+    public SseEmitter subscribe(List<Long> matchIds) {
+        List<Long> ids = matchIds == null ? List.of() : matchIds.stream().distinct().toList();
+        if (ids.isEmpty() || ids.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one match id is required");
+        }
+        if (ids.size() > maxMatches) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + maxMatches + " matches can be followed at once");
+        }
+        if (!slots.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many live streams, please try again shortly");
+        }
+
+        Subscriber subscriber = new Subscriber(newEmitter(), ids);
+        try {
+            subscriber.register();
+            List<Match> matches = matchRepository.findAllById(ids);
+            if (matches.size() < ids.size()) {
+                Set<Long> found = matches.stream().map(Match::getId).collect(Collectors.toSet());
+                Long missing = ids.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Match " + missing + " not found");
+            }
+            for (Match m : matches) {
+                // A score published since registering is newer than the one just read
+                subscriber.pending.putIfAbsent(m.getId(), new MatchDto.LiveScore(m.getId(), m.getHomeGoals(), m.getAwayGoals()));
+            }
+        } catch (RuntimeException e) {
+            subscriber.close();
+            throw e;
+        }
+        subscriber.start();
+        return subscriber.emitter;
+    }
+
+    @Override
+    public void publish(MatchDto.LiveScore score) {
+        AfterCommit.run(() -> {
+            Set<Subscriber> following = subscribersByMatch.get(score.matchId());
+            if (following == null) return;
+            for (Subscriber subscriber : following) {
+                subscriber.offer(score);
+            }
+        });
+    }
+
+    @Override
+    public void matchDeleted(Long matchId) {
+        AfterCommit.run(() -> {
+            Set<Subscriber> following = subscribersByMatch.get(matchId);
+            if (following == null) return;
+            for (Subscriber subscriber : following) {
+                // Closing first releases the slot and stops further sends before the stream ends
+                subscriber.close();
+                subscriber.emitter.complete();
+            }
+        });
+    }
+
+    /**
+     * Queues a comment on every stream. Writing to a connection the client dropped fails
+     * and closes the stream.
+     */
+    @Scheduled(
+        fixedDelayString = "${live.heartbeat-interval:15s}",
+        initialDelayString = "${live.heartbeat-interval:15s}"
+    )
+    void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeat();
+        }
+    }
+
+    /**
+     * Ends every stream, so clients reconnect to an instance that is still running.
+     */
+    @PreDestroy
+    void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        sender.shutdown();
+    }
+
+    /**
+     * Creates the emitter of a new stream. Tests override this to see what is written to it.
+     */
+    SseEmitter newEmitter() {
+        return new SseEmitter(streamTimeoutMillis);
+    }
+
+    /**
+     * One open stream and the scores waiting to be written to it.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final List<Long> matchIds;
+        /** Latest unsent score per followed match. */
+        private final Map<Long, MatchDto.LiveScore> pending = new ConcurrentHashMap<>();
+        /** Held while a send is queued or running. Starts held so nothing goes out before {@link #start()}. */
+        private final AtomicBoolean sending = new AtomicBoolean(true);
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean heartbeatDue;
+
+        Subscriber(SseEmitter emitter, List<Long> matchIds) {
+            this.emitter = emitter;
+            this.matchIds = matchIds;
+            emitter.onCompletion(this::close);
+            emitter.onError(e -> close());
+            emitter.onTimeout(emitter::complete);
+        }
+
+        void register() {
+            subscribers.add(this);
+            for (Long matchId : matchIds) {
+                // compute keeps this atomic with close() removing the last subscriber of a match
+                subscribersByMatch.compute(matchId, (id, set) -> {
+                    Set<Subscriber> following = set != null ? set : ConcurrentHashMap.newKeySet();
+                    following.add(this);
+                    return following;
+                });
+            }
+        }
+
+        void start() {
+            sending.set(false);
+            schedule();
+        }
+
+        void offer(MatchDto.LiveScore score) {
+            if (pending.put(score.matchId(), score) != null) dropped.increment();
+            schedule();
+        }
+
+        void heartbeat() {
+            heartbeatDue = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (closed.get() || !sending.compareAndSet(false, true)) return;
+            try {
+                sender.execute(this::send);
+            } catch (RejectedExecutionException e) {
+                // Shutting down, the stream is being completed
+                sending.set(false);
+            }
+        }
+
+        /**
+         * Writes everything pending, and keeps going while scores arrive during the write.
+         */
+        private void send() {
+            do {
+                try {
+                    for (Long matchId : matchIds) {
+                        MatchDto.LiveScore score = pending.remove(matchId);
+                        if (score == null) continue;
+                        emitter.send(SseEmitter.event().name(SCORE_EVENT).data(score));
+                        sent.increment();
+                    }
+                    if (heartbeatDue) {
+                        heartbeatDue = false;
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                } catch (IOException e) {
+                    log.debug("Live score stream closed by the client: {}", e.getMessage());
+                    close();
+                    emitter.completeWithError(e);
+                    return;
+                } catch (IllegalStateException e) {
+                    // The stream has already completed or timed out
+                    close();
+                    return;
+                }
+                sending.set(false);
+            } while (hasWork() && sending.compareAndSet(false, true));
+        }
+
+        private boolean hasWork() {
+            return !closed.get() && (heartbeatDue || !pending.isEmpty());
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) return;
+            subscribers.remove(this);
+            for (Long matchId : matchIds) {
+                subscribersByMatch.computeIfPresent(matchId, (id, following) -> {
+                    following.remove(this);
+                    return following.isEmpty() ? null : following;
+                });
+            }
+            slots.release();
+        }
+    }
+}
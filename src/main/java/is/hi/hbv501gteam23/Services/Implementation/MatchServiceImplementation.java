@@ -1,5 +1,7 @@
 package is.hi.hbv501gteam23.Services.Implementation;
 
+import is.hi.hbv501gteam23.Config.ChangeVersions;
+import is.hi.hbv501gteam23.Config.ChangeVersions.Resource;
 import is.hi.hbv501gteam23.Persistence.Entities.Match;
 import is.hi.hbv501gteam23.Persistence.Entities.Team;
 import is.hi.hbv501gteam23.Persistence.Entities.Venue;
@@ -8,17 +10,28 @@ import is.hi.hbv501gteam23.Persistence.Repositories.TeamRepository;
 import is.hi.hbv501gteam23.Persistence.Repositories.VenueRepository;
 import is.hi.hbv501gteam23.Persistence.Specifications.MatchSpecifications;
 import is.hi.hbv501gteam23.Persistence.Specifications.SpecificationBuilder;
+import is.hi.hbv501gteam23.Persistence.dto.CursorPage;
 import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
+import is.hi.hbv501gteam23.Persistence.enums.AuditAction;
+import is.hi.hbv501gteam23.Services.Interfaces.AuditService;
+import is.hi.hbv501gteam23.Services.Interfaces.LiveScoreService;
 import is.hi.hbv501gteam23.Services.Interfaces.MatchService;
+import is.hi.hbv501gteam23.Services.Interfaces.StandingsService;
+import is.hi.hbv501gteam23.Utils.KeysetCursor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -26,15 +39,102 @@ public class MatchServiceImplementation implements MatchService {
     private final MatchRepository matchRepository;
     private final TeamRepository teamRepository;
     private final VenueRepository venueRepository;
+    private final StandingsService standingsService;
+    private final ChangeVersions changeVersions;
+    private final AuditService auditService;
+    private final LiveScoreService liveScoreService;
+
+    private static final String VENUE_SLOT_CONSTRAINT = "matches_venue_slot_excl";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
 
     /**
      * Finds matches using optional filters.
+     * <p>
+     * Rows are selected straight into {@link MatchDto.MatchResponse} in one statement,
+     * so no {@link Match} entities or their teams and venue are loaded.
      *
      * @param filter  filter parameters for listing matches
-     * @return a list of {@link Match} entities matching the filters
+     * @return a list of {@link MatchDto.MatchResponse} matching the filters
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MatchDto.MatchResponse> findMatchFilter(MatchDto.MatchFilter filter) {
+        Specification<Match> spec = buildMatchSpecification(filter).build();
+        Sort sort = buildMatchSort(
+            filter != null ? filter.sortBy() : null,
+            filter != null ? filter.sortDir() : null
+        );
+        return matchRepository.findResponses(spec, sort);
+    }
+
+    /**
+     * Finds one page of matches using keyset (cursor) pagination.
+     * <p>
+     * Rows are ordered by the requested sort key with {@code match_id} as a tie-breaker,
+     * and the next page starts strictly after the last row of the previous one. Only
+     * {@code limit + 1} rows are read per call, so deep pages cost the same as the first.
+     *
+     * @param filter filter and sort parameters for listing matches
+     * @param cursor opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit  maximum number of matches to return
+     * @return a {@link CursorPage} of match rows and the cursor for the next page
+     * @throws ResponseStatusException with status 400 if the cursor is malformed or
+     *                                 was produced for a different sort order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<MatchDto.MatchResponse> findMatchPage(MatchDto.MatchFilter filter, String cursor, Integer limit) {
+        String sortKey = resolveMatchSortProperty(filter != null ? filter.sortBy() : null);
+        Sort.Direction direction = resolveDirection(filter != null ? filter.sortDir() : null);
+        boolean descending = direction == Sort.Direction.DESC;
+        int pageSize = (limit == null || limit < 1) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+
+        SpecificationBuilder<Match> builder = buildMatchSpecification(filter);
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor after = decodeCursor(cursor, sortKey, direction);
+            builder.and(MatchSpecifications.keysetAfter(sortKey, descending, parseSortValue(sortKey, after.value()), after.id()));
+        }
+        Specification<Match> spec = builder.build();
+
+        Sort sort = Sort.by(direction, sortKey);
+        if (!"id".equals(sortKey)) sort = sort.and(Sort.by(direction, "id"));
+        Sort pageSort = sort;
+
+        List<MatchDto.MatchResponse> rows = matchRepository.findResponses(spec, pageSort, pageSize + 1);
+
+        if (rows.size() <= pageSize) return new CursorPage<>(rows, null);
+
+        List<MatchDto.MatchResponse> page = rows.subList(0, pageSize);
+        MatchDto.MatchResponse last = page.get(pageSize - 1);
+        String next = new KeysetCursor(sortKey, direction.name(), last.id(), sortValueOf(sortKey, last)).encode();
+        return new CursorPage<>(List.copyOf(page), next);
+    }
+
+    /**
+     * Streams every match matching the filters to {@code sink}, in listing order.
+     * Rows are read through a forward-only cursor so memory use stays flat regardless of table size.
+     *
+     * @param filter filter and sort parameters for listing matches
+     * @param sink   receives each row as it is read
      */
     @Override
-    public List<Match> findMatchFilter(MatchDto.MatchFilter filter) {
+    @Transactional(readOnly = true)
+    public void exportMatches(MatchDto.MatchFilter filter, Consumer<MatchDto.MatchResponse> sink) {
+        Sort sort = buildMatchSort(
+            filter != null ? filter.sortBy() : null,
+            filter != null ? filter.sortDir() : null
+        );
+        try (Stream<MatchDto.MatchResponse> rows =
+                 matchRepository.streamResponses(buildMatchSpecification(filter).build(), sort)) {
+            rows.forEach(sink);
+        }
+    }
+
+    /**
+     * Builds the filter {@link Specification} shared by the match listings.
+     */
+    private SpecificationBuilder<Match> buildMatchSpecification(MatchDto.MatchFilter filter) {
         SpecificationBuilder<Match> builder = new SpecificationBuilder<>();
 
         if (filter != null) {
@@ -45,18 +145,17 @@ public class MatchServiceImplementation implements MatchService {
                     .and(MatchSpecifications.matchAwayTeamName(filter.awayTeamName()))
                     .and(MatchSpecifications.matchVenueName(filter.venueName()));
         }
-        Specification<Match> spec = builder.build();
-        Sort sort = buildMatchSort(
-            filter != null ? filter.sortBy() : null,
-            filter != null ? filter.sortDir() : null
-        );
-        return matchRepository.findAll(spec, sort);
+        return builder;
     }
 
     private Sort buildMatchSort(String sortBy, String sortDir) {
+        return Sort.by(resolveDirection(sortDir), resolveMatchSortProperty(sortBy));
+    }
+
+    private String resolveMatchSortProperty(String sortBy) {
         String key = sortBy == null ? "" : sortBy.trim();
 
-        String property = switch (key) {
+        return switch (key) {
             case "matchDate"    -> "matchDate";
             case "homeGoals"    -> "homeGoals";
             case "awayGoals"    -> "awayGoals";
@@ -65,13 +164,59 @@ public class MatchServiceImplementation implements MatchService {
             case "venueName"    -> "venue.name";
             default             -> "id";
         };
+    }
+
+    private Sort.Direction resolveDirection(String sortDir) {
+        if (sortDir == null) return Sort.Direction.ASC;
+        else if (sortDir.equalsIgnoreCase("desc")) return Sort.Direction.DESC;
+        else return Sort.Direction.ASC;
+    }
 
-        Sort.Direction direction;
-        if (sortDir == null) direction = Sort.Direction.ASC;
-        else if (sortDir.equalsIgnoreCase("desc")) direction = Sort.Direction.DESC;
-        else direction = Sort.Direction.ASC;
+    /**
+     * Decodes a cursor and checks that it belongs to the current sort order.
+     */
+    private KeysetCursor decodeCursor(String cursor, String sortKey, Sort.Direction direction) {
+        KeysetCursor decoded;
+        try {
+            decoded = KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+        if (!sortKey.equals(decoded.sortKey()) || !direction.name().equals(decoded.direction())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match the requested sort order");
+        }
+        return decoded;
+    }
+
+    /**
+     * Reads the value of the sort property from a match, as stored in the cursor.
+     */
+    private String sortValueOf(String sortKey, MatchDto.MatchResponse m) {
+        return switch (sortKey) {
+            case "matchDate"     -> m.matchDate().toString();
+            case "homeGoals"     -> String.valueOf(m.homeGoals());
+            case "awayGoals"     -> String.valueOf(m.awayGoals());
+            case "homeTeam.name" -> m.homeTeamName();
+            case "awayTeam.name" -> m.awayTeamName();
+            case "venue.name"    -> m.venueName();
+            default              -> String.valueOf(m.id());
+        };
+    }
 
-        return Sort.by(direction, property);
+    /**
+     * Parses a sort value read from a cursor back to the type of the sort property.
+     */
+    private Comparable<?> parseSortValue(String sortKey, String value) {
+        try {
+            return switch (sortKey) {
+                case "matchDate"              -> OffsetDateTime.parse(value);
+                case "homeGoals", "awayGoals" -> Integer.valueOf(value);
+                case "id"                     -> Long.valueOf(value);
+                default                       -> value;
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
     }
 
     /**
@@ -83,7 +228,7 @@ public class MatchServiceImplementation implements MatchService {
      */
     @Override
     public Match getMatchById(Long id) {
-        return matchRepository.findById(id)
+        return matchRepository.findDetailById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Match " + id + " not found"));
     }
 
@@ -93,7 +238,11 @@ public class MatchServiceImplementation implements MatchService {
      * Applies only the non-null fields from {@code body}. Supported fields:
      * {@code matchDate}, {@code homeTeamId}, {@code awayTeamId}, {@code venueId},
      * {@code homeGoals}, {@code awayGoals}. Team and venue identifiers (if present)
-     * are looked up and validated before being set.
+     * are looked up and validated before being set. If the date or venue changes, the new
+     * slot must not overlap another match at the venue, and a match that was exempt from the
+     * venue slot constraint loses its exemption. The standings are updated with the
+     * difference between the old and new result in the same transaction. A changed score
+     * is sent to the live score streams once the transaction commits.
      *
      * @param id   the id of the match to update
      * @param body partial update payload
@@ -102,12 +251,16 @@ public class MatchServiceImplementation implements MatchService {
      * @throws EntityNotFoundException
      *         if the match does not exist, or if any referenced team/venue id in the
      *         payload cannot be found
+     * @throws ResponseStatusException with status 409 if the venue is booked at the new time
      */
     @Override
     @Transactional
     public Match patchMatch(Long id, MatchDto.PatchMatchRequest body) {
-        Match m = matchRepository.findById(id)
+        Match m = matchRepository.findDetailById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Match " + id + " not found"));
+        StandingsService.MatchResult before = StandingsService.MatchResult.of(m);
+        Integer homeGoals = m.getHomeGoals();
+        Integer awayGoals = m.getAwayGoals();
 
         if (body.matchDate() != null) m.setMatchDate(body.matchDate());
         if (body.homeGoals() != null) m.setHomeGoals(body.homeGoals());
@@ -127,8 +280,20 @@ public class MatchServiceImplementation implements MatchService {
                     .orElseThrow(() -> new EntityNotFoundException("Venue " + body.venueId() + " not found"));
             m.setVenue(v);
         }
+        if (body.matchDate() != null || body.venueId() != null) {
+            checkVenueFree(m.getVenue().getId(), m.getMatchDate(), id);
+            // The new slot is free, so from now on the constraint covers this match too
+            m.setOverlapExempt(false);
+        }
 
-        return matchRepository.save(m);
+        Match saved = saveVenueSlot(m);
+        standingsService.matchChanged(before, StandingsService.MatchResult.of(saved));
+        changeVersions.bump(Resource.MATCHES);
+        auditService.record(AuditAction.UPDATE, Match.class, id, body);
+        if (!saved.getHomeGoals().equals(homeGoals) || !saved.getAwayGoals().equals(awayGoals)) {
+            liveScoreService.publish(new MatchDto.LiveScore(id, saved.getHomeGoals(), saved.getAwayGoals()));
+        }
+        return saved;
     }
 
     /**
@@ -136,7 +301,8 @@ public class MatchServiceImplementation implements MatchService {
      * <p>
      * Validates that required IDs and date are present, that team IDs are different, and
      * that goal values (if provided) are non-negative. Also checks that referenced teams
-     * and venue exist.
+     * and venue exist and that the venue is not booked by another match at that time.
+     * The result is added to the standings in the same transaction.
      *
      * @param body the {@link MatchDto.CreateMatchRequest} containing match details
      * @return the created {@link Match}
@@ -144,6 +310,7 @@ public class MatchServiceImplementation implements MatchService {
      * @throws ResponseStatusException with status 400 if required fields are missing
      *                                 or invalid
      * @throws ResponseStatusException with status 404 if referenced teams or venue are not found
+     * @throws ResponseStatusException with status 409 if the venue is already booked at that time
      */
     @Override
     @Transactional
@@ -184,6 +351,8 @@ public class MatchServiceImplementation implements MatchService {
         Venue venue = venueRepository.findById(body.venueId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Venue " + body.venueId() + " not found"));
 
+        checkVenueFree(venue.getId(), body.matchDate(), null);
+
         Match m = new Match();
         m.setHomeTeam(home);
         m.setAwayTeam(away);
@@ -191,16 +360,58 @@ public class MatchServiceImplementation implements MatchService {
         m.setMatchDate(body.matchDate());
         m.setHomeGoals(body.homeGoals() != null ? body.homeGoals() : 0);
         m.setAwayGoals(body.awayGoals() != null ? body.awayGoals() : 0);
-        return matchRepository.save(m);
+
+        Match saved = saveVenueSlot(m);
+        standingsService.matchChanged(null, StandingsService.MatchResult.of(saved));
+        changeVersions.bump(Resource.MATCHES);
+        auditService.record(AuditAction.CREATE, Match.class, saved.getId(), body);
+        return saved;
+    }
+
+    /**
+     * Rejects a match whose {@link Match#VENUE_SLOT} at the venue overlaps another match,
+     * with one probe of the venue slot index.
+     */
+    private void checkVenueFree(Long venueId, OffsetDateTime matchDate, Long matchId) {
+        matchRepository.findVenueConflict(venueId, matchDate, matchId).ifPresent(other -> {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "Venue " + venueId + " is already booked by match " + other + " at that time");
+        });
     }
 
     /**
-     * Deletes a match by its id.
+     * Flushes a new or moved match. The exclusion constraint on the venue slot catches a
+     * conflicting match committed after {@link #checkVenueFree} ran.
+     */
+    private Match saveVenueSlot(Match m) {
+        try {
+            return matchRepository.saveAndFlush(m);
+        } catch (DataIntegrityViolationException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message != null && message.contains(VENUE_SLOT_CONSTRAINT)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Venue is already booked at that time");
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Deletes a match by its id, removes its result from the standings and ends the live
+     * score streams following it.
      *
      * @param id the id of the match to delete
      */
     @Override
+    @Transactional
     public void deleteMatch(Long id) {
-        matchRepository.deleteById(id);
+        matchRepository.findById(id).ifPresent(m -> {
+            StandingsService.MatchResult before = StandingsService.MatchResult.of(m);
+            matchRepository.delete(m);
+            matchRepository.flush();
+            standingsService.matchChanged(before, null);
+            changeVersions.bump(Resource.MATCHES);
+            auditService.record(AuditAction.DELETE, Match.class, id, null);
+            liveScoreService.matchDeleted(id);
+        });
     }
 }
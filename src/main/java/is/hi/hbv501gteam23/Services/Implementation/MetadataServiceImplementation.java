@@ -1,6 +1,6 @@
 package is.hi.hbv501gteam23.Services.Implementation;
 
-import is.hi.hbv501gteam23.Persistence.Repositories.CountryRepository;
+import is.hi.hbv501gteam23.Config.CountryRegistry;
 import is.hi.hbv501gteam23.Persistence.dto.MetadataDto;
 import is.hi.hbv501gteam23.Services.Interfaces.MetadataService;
 import lombok.RequiredArgsConstructor;
@@ -13,22 +13,30 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class MetadataServiceImplementation implements MetadataService {
-    private final CountryRepository countryRepository;
+    private final CountryRegistry countryRegistry;
 
     /**
      * Retrieves all countries as ISO 3166-1 alpha-2 codes with their English display names.
      * <p>
-     * The result is sorted alphabetically by country name (case-insensitive).
+     * The result is sorted alphabetically by country name (case-insensitive) and served
+     * from the {@link CountryRegistry} without a database query.
      *
      * @return a list of {@link MetadataDto} where {@code label} is the country name
      *         (in English) and {@code value} is the ISO country code
      */
     @Override
     public List<MetadataDto> getAllCountries() {
-        return countryRepository.findAll()
-            .stream()
-            .map(c -> new MetadataDto(c.getCountryName(), c.getCode()))
-            .sorted((a, b) -> a.label().compareToIgnoreCase(b.label()))
-            .toList();
+        return countryRegistry.getAll();
+    }
+
+    /**
+     * Checks a country code against the {@link CountryRegistry}.
+     *
+     * @param code a country code, in any case
+     * @return {@code true} if the code belongs to a known country
+     */
+    @Override
+    public boolean isKnownCountry(String code) {
+        return countryRegistry.contains(code);
     }
 }
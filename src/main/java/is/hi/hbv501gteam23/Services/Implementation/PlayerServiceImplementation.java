@@ -1,15 +1,18 @@
 package is.hi.hbv501gteam23.Services.Implementation;
 
+import is.hi.hbv501gteam23.Config.ChangeVersions;
+import is.hi.hbv501gteam23.Config.ChangeVersions.Resource;
+import is.hi.hbv501gteam23.Config.CountryRegistry;
 import is.hi.hbv501gteam23.Persistence.Entities.Country;
 import is.hi.hbv501gteam23.Persistence.Entities.Player;
 import is.hi.hbv501gteam23.Persistence.Entities.Team;
-import is.hi.hbv501gteam23.Persistence.Repositories.CountryRepository;
 import is.hi.hbv501gteam23.Persistence.Repositories.PlayerRepository;
 import is.hi.hbv501gteam23.Persistence.Repositories.TeamRepository;
 import is.hi.hbv501gteam23.Persistence.Specifications.PlayerSpecifications;
 import is.hi.hbv501gteam23.Persistence.dto.PlayerDto;
+import is.hi.hbv501gteam23.Persistence.enums.AuditAction;
+import is.hi.hbv501gteam23.Services.Interfaces.AuditService;
 import is.hi.hbv501gteam23.Services.Interfaces.PlayerService;
-import is.hi.hbv501gteam23.Utils.MetadataUtils;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
@@ -19,6 +22,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service for handling logic related to players
@@ -29,23 +34,69 @@ import java.util.List;
 public class PlayerServiceImplementation implements PlayerService {
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
-    private final CountryRepository countryRepository;
+    private final CountryRegistry countryRegistry;
+    private final ChangeVersions changeVersions;
+    private final AuditService auditService;
 
     /**
      * Finds players using optional filters, with sorting and pagination.
      * All filter parameters are optional; when {@code null} or blank, they are ignored.
+     * Rows are selected straight into {@link PlayerDto.PlayerResponse} in one statement.
      *
      * @param filter filter and sort parameters
-     * @return list of {@link Player} entities matching the given filters
+     * @return list of {@link PlayerDto.PlayerResponse} matching the given filters
      */
     @Override
-    public List<Player> findPlayers(PlayerDto.PlayerFilter filter) {
+    @Transactional(readOnly = true)
+    public List<PlayerDto.PlayerResponse> findPlayers(PlayerDto.PlayerFilter filter) {
+        return playerRepository.findResponses(buildPlayerSpecification(filter), buildPlayerSort(filter));
+    }
+
+    /**
+     * Streams every player matching the filters to {@code sink}, in listing order.
+     * Rows are read through a forward-only cursor so memory use stays flat regardless of table size.
+     *
+     * @param filter filter and sort parameters
+     * @param sink   receives each row as it is read
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPlayers(PlayerDto.PlayerFilter filter, Consumer<PlayerDto.PlayerResponse> sink) {
+        try (Stream<PlayerDto.PlayerResponse> rows =
+                 playerRepository.streamResponses(buildPlayerSpecification(filter), buildPlayerSort(filter))) {
+            rows.forEach(sink);
+        }
+    }
+
+    /**
+     * Builds the {@link Specification} for player listing from the filter.
+     *
+     * @param filter filter parameters, may be {@code null}
+     * @return the combined specification
+     */
+    private Specification<Player> buildPlayerSpecification(PlayerDto.PlayerFilter filter) {
         String name = filter != null ? filter.name() : null;
         Long teamId = filter != null ? filter.teamId() : null;
         String teamName = filter != null ? filter.teamName() : null;
         String countryCode = filter != null ? filter.country() : null;
         Boolean isActive = filter != null ? filter.isActive() : null;
 
+        return Specification.allOf(
+                PlayerSpecifications.nameContains(name),
+                PlayerSpecifications.hasTeamId(teamId),
+                PlayerSpecifications.hasTeamName(teamName),
+                PlayerSpecifications.hasCountry(countryCode),
+                PlayerSpecifications.isActive(isActive)
+        );
+    }
+
+    /**
+     * Builds the {@link Sort} for player listing from the filter, defaulting to name ascending.
+     *
+     * @param filter sort parameters, may be {@code null}
+     * @return the sort to apply
+     */
+    private Sort buildPlayerSort(PlayerDto.PlayerFilter filter) {
         String sortBy = (filter != null && filter.sortBy() != null && !filter.sortBy().isBlank())
             ? filter.sortBy()
             : "name";
@@ -54,15 +105,7 @@ public class PlayerServiceImplementation implements PlayerService {
             ? filter.sortDir()
             : "asc";
 
-        Specification<Player> spec = Specification.allOf(
-                PlayerSpecifications.nameContains(name),
-                PlayerSpecifications.hasTeamId(teamId),
-                PlayerSpecifications.hasTeamName(teamName),
-                PlayerSpecifications.hasCountry(countryCode),
-                PlayerSpecifications.isActive(isActive)
-        );
-        Sort sort = buildPlayerSort(sortBy, sortDir);
-        return playerRepository.findAll(spec, sort);
+        return buildPlayerSort(sortBy, sortDir);
     }
 
     /**
@@ -99,7 +142,7 @@ public class PlayerServiceImplementation implements PlayerService {
      */
     @Override
     public Player getPlayerById(Long id) {
-        return playerRepository.findById(id)
+        return playerRepository.findDetailById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Player "+id+" not found"));
     }
 
@@ -139,9 +182,7 @@ public class PlayerServiceImplementation implements PlayerService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Team " + body.teamId() + " not found"));
         }
 
-        String normalizedCode = MetadataUtils.normalizeCountryCode(body.country());
-        Country country = countryRepository.findById(normalizedCode)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Country " + normalizedCode + " not found"));
+        Country country = countryRegistry.resolve(body.country());
 
         Player p = new Player();
         p.setName(name);
@@ -151,7 +192,10 @@ public class PlayerServiceImplementation implements PlayerService {
         p.setGoals(body.goals() != null ? body.goals() : 0);
         p.setTeam(team);
 
-        return playerRepository.save(p);
+        changeVersions.bump(Resource.PLAYERS);
+        Player saved = playerRepository.save(p);
+        auditService.record(AuditAction.CREATE, Player.class, saved.getId(), body);
+        return saved;
     }
 
     /**
@@ -172,16 +216,13 @@ public class PlayerServiceImplementation implements PlayerService {
     @Override
     @Transactional
     public Player patchPlayer(Long id, PlayerDto.PatchPlayerRequest body) {
-        Player p = playerRepository.findById(id)
+        Player p = playerRepository.findDetailById(id)
             .orElseThrow(() -> new EntityNotFoundException("Player " + id + " not found"));
 
         if (body.name() != null)        p.setName(body.name());
         if (body.dateOfBirth() != null) p.setDateOfBirth(body.dateOfBirth());
         if (body.country() != null) {
-            String normalizedCode = MetadataUtils.normalizeCountryCode(body.country());
-            Country country = countryRepository.findById(normalizedCode)
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Country " + normalizedCode + " not found"));
-            p.setCountry(country);
+            p.setCountry(countryRegistry.resolve(body.country()));
         }
         if (body.position() != null)    p.setPosition(body.position());
         if (body.goals() != null)       p.setGoals(body.goals());
@@ -191,6 +232,8 @@ public class PlayerServiceImplementation implements PlayerService {
                     .orElseThrow(() -> new EntityNotFoundException("Team " + body.teamId() + " not found"));
             p.setTeam(team);
         }
+        changeVersions.bump(Resource.PLAYERS);
+        auditService.record(AuditAction.UPDATE, Player.class, id, body);
         return playerRepository.save(p);
     }
 
@@ -204,6 +247,8 @@ public class PlayerServiceImplementation implements PlayerService {
     public void deletePlayer(Long id) {
         if (playerRepository.existsById(id)) {
             playerRepository.deleteById(id);
+            changeVersions.bump(Resource.PLAYERS);
+            auditService.record(AuditAction.DELETE, Player.class, id, null);
         }
         else {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Player " + id + " not found");
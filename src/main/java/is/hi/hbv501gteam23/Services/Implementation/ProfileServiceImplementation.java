@@ -3,11 +3,11 @@ package is.hi.hbv501gteam23.Services.Implementation;
 import is.hi.hbv501gteam23.Persistence.Entities.User;
 import is.hi.hbv501gteam23.Persistence.Repositories.AuthRepository;
 import is.hi.hbv501gteam23.Persistence.dto.ProfileDto;
+import is.hi.hbv501gteam23.Security.PasswordHashingService;
 import is.hi.hbv501gteam23.Services.Interfaces.ProfileService;
 import is.hi.hbv501gteam23.Services.Interfaces.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,7 +19,7 @@ import java.io.IOException;
 public class ProfileServiceImplementation implements ProfileService {
     private final AuthRepository authRepository;
     private final UserService userService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     /**
      * Retrieves an active user profile by email.
@@ -65,10 +65,10 @@ public class ProfileServiceImplementation implements ProfileService {
      */
     @Override
     public User updatePassword(User user, ProfileDto.UpdatePassword request) {
-        if (!passwordEncoder.matches(request.oldPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.oldPassword(), user.getPasswordHash())) {
             throw new RuntimeException("Old password does not match" );
         }
-        user.setPasswordHash(passwordEncoder.encode(request.newPassword()));
+        user.setPasswordHash(passwordHashingService.encode(request.newPassword()));
         return authRepository.save(user);
     }
 
@@ -0,0 +1,118 @@
+package is.hi.hbv501gteam23.Services.Implementation;
+
+import is.hi.hbv501gteam23.Persistence.Repositories.TeamStandingRepository;
+import is.hi.hbv501gteam23.Persistence.dto.StandingDto;
+import is.hi.hbv501gteam23.Services.Interfaces.StandingsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Maintains the {@code team_standings} table as matches are created, changed and deleted.
+ * <p>
+ * A change is applied as the difference between the old and new result: the old result is
+ * subtracted from both teams and the new one added, so the cost of a match write does not
+ * depend on how many matches have been played. Deltas are summed per team first, so a bulk
+ * import touches each team's row once. Rows are always updated in team id order, so two
+ * transactions touching the same teams lock their rows in the same order and cannot deadlock.
+ * Form only depends on the last five matches of a team and is recomputed from those rows.
+ */
+@Service
+@RequiredArgsConstructor
+public class StandingsServiceImplementation implements StandingsService {
+    private static final int POINTS_PER_WIN = 3;
+    private static final int POINTS_PER_DRAW = 1;
+
+    private final TeamStandingRepository teamStandingRepository;
+
+    /**
+     * Reads the league table in one indexed query.
+     *
+     * @return the league table, best team first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StandingDto.StandingResponse> getStandings() {
+        return teamStandingRepository.findTable();
+    }
+
+    /**
+     * Applies the change of a single match to the table.
+     *
+     * @param before the match before the change, or {@code null} if it was created
+     * @param after  the match after the change, or {@code null} if it was deleted
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void matchChanged(MatchResult before, MatchResult after) {
+        if (Objects.equals(before, after)) return;
+
+        Map<Long, Delta> deltas = new TreeMap<>();
+        if (before != null) accumulate(deltas, before, -1);
+        if (after != null) accumulate(deltas, after, 1);
+        applyAll(deltas);
+    }
+
+    /**
+     * Adds the results of many new matches, summing them per team first.
+     *
+     * @param results the results of the inserted matches
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void matchesAdded(Collection<MatchResult> results) {
+        Map<Long, Delta> deltas = new TreeMap<>();
+        for (MatchResult result : results) accumulate(deltas, result, 1);
+        applyAll(deltas);
+    }
+
+    /**
+     * Adds ({@code sign = 1}) or removes ({@code sign = -1}) a result for both teams.
+     */
+    private static void accumulate(Map<Long, Delta> deltas, MatchResult result, int sign) {
+        deltas.computeIfAbsent(result.homeTeamId(), id -> new Delta()).add(result.homeGoals(), result.awayGoals(), sign);
+        deltas.computeIfAbsent(result.awayTeamId(), id -> new Delta()).add(result.awayGoals(), result.homeGoals(), sign);
+    }
+
+    private void applyAll(Map<Long, Delta> deltas) {
+        deltas.forEach((teamId, d) -> {
+            if (!d.isZero()) {
+                teamStandingRepository.applyDelta(teamId, d.played, d.won, d.drawn, d.lost, d.goalsFor, d.goalsAgainst, d.points);
+                teamStandingRepository.deleteIfEmpty(teamId);
+            }
+            // Form also changes when only the date of a match moved
+            teamStandingRepository.refreshForm(teamId);
+        });
+    }
+
+    /**
+     * Change to a single team's row.
+     */
+    private static final class Delta {
+        int played, won, drawn, lost, goalsFor, goalsAgainst, points;
+
+        void add(int scored, int conceded, int sign) {
+            int w = scored > conceded ? 1 : 0;
+            int d = scored == conceded ? 1 : 0;
+            int l = scored < conceded ? 1 : 0;
+            played += sign;
+            won += sign * w;
+            drawn += sign * d;
+            lost += sign * l;
+            goalsFor += sign * scored;
+            goalsAgainst += sign * conceded;
+            points += sign * (w * POINTS_PER_WIN + d * POINTS_PER_DRAW);
+        }
+
+        boolean isZero() {
+            return played == 0 && won == 0 && drawn == 0 && lost == 0
+                && goalsFor == 0 && goalsAgainst == 0 && points == 0;
+        }
+    }
+}
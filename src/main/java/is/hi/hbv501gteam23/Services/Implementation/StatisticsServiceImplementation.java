@@ -0,0 +1,181 @@
+package is.hi.hbv501gteam23.Services.Implementation;
+
+import is.hi.hbv501gteam23.Persistence.Entities.PlayerCountryStatistics;
+import is.hi.hbv501gteam23.Persistence.Entities.PlayerPositionStatistics;
+import is.hi.hbv501gteam23.Persistence.Entities.TeamStatistics;
+import is.hi.hbv501gteam23.Persistence.Repositories.PlayerCountryStatisticsRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.PlayerPositionStatisticsRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.TeamStatisticsRepository;
+import is.hi.hbv501gteam23.Persistence.dto.StatisticsDto;
+import is.hi.hbv501gteam23.Services.Interfaces.StatisticsService;
+import is.hi.hbv501gteam23.Utils.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves statistics from materialized views and keeps them fresh.
+ * <p>
+ * Reads only ever touch the views. The views are rebuilt with
+ * {@code REFRESH MATERIALIZED VIEW CONCURRENTLY} on a fixed schedule and after bulk writes,
+ * so dashboards keep reading the previous contents while a refresh runs.
+ */
+@Slf4j
+@Service
+public class StatisticsServiceImplementation implements StatisticsService {
+    private static final List<String> VIEWS = List.of(
+        "mv_team_statistics",
+        "mv_player_country_statistics",
+        "mv_player_position_statistics"
+    );
+
+    private final TeamStatisticsRepository teamStatisticsRepository;
+    private final PlayerCountryStatisticsRepository playerCountryStatisticsRepository;
+    private final PlayerPositionStatisticsRepository playerPositionStatisticsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "statistics-refresh");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StatisticsServiceImplementation(
+        TeamStatisticsRepository teamStatisticsRepository,
+        PlayerCountryStatisticsRepository playerCountryStatisticsRepository,
+        PlayerPositionStatisticsRepository playerPositionStatisticsRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.teamStatisticsRepository = teamStatisticsRepository;
+        this.playerCountryStatisticsRepository = playerCountryStatisticsRepository;
+        this.playerPositionStatisticsRepository = playerPositionStatisticsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatisticsDto.TeamStatisticsResponse> getTeamStatistics() {
+        return teamStatisticsRepository.findAll(Sort.by("teamName", "teamId")).stream()
+            .map(StatisticsServiceImplementation::toResponse)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StatisticsDto.TeamStatisticsResponse getTeamStatistics(Long teamId) {
+        return teamStatisticsRepository.findById(teamId)
+            .map(StatisticsServiceImplementation::toResponse)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Team " + teamId + " not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatisticsDto.PlayerStatisticsResponse> getPlayerStatisticsByCountry() {
+        return playerCountryStatisticsRepository.findAll(Sort.by("countryName")).stream()
+            .map(StatisticsServiceImplementation::toResponse)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatisticsDto.PlayerStatisticsResponse> getPlayerStatisticsByPosition() {
+        return playerPositionStatisticsRepository.findAll(Sort.by("position")).stream()
+            .map(StatisticsServiceImplementation::toResponse)
+            .toList();
+    }
+
+    /**
+     * Refreshes every view, each in its own transaction so a failure in one does not
+     * roll back the others.
+     */
+    @Override
+    @Scheduled(
+        fixedDelayString = "${statistics.refresh-interval:5m}",
+        initialDelayString = "${statistics.refresh-interval:5m}"
+    )
+    public void refresh() {
+        long start = System.nanoTime();
+        for (String view : VIEWS) {
+            try {
+                // Naming the view as the query space keeps Hibernate from clearing the whole second-level cache
+                transactionTemplate.executeWithoutResult(status ->
+                    entityManager.createNativeQuery("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view)
+                        .setHint(HibernateHints.HINT_NATIVE_SPACES, view)
+                        .executeUpdate());
+            } catch (RuntimeException e) {
+                log.warn("Could not refresh {}", view, e);
+            }
+        }
+        log.debug("Statistics views refreshed in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public void requestRefresh() {
+        AfterCommit.run(() -> {
+            if (!refreshPending.compareAndSet(false, true)) return;
+            refreshExecutor.execute(() -> {
+                refreshPending.set(false);
+                refresh();
+            });
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private static StatisticsDto.TeamStatisticsResponse toResponse(TeamStatistics s) {
+        return new StatisticsDto.TeamStatisticsResponse(
+            s.getTeamId(),
+            s.getTeamName(),
+            s.getPlayed(),
+            s.getWins(),
+            s.getDraws(),
+            s.getLosses(),
+            s.getGoalsFor(),
+            s.getGoalsAgainst(),
+            s.getCleanSheets(),
+            s.getFailedToScore()
+        );
+    }
+
+    private static StatisticsDto.PlayerStatisticsResponse toResponse(PlayerCountryStatistics s) {
+        return new StatisticsDto.PlayerStatisticsResponse(
+            s.getCountryCode(),
+            s.getCountryName(),
+            s.getPlayers(),
+            s.getActivePlayers(),
+            s.getGoals(),
+            s.getAverageGoals()
+        );
+    }
+
+    private static StatisticsDto.PlayerStatisticsResponse toResponse(PlayerPositionStatistics s) {
+        return new StatisticsDto.PlayerStatisticsResponse(
+            s.getPosition().name(),
+            s.getPosition().getLabel(),
+            s.getPlayers(),
+            s.getActivePlayers(),
+            s.getGoals(),
+            s.getAverageGoals()
+        );
+    }
+}
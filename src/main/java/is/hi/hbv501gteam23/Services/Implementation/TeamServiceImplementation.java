@@ -1,16 +1,19 @@
 package is.hi.hbv501gteam23.Services.Implementation;
 
+import is.hi.hbv501gteam23.Config.ChangeVersions;
+import is.hi.hbv501gteam23.Config.ChangeVersions.Resource;
+import is.hi.hbv501gteam23.Config.CountryRegistry;
 import is.hi.hbv501gteam23.Persistence.Entities.Country;
 import is.hi.hbv501gteam23.Persistence.Entities.Team;
 import is.hi.hbv501gteam23.Persistence.Entities.Venue;
-import is.hi.hbv501gteam23.Persistence.Repositories.CountryRepository;
 import is.hi.hbv501gteam23.Persistence.Repositories.PlayerRepository;
 import is.hi.hbv501gteam23.Persistence.Repositories.TeamRepository;
 import is.hi.hbv501gteam23.Persistence.Repositories.VenueRepository;
 import is.hi.hbv501gteam23.Persistence.Specifications.TeamSpecifications;
 import is.hi.hbv501gteam23.Persistence.dto.TeamDto;
+import is.hi.hbv501gteam23.Persistence.enums.AuditAction;
+import is.hi.hbv501gteam23.Services.Interfaces.AuditService;
 import is.hi.hbv501gteam23.Services.Interfaces.TeamService;
-import is.hi.hbv501gteam23.Utils.MetadataUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
@@ -19,6 +22,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,34 +32,62 @@ public class TeamServiceImplementation implements TeamService {
     private final TeamRepository teamRepository;
     private final PlayerRepository playerRepository;
     private final VenueRepository venueRepository;
-    private final CountryRepository countryRepository;
+    private final CountryRegistry countryRegistry;
+    private final ChangeVersions changeVersions;
+    private final AuditService auditService;
 
     /**
      * Finds teams using optional filters, with sorting.
      * All filter parameters are optional; when {@code null}, they are ignored.
+     * Rows are selected straight into {@link TeamDto.TeamResponse} in one statement.
      *
      * @param filter the filters and sorting parameters for a team
-     * @return list of {@link Team} entities matching the given filters
+     * @return list of {@link TeamDto.TeamResponse} matching the given filters
      */
     @Override
-    public List<Team> listTeams(TeamDto.TeamFilter filter) {
+    public List<TeamDto.TeamResponse> listTeams(TeamDto.TeamFilter filter) {
+        return teamRepository.findResponses(buildTeamSpecification(filter), buildTeamSort(filter));
+    }
+
+    /**
+     * Streams every team matching the filters to {@code sink}, in listing order.
+     * Rows are read through a forward-only cursor so memory use stays flat regardless of table size.
+     *
+     * @param filter the filters and sorting parameters for a team
+     * @param sink   receives each row as it is read
+     */
+    @Override
+    public void exportTeams(TeamDto.TeamFilter filter, Consumer<TeamDto.TeamResponse> sink) {
+        try (Stream<TeamDto.TeamResponse> rows =
+                 teamRepository.streamResponses(buildTeamSpecification(filter), buildTeamSort(filter))) {
+            rows.forEach(sink);
+        }
+    }
+
+    /**
+     * Builds the {@link Specification} for team listing from the filter.
+     *
+     * @param filter filter parameters, may be {@code null}
+     * @return the combined specification
+     */
+    private Specification<Team> buildTeamSpecification(TeamDto.TeamFilter filter) {
         String name      = filter != null ? filter.name()      : null;
         Boolean isActive = filter != null ? filter.isActive()  : null;
         String country   = filter != null ? filter.country()   : null;
         String venueName = filter != null ? filter.venueName() : null;
-        String sortBy  = filter != null ? filter.sortBy()  : null;
-        String sortDir = filter != null ? filter.sortDir() : null;
 
-        Specification<Team> spec= Specification.allOf(
+        return Specification.allOf(
                 TeamSpecifications.nameContains(name),
                 TeamSpecifications.hasActiveStatus(isActive),
                 TeamSpecifications.hasCountry(country),
                 TeamSpecifications.venueNameContains(venueName)
         );
+    }
 
-        Sort sort = buildTeamSort(sortBy, sortDir);
-
-        return teamRepository.findAll(spec,sort);
+    private Sort buildTeamSort(TeamDto.TeamFilter filter) {
+        String sortBy  = filter != null ? filter.sortBy()  : null;
+        String sortDir = filter != null ? filter.sortDir() : null;
+        return buildTeamSort(sortBy, sortDir);
     }
 
     /**
@@ -89,7 +122,7 @@ public class TeamServiceImplementation implements TeamService {
      */
     @Override
     public Team getTeamById(Long id){
-        return teamRepository.findById(id)
+        return teamRepository.findDetailById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Team "+id+" not found"));
     }
 
@@ -120,6 +153,8 @@ public class TeamServiceImplementation implements TeamService {
     public void deleteTeam(Long id){
         playerRepository.clearTeamByTeamId(id);
         teamRepository.deleteById(id);
+        changeVersions.bump(Resource.TEAMS, Resource.PLAYERS);
+        auditService.record(AuditAction.DELETE, Team.class, id, null);
     }
 
     /**
@@ -150,9 +185,7 @@ public class TeamServiceImplementation implements TeamService {
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Venue " + body.venueId() + " not found"));
         }
 
-        String normalizedCode = MetadataUtils.normalizeCountryCode(body.country());
-        Country country = countryRepository.findById(normalizedCode)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Country " + normalizedCode + " not found"));
+        Country country = countryRegistry.resolve(body.country());
 
         Team t = new Team();
         t.setName(body.name());
@@ -160,7 +193,10 @@ public class TeamServiceImplementation implements TeamService {
         t.setActive(true);
         t.setVenue(venue);
 
-        return teamRepository.save(t);
+        changeVersions.bump(Resource.TEAMS);
+        Team saved = teamRepository.save(t);
+        auditService.record(AuditAction.CREATE, Team.class, saved.getId(), body);
+        return saved;
     }
 
     /**
@@ -179,15 +215,12 @@ public class TeamServiceImplementation implements TeamService {
     @Override
     @Transactional
     public Team patchTeam(Long id, TeamDto.PatchTeamRequest body) {
-        Team t = teamRepository.findById(id)
+        Team t = teamRepository.findDetailById(id)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Team " + id + " not found"));
 
         if (body.name() != null)    t.setName(body.name());
         if (body.country() != null) {
-            String normalizedCode = MetadataUtils.normalizeCountryCode(body.country());
-            Country country = countryRepository.findById(normalizedCode)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Country " + normalizedCode + " not found"));
-            t.setCountry(country);
+            t.setCountry(countryRegistry.resolve(body.country()));
         }
         if (body.isActive() != null) t.setActive(body.isActive());
         if (body.venueId() != null) {
@@ -196,6 +229,8 @@ public class TeamServiceImplementation implements TeamService {
             t.setVenue(v);
         }
 
+        changeVersions.bump(Resource.TEAMS);
+        auditService.record(AuditAction.UPDATE, Team.class, id, body);
         return teamRepository.save(t);
     }
 }
@@ -3,15 +3,23 @@ package is.hi.hbv501gteam23.Services.Implementation;
 import is.hi.hbv501gteam23.Persistence.Entities.Image;
 import is.hi.hbv501gteam23.Persistence.Entities.User;
 import is.hi.hbv501gteam23.Persistence.Repositories.AuthRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.ImageRepository;
 import is.hi.hbv501gteam23.Persistence.Specifications.UserSpecifications;
 import is.hi.hbv501gteam23.Persistence.dto.UserDto;
 import is.hi.hbv501gteam23.Persistence.enums.SystemRole;
+import is.hi.hbv501gteam23.Security.PasswordHashingService;
 import is.hi.hbv501gteam23.Security.PasswordValidationUtil;
+import is.hi.hbv501gteam23.Security.UserStatusCache;
+import is.hi.hbv501gteam23.Services.Interfaces.AvatarStorageService;
+import is.hi.hbv501gteam23.Services.Interfaces.AvatarVariantService;
 import is.hi.hbv501gteam23.Services.Interfaces.UserService;
+import is.hi.hbv501gteam23.Utils.AfterCommit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,12 +33,17 @@ import java.util.UUID;
 /**
  * Service implementation for handling user management
  */
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class UserServiceImplementation implements UserService {
     private final AuthRepository authRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserStatusCache userStatusCache;
+    private final ImageRepository imageRepository;
+    private final AvatarStorageService avatarStorageService;
+    private final AvatarVariantService avatarVariantService;
 
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5 MB
     private static final List<String> ALLOWED_TYPES = List.of(
@@ -93,6 +106,19 @@ public class UserServiceImplementation implements UserService {
         return authRepository.findByEmail(email);
     }
 
+    /**
+     * Finds a user by their email address, together with their profile image.
+     * Used by the avatar endpoints, which read or replace the image.
+     *
+     * @param email the email address of the user to find
+     * @return an {@link Optional} containing the matching {@link User} with its profile image
+     * loaded, or empty if not found
+     */
+    @Override
+    public Optional<User> findByEmailWithProfileImage(String email) {
+        return authRepository.findWithProfileImageByEmail(email);
+    }
+
     /**
      * Finds a user by their id.
      *
@@ -122,7 +148,7 @@ public class UserServiceImplementation implements UserService {
         User user = new User();
         user.setEmail(request.email());
         user.setName(request.username());
-        user.setPasswordHash(passwordEncoder.encode(request.password()));
+        user.setPasswordHash(passwordHashingService.encode(request.password()));
         if (request.gender() != null) {
             user.setGender(request.gender());
         }
@@ -154,7 +180,7 @@ public class UserServiceImplementation implements UserService {
 
         if (request.email() != null) user.setEmail(request.email());
         if (request.username() != null) user.setName(request.username());
-        if (request.password() != null) user.setPasswordHash(passwordEncoder.encode(request.password()));
+        if (request.password() != null) user.setPasswordHash(passwordHashingService.encode(request.password()));
 
         if (request.gender() != null) {
             user.setGender(request.gender());
@@ -162,6 +188,7 @@ public class UserServiceImplementation implements UserService {
         if (request.role() != null) user.setRole(request.role());
         if (request.isActive() != null) user.setActive(request.isActive());
 
+        userStatusCache.invalidate(id);
         return authRepository.save(user);
     }
 
@@ -182,6 +209,7 @@ public class UserServiceImplementation implements UserService {
             user.setPasswordHash(UUID.randomUUID().toString());
             user.setGender(null);
             authRepository.save(user);
+            userStatusCache.invalidate(id);
         }
     }
 
@@ -195,6 +223,7 @@ public class UserServiceImplementation implements UserService {
         User user = findById(id);
         if (user != null) {
             authRepository.delete(user);
+            userStatusCache.invalidate(id);
         }
     }
 
@@ -202,8 +231,10 @@ public class UserServiceImplementation implements UserService {
      * Uploads a profile image for a specific user.
      * <p>
      * Validates that the file is present, has an allowed content type and does not exceed
-     * the maximum file size. The image data and type are stored on the {@link User}'s
-     * {@link Image} entity.
+     * the maximum file size. The image content is written to the {@link AvatarStorageService}
+     * and the {@link User}'s {@link Image} entity only keeps its hash, size and type.
+     * Resized variants are generated in the background once the upload has been committed,
+     * after the blob has been checked to still exist.
      *
      * @param user the user to associate the image with
      * @param file the uploaded image file
@@ -225,14 +256,34 @@ public class UserServiceImplementation implements UserService {
                 throw new IllegalArgumentException("Invalid image content");
         }
 
+        AvatarStorageService.StoredBlob blob;
+        try (var in = file.getInputStream()) {
+            blob = avatarStorageService.store(in);
+        }
+
         Image image = user.getProfileImage();
         if (image == null) image = new Image();
+        String previousHash = image.getContentHash();
 
-        image.setImageData(file.getBytes());
+        image.setImageData(null);
+        image.setContentHash(blob.hash());
+        image.setContentLength(blob.length());
         image.setImageType(type);
         user.setProfileImage(image);
 
-        return authRepository.save(user);
+        User saved = authRepository.save(user);
+        AfterCommit.run(() -> {
+            // store() may have reused a blob that a concurrent removal deleted before this commit
+            try {
+                avatarStorageService.ensureStored(blob.hash(), file);
+            } catch (IOException e) {
+                log.warn("Could not restore avatar blob {} of user {}", blob.hash(), user.getId(), e);
+                return;
+            }
+            avatarVariantService.generate(blob.hash());
+        });
+        if (!blob.hash().equals(previousHash)) deleteBlobIfUnreferenced(previousHash);
+        return saved;
     }
 
     /**
@@ -246,20 +297,42 @@ public class UserServiceImplementation implements UserService {
     public User deleteImage(User user) {
         if (user == null) throw new IllegalArgumentException("User cannot be null");
 
+        String previousHash = user.getProfileImage() != null ? user.getProfileImage().getContentHash() : null;
         user.setProfileImage(null);
-        return authRepository.save(user);
+        User saved = authRepository.save(user);
+        deleteBlobIfUnreferenced(previousHash);
+        return saved;
     }
 
     /**
-     * Retrieves the stored image data for the specified user.
+     * Retrieves the stored image for the specified user as a streamable {@link Resource}.
+     * <p>
+     * Images that have not been moved to the blob store yet are served from their database bytes.
      *
      * @param user the user whose image will be retrieved
-     * @return a byte array containing the image data
-     * @throws IllegalArgumentException if the user or profile image is {@code null}
+     * @return the image content, or {@code null} if the user has no image or its blob is missing
      */
     @Override
-    public byte[] getImage(User user) {
-        return user.getProfileImage().getImageData();
+    public Resource getImage(User user) {
+        Image image = user.getProfileImage();
+        if (image == null) return null;
+        if (image.getContentHash() != null) return avatarStorageService.load(image.getContentHash());
+        return image.getImageData() != null ? new ByteArrayResource(image.getImageData()) : null;
+    }
+
+    /**
+     * Retrieves a resized variant of the user's image from the {@link AvatarVariantService}.
+     * Images still stored in the database have no variants.
+     *
+     * @param user the user whose image will be retrieved
+     * @param size the requested edge length in pixels
+     * @return the variant, or {@code null} if none is available
+     */
+    @Override
+    public Resource getImageVariant(User user, int size) {
+        Image image = user.getProfileImage();
+        if (image == null || image.getContentHash() == null) return null;
+        return avatarVariantService.find(image.getContentHash(), size);
     }
 
     /**
@@ -274,4 +347,17 @@ public class UserServiceImplementation implements UserService {
     public String getImageType(User user) {
         return user.getProfileImage().getImageType();
     }
+
+    /**
+     * Deletes a blob once the current transaction commits, unless another image still references it.
+     * An upload of the same content that commits afterwards puts the blob back, see
+     * {@link AvatarStorageService#ensureStored}.
+     *
+     * @param hash the hash of the blob, ignored if {@code null}
+     */
+    private void deleteBlobIfUnreferenced(String hash) {
+        if (hash == null) return;
+        AfterCommit.run(() -> avatarStorageService.deleteIfUnreferenced(hash,
+            () -> imageRepository.countByContentHash(hash) > 0));
+    }
 }
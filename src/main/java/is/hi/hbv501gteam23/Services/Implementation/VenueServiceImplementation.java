@@ -1,6 +1,10 @@
 package is.hi.hbv501gteam23.Services.Implementation;
 
+import is.hi.hbv501gteam23.Config.ChangeVersions;
+import is.hi.hbv501gteam23.Config.ChangeVersions.Resource;
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
 import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.Repositories.MatchRepository;
 import is.hi.hbv501gteam23.Persistence.Repositories.VenueRepository;
 import is.hi.hbv501gteam23.Persistence.Specifications.VenueSpecifications;
 import is.hi.hbv501gteam23.Persistence.dto.VenueDto;
@@ -12,7 +16,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.data.domain.Sort;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for handling business logic related to {@link Venue} entities.
@@ -22,6 +32,11 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class VenueServiceImplementation implements VenueService {
     private final VenueRepository venueRepository;
+    private final MatchRepository matchRepository;
+    private final ChangeVersions changeVersions;
+
+    private static final Duration DEFAULT_AVAILABILITY_WINDOW = Duration.ofDays(7);
+    private static final Duration MAX_AVAILABILITY_WINDOW = Duration.ofDays(366);
 
     /**
      * Finds venues using optional filters and sorting.
@@ -33,17 +48,44 @@ public class VenueServiceImplementation implements VenueService {
      */
     @Override
     public List<Venue> listVenues(VenueDto.VenueFilter filter) {
+        return venueRepository.findAll(buildVenueSpecification(filter), buildVenueSort(filter));
+    }
+
+    /**
+     * Streams every venue matching the filters to {@code sink}, in listing order.
+     * Rows are read through a forward-only cursor so memory use stays flat regardless of table size.
+     *
+     * @param filter filter and sort parameters
+     * @param sink   receives each row as it is read
+     */
+    @Override
+    public void exportVenues(VenueDto.VenueFilter filter, Consumer<VenueDto.VenueResponse> sink) {
+        try (Stream<VenueDto.VenueResponse> rows =
+                 venueRepository.streamResponses(buildVenueSpecification(filter), buildVenueSort(filter))) {
+            rows.forEach(sink);
+        }
+    }
+
+    /**
+     * Builds the {@link Specification} for venue listing from the filter.
+     *
+     * @param filter filter parameters, may be {@code null}
+     * @return the combined specification
+     */
+    private Specification<Venue> buildVenueSpecification(VenueDto.VenueFilter filter) {
         String name    = filter != null ? filter.name()    : null;
         String address = filter != null ? filter.address() : null;
-        String sortBy = filter != null ? filter.sortBy() : null;
-        String sortDir = filter != null ? filter.sortDir() : null;
 
-        Specification<Venue> spec = Specification.allOf(
+        return Specification.allOf(
                 VenueSpecifications.nameContains(name),
                 VenueSpecifications.addressContains(address)
         );
-        Sort sort = buildVenueSort(sortBy, sortDir);
-        return venueRepository.findAll(spec, sort);
+    }
+
+    private Sort buildVenueSort(VenueDto.VenueFilter filter) {
+        String sortBy  = filter != null ? filter.sortBy()  : null;
+        String sortDir = filter != null ? filter.sortDir() : null;
+        return buildVenueSort(sortBy, sortDir);
     }
 
     /**
@@ -83,6 +125,49 @@ public class VenueServiceImplementation implements VenueService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Venue " + id + " not found"));
     }
 
+    /**
+     * Lists the booked slots of a venue in a time window and the gaps where another match fits.
+     * <p>
+     * Bookings are read from the venue slot index that also rejects double bookings, so the
+     * free windows are exactly where {@code createMatch} accepts a match at this venue. A gap
+     * is only listed if a whole {@link Match#VENUE_SLOT} fits in it.
+     *
+     * @param id   the id of the venue
+     * @param from start of the window, or {@code null} for now
+     * @param to   end of the window, or {@code null} for seven days after {@code from}
+     * @return the venue's {@link VenueDto.AvailabilityResponse}
+     * @throws ResponseStatusException with status 404 if the venue is not found
+     * @throws ResponseStatusException with status 400 if the window is empty or longer than a year
+     */
+    @Override
+    public VenueDto.AvailabilityResponse getAvailability(Long id, OffsetDateTime from, OffsetDateTime to) {
+        if (!venueRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Venue " + id + " not found");
+        }
+        OffsetDateTime start = from != null ? from : OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime end = to != null ? to : start.plus(DEFAULT_AVAILABILITY_WINDOW);
+        if (!end.isAfter(start)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "to must be after from");
+        }
+        if (Duration.between(start, end).compareTo(MAX_AVAILABILITY_WINDOW) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The window can be at most " + MAX_AVAILABILITY_WINDOW.toDays() + " days");
+        }
+
+        List<VenueDto.BookedSlot> booked = matchRepository.findVenueBookings(id, start, end);
+        List<VenueDto.FreeWindow> free = new ArrayList<>();
+        OffsetDateTime gapStart = start;
+        for (VenueDto.BookedSlot slot : booked) {
+            addFreeWindow(free, gapStart, slot.start());
+            if (slot.end().isAfter(gapStart)) gapStart = slot.end();
+        }
+        addFreeWindow(free, gapStart, end);
+        return new VenueDto.AvailabilityResponse(id, start, end, booked, free);
+    }
+
+    private static void addFreeWindow(List<VenueDto.FreeWindow> free, OffsetDateTime start, OffsetDateTime end) {
+        if (!start.plus(Match.VENUE_SLOT).isAfter(end)) free.add(new VenueDto.FreeWindow(start, end));
+    }
+
     /**
      * Creates a new venue.
      * <p>
@@ -112,6 +197,7 @@ public class VenueServiceImplementation implements VenueService {
         Venue v = new Venue();
         v.setName(name);
         v.setAddress(address);
+        changeVersions.bump(Resource.VENUES);
         return venueRepository.save(v);
     }
 
@@ -144,6 +230,7 @@ public class VenueServiceImplementation implements VenueService {
 
         if (newAddress != null && !newAddress.isBlank()) venue.setAddress(newAddress);
 
+        changeVersions.bump(Resource.VENUES);
         return venueRepository.save(venue);
     }
 
@@ -161,5 +248,6 @@ public class VenueServiceImplementation implements VenueService {
                 "Venue " + id + " not found"
             ));
         venueRepository.delete(venue);
+        changeVersions.bump(Resource.VENUES);
     }
 }
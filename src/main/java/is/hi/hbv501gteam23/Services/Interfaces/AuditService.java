@@ -0,0 +1,42 @@
+package is.hi.hbv501gteam23.Services.Interfaces;
+
+import is.hi.hbv501gteam23.Persistence.enums.AuditAction;
+import java.time.Instant;
+import java.util.List;
+
+public interface AuditService {
+
+    /**
+     * One change to an entity, as stored in {@code audit_events}.
+     *
+     * @param occurredAt    when the change was made
+     * @param actorUserId   the id of the user who made it, or {@code null} outside an authenticated request
+     * @param action        what was done
+     * @param entityType    simple name of the entity class, f.x. {@code Match}
+     * @param entityId      the id of the entity
+     * @param changedFields names of the fields set by the request, empty for deletes
+     */
+    record AuditEvent(
+        Instant occurredAt,
+        Long actorUserId,
+        AuditAction action,
+        String entityType,
+        Long entityId,
+        List<String> changedFields
+    ) {}
+
+    /**
+     * Records a change made by the current user.
+     * <p>
+     * The event is queued once the surrounding transaction commits and written in the
+     * background, so the caller never waits for the audit table. Changes that roll back are
+     * not recorded.
+     *
+     * @param action     what was done
+     * @param entityType the class of the changed entity
+     * @param entityId   the id of the changed entity
+     * @param request    the create or patch request, whose non-null fields are recorded as
+     *                   the changed fields, or {@code null} for deletes
+     */
+    void record(AuditAction action, Class<?> entityType, Long entityId, Record request);
+}
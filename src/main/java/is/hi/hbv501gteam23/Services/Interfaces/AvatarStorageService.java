@@ -0,0 +1,83 @@
+package is.hi.hbv501gteam23.Services.Interfaces;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Content-addressed storage for avatar images.
+ * <p>
+ * Blobs are keyed by the SHA-256 hash of their content, so identical uploads are stored once.
+ */
+public interface AvatarStorageService {
+
+    /**
+     * A blob in the store.
+     *
+     * @param hash   the SHA-256 hash (hex) of the content
+     * @param length the size of the content in bytes
+     */
+    record StoredBlob(String hash, long length) {}
+
+    /**
+     * Stores the content of {@code in}, or reuses an existing blob with the same content.
+     * The blob only becomes visible once it has been written completely.
+     *
+     * @param in the content to store, read to the end but not closed
+     * @return the stored blob
+     * @throws IOException if the content cannot be read or written
+     */
+    StoredBlob store(InputStream in) throws IOException;
+
+    /**
+     * Makes sure a blob exists once a reference to it has been committed, storing
+     * {@code content} again if a concurrent {@link #deleteIfUnreferenced} removed it after
+     * {@link #store} found it in place. Runs under the same per-hash lock as the delete.
+     *
+     * @param hash    the hash of the blob
+     * @param content the content of the blob, only read if the blob is missing
+     * @throws IOException if the content cannot be read or written
+     */
+    void ensureStored(String hash, InputStreamSource content) throws IOException;
+
+    /**
+     * Opens a blob for streaming.
+     *
+     * @param hash the hash of the blob
+     * @return the blob as a {@link Resource}, or {@code null} if it does not exist
+     */
+    Resource load(String hash);
+
+    /**
+     * Stores a resized variant of a blob, replacing any existing variant of that size.
+     *
+     * @param hash      the hash of the original blob
+     * @param size      the edge length of the variant in pixels
+     * @param extension the file extension of the variant format (f.x. "jpg" or "png")
+     * @param content   the encoded variant
+     * @throws IOException if the variant cannot be written
+     */
+    void storeVariant(String hash, int size, String extension, byte[] content) throws IOException;
+
+    /**
+     * Opens a resized variant of a blob for streaming. The resource filename carries the
+     * extension it was stored with, so its media type can be derived from it.
+     *
+     * @param hash the hash of the original blob
+     * @param size the edge length of the variant in pixels
+     * @return the variant as a {@link Resource}, or {@code null} if it has not been generated
+     */
+    Resource loadVariant(String hash, int size);
+
+    /**
+     * Deletes a blob together with all its variants, unless {@code referenced} reports that an
+     * image still uses it. The check and the delete run under a per-hash lock, so they cannot
+     * interleave with {@link #ensureStored} for the same blob.
+     *
+     * @param hash       the hash of the blob
+     * @param referenced tells whether a committed image references the blob
+     */
+    void deleteIfUnreferenced(String hash, BooleanSupplier referenced);
+}
@@ -0,0 +1,31 @@
+package is.hi.hbv501gteam23.Services.Interfaces;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * Produces and serves fixed-size, square variants of avatar images.
+ * <p>
+ * Variants are generated in the background after an upload, so they may not be available
+ * immediately. Callers should fall back to the original image when no variant is returned.
+ */
+public interface AvatarVariantService {
+
+    /**
+     * Schedules generation of all variants of a blob. Returns immediately; if the work queue
+     * is full the request is dropped and the variants are generated on a later request.
+     *
+     * @param hash the hash of the original blob
+     */
+    void generate(String hash);
+
+    /**
+     * Finds the smallest precomputed variant that is at least {@code size} pixels.
+     * Schedules generation when the variant is missing.
+     *
+     * @param hash the hash of the original blob
+     * @param size the requested edge length in pixels
+     * @return the variant, or {@code null} if {@code size} is larger than every variant
+     *         or the variant has not been generated yet
+     */
+    Resource find(String hash, int size);
+}
@@ -0,0 +1,39 @@
+package is.hi.hbv501gteam23.Services.Interfaces;
+
+import is.hi.hbv501gteam23.Persistence.dto.ImportDto;
+import is.hi.hbv501gteam23.Persistence.enums.ImportFormat;
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface BulkImportService {
+
+    /**
+     * Imports matches from an upload of {@code MatchDto.CreateMatchRequest} rows.
+     *
+     * @param in     the upload
+     * @param format the upload format
+     * @return how many rows were imported and why the others were rejected
+     * @throws IOException if the upload cannot be read
+     */
+    ImportDto.ImportReport importMatches(InputStream in, ImportFormat format) throws IOException;
+
+    /**
+     * Imports players from an upload of {@code PlayerDto.CreatePlayerRequest} rows.
+     *
+     * @param in     the upload
+     * @param format the upload format
+     * @return how many rows were imported and why the others were rejected
+     * @throws IOException if the upload cannot be read
+     */
+    ImportDto.ImportReport importPlayers(InputStream in, ImportFormat format) throws IOException;
+
+    /**
+     * Imports teams from an upload of {@code TeamDto.CreateTeamRequest} rows.
+     *
+     * @param in     the upload
+     * @param format the upload format
+     * @return how many rows were imported and why the others were rejected
+     * @throws IOException if the upload cannot be read
+     */
+    ImportDto.ImportReport importTeams(InputStream in, ImportFormat format) throws IOException;
+}
@@ -0,0 +1,36 @@
+package is.hi.hbv501gteam23.Services.Interfaces;
+
+import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.List;
+
+public interface LiveScoreService {
+
+    /**
+     * Opens a server-sent event stream with the scores of the given matches.
+     * <p>
+     * The stream starts with the current score of every match and then carries one
+     * {@code score} event per change. A client that reads slower than scores change only
+     * gets the latest score of each match.
+     *
+     * @param matchIds the ids of the matches to follow
+     * @return the event stream
+     */
+    SseEmitter subscribe(List<Long> matchIds);
+
+    /**
+     * Sends a changed score to everyone following the match, once the surrounding
+     * transaction commits. Never waits for subscribers.
+     *
+     * @param score the new score
+     */
+    void publish(MatchDto.LiveScore score);
+
+    /**
+     * Ends every stream following the match, once the surrounding transaction commits,
+     * so its subscribers stop holding a stream slot for a match that no longer exists.
+     *
+     * @param matchId the id of the deleted match
+     */
+    void matchDeleted(Long matchId);
+}
@@ -1,8 +1,10 @@
 package is.hi.hbv501gteam23.Services.Interfaces;
 
 import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.dto.CursorPage;
 import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MatchService {
 
@@ -10,9 +12,28 @@ public interface MatchService {
      * Finds matches using optional filters.
      *
      * @param filter filter parameters for listing matches
-     * @return a list of {@link Match} entities matching the filters
+     * @return a list of {@link MatchDto.MatchResponse} matching the filters
      */
-    List<Match> findMatchFilter(MatchDto.MatchFilter filter);
+    List<MatchDto.MatchResponse> findMatchFilter(MatchDto.MatchFilter filter);
+
+    /**
+     * Finds one page of matches using keyset (cursor) pagination.
+     *
+     * @param filter filter and sort parameters for listing matches
+     * @param cursor opaque cursor returned with the previous page, or {@code null} for the first page
+     * @param limit  maximum number of matches to return
+     * @return a {@link CursorPage} of match rows and the cursor for the next page
+     */
+    CursorPage<MatchDto.MatchResponse> findMatchPage(MatchDto.MatchFilter filter, String cursor, Integer limit);
+
+    /**
+     * Streams every match matching the filters to {@code sink}, in listing order,
+     * without loading the full result into memory.
+     *
+     * @param filter filter and sort parameters
+     * @param sink   receives each row as it is read
+     */
+    void exportMatches(MatchDto.MatchFilter filter, Consumer<MatchDto.MatchResponse> sink);
 
     /**
      * Retrieves a single match by its unique identifier.
@@ -9,4 +9,10 @@ public interface MetadataService {
      * @return list of all countries
      */
     List<MetadataDto> getAllCountries();
+
+    /**
+     * @param code a country code, in any case
+     * @return {@code true} if the code belongs to a known country
+     */
+    boolean isKnownCountry(String code);
 }
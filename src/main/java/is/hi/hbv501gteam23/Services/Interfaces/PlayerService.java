@@ -3,6 +3,7 @@ package is.hi.hbv501gteam23.Services.Interfaces;
 import is.hi.hbv501gteam23.Persistence.Entities.Player;
 import is.hi.hbv501gteam23.Persistence.dto.PlayerDto;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface PlayerService {
 
@@ -12,9 +13,18 @@ public interface PlayerService {
      * All filter parameters are optional; when {@code null} or blank, they are ignored.
      *
      * @param filter optional filter parameters
-     * @return list of {@link Player} entities matching the given filters
+     * @return list of {@link PlayerDto.PlayerResponse} matching the given filters
      */
-    List<Player> findPlayers(PlayerDto.PlayerFilter filter);
+    List<PlayerDto.PlayerResponse> findPlayers(PlayerDto.PlayerFilter filter);
+
+    /**
+     * Streams every player matching the filters to {@code sink}, in listing order,
+     * without loading the full result into memory.
+     *
+     * @param filter filter and sort parameters
+     * @param sink   receives each row as it is read
+     */
+    void exportPlayers(PlayerDto.PlayerFilter filter, Consumer<PlayerDto.PlayerResponse> sink);
 
     /**
      * Retrieves a single player by its unique identifier.
@@ -0,0 +1,53 @@
+package is.hi.hbv501gteam23.Services.Interfaces;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.dto.StandingDto;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StandingsService {
+
+    /**
+     * The part of a match that affects the league table.
+     *
+     * @param homeTeamId the id of the home team
+     * @param awayTeamId the id of the away team
+     * @param homeGoals  goals scored by the home team
+     * @param awayGoals  goals scored by the away team
+     * @param matchDate  when the match was played, only affects form
+     */
+    record MatchResult(Long homeTeamId, Long awayTeamId, int homeGoals, int awayGoals, OffsetDateTime matchDate) {
+        public static MatchResult of(Match match) {
+            return new MatchResult(
+                match.getHomeTeam().getId(),
+                match.getAwayTeam().getId(),
+                match.getHomeGoals(),
+                match.getAwayGoals(),
+                match.getMatchDate()
+            );
+        }
+    }
+
+    /**
+     * @return the league table, best team first
+     */
+    List<StandingDto.StandingResponse> getStandings();
+
+    /**
+     * Applies the change of a single match to the table.
+     * Must be called in the transaction that wrote the match, after it has been flushed.
+     *
+     * @param before the match before the change, or {@code null} if it was created
+     * @param after  the match after the change, or {@code null} if it was deleted
+     */
+    void matchChanged(MatchResult before, MatchResult after);
+
+    /**
+     * Adds the results of many new matches to the table with one update per affected team.
+     * Must be called in the transaction that inserted the matches, after they have been flushed.
+     *
+     * @param results the results of the inserted matches
+     */
+    void matchesAdded(Collection<MatchResult> results);
+}
@@ -0,0 +1,41 @@
+package is.hi.hbv501gteam23.Services.Interfaces;
+
+import is.hi.hbv501gteam23.Persistence.dto.StatisticsDto;
+import java.util.List;
+
+public interface StatisticsService {
+
+    /**
+     * @return match totals for every team, ordered by team name
+     */
+    List<StatisticsDto.TeamStatisticsResponse> getTeamStatistics();
+
+    /**
+     * @param teamId the id of the team
+     * @return match totals for the team
+     */
+    StatisticsDto.TeamStatisticsResponse getTeamStatistics(Long teamId);
+
+    /**
+     * @return player totals per country, ordered by country name
+     */
+    List<StatisticsDto.PlayerStatisticsResponse> getPlayerStatisticsByCountry();
+
+    /**
+     * @return player totals per position
+     */
+    List<StatisticsDto.PlayerStatisticsResponse> getPlayerStatisticsByPosition();
+
+    /**
+     * Refreshes every statistics view now. Readers keep seeing the previous data until
+     * each view has been rebuilt.
+     */
+    void refresh();
+
+    /**
+     * Requests a refresh in the background once the current transaction commits.
+     * Multiple requests made while a refresh is pending are coalesced into one.
+     * Intended for bulk writes that change many matches or players at once.
+     */
+    void requestRefresh();
+}
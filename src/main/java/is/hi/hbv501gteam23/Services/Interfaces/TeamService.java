@@ -3,6 +3,7 @@ package is.hi.hbv501gteam23.Services.Interfaces;
 import is.hi.hbv501gteam23.Persistence.Entities.Team;
 import is.hi.hbv501gteam23.Persistence.dto.TeamDto;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TeamService {
 
@@ -13,9 +14,18 @@ public interface TeamService {
      * Supports filtering by name, active status, country and venue name.
      *
      * @param filter filter and sort parameters
-     * @return list of {@link Team} entities matching the given filters
+     * @return list of {@link TeamDto.TeamResponse} matching the given filters
      */
-    List<Team> listTeams(TeamDto.TeamFilter filter);
+    List<TeamDto.TeamResponse> listTeams(TeamDto.TeamFilter filter);
+
+    /**
+     * Streams every team matching the filters to {@code sink}, in listing order,
+     * without loading the full result into memory.
+     *
+     * @param filter filter and sort parameters
+     * @param sink   receives each row as it is read
+     */
+    void exportTeams(TeamDto.TeamFilter filter, Consumer<TeamDto.TeamResponse> sink);
 
     /**
      * Retrieves a single team by its unique identifier.
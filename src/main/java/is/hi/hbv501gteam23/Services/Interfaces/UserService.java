@@ -2,6 +2,7 @@ package is.hi.hbv501gteam23.Services.Interfaces;
 
 import is.hi.hbv501gteam23.Persistence.Entities.User;
 import is.hi.hbv501gteam23.Persistence.dto.UserDto;
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.List;
@@ -17,6 +18,14 @@ public interface UserService {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Finds a user by their email address, together with their profile image.
+     *
+     * @param email the email address of the user to find
+     * @return the matching {@link User} entity with its profile image loaded
+     */
+    Optional<User> findByEmailWithProfileImage(String email);
+
     /**
      * Finds a user by their id.
      *
@@ -75,12 +84,23 @@ public interface UserService {
     User deleteImage(User user);
 
     /**
-     * Retrieves the stored image data for the specified user.
+     * Retrieves the stored image for the specified user.
+     *
+     * @param user  the user whose image will be retrieved
+     * @return the image content as a streamable {@link Resource}, or {@code null} if there is none
+     */
+    Resource getImage(User user);
+
+    /**
+     * Retrieves a precomputed, square variant of the user's image that is at least {@code size}
+     * pixels wide.
      *
      * @param user  the user whose image will be retrieved
-     * @return a byte array containing the image data
+     * @param size  the requested edge length in pixels
+     * @return the variant as a streamable {@link Resource}, or {@code null} if no such variant
+     *         is available and the original should be served instead
      */
-    byte[] getImage(User user);
+    Resource getImageVariant(User user, int size);
 
     /**
      * Retrieves the type of image file for a users image
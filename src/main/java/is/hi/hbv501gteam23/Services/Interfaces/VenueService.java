@@ -2,7 +2,9 @@ package is.hi.hbv501gteam23.Services.Interfaces;
 
 import is.hi.hbv501gteam23.Persistence.Entities.Venue;
 import is.hi.hbv501gteam23.Persistence.dto.VenueDto;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface VenueService {
 
@@ -16,6 +18,15 @@ public interface VenueService {
      */
     List<Venue> listVenues(VenueDto.VenueFilter filter);
 
+    /**
+     * Streams every venue matching the filters to {@code sink}, in listing order,
+     * without loading the full result into memory.
+     *
+     * @param filter filter and sort parameters
+     * @param sink   receives each row as it is read
+     */
+    void exportVenues(VenueDto.VenueFilter filter, Consumer<VenueDto.VenueResponse> sink);
+
     /**
      * Retrieves a single venue by its unique identifier.
      *
@@ -24,6 +35,16 @@ public interface VenueService {
      */
     Venue findById(Long id);
 
+    /**
+     * Lists the booked slots of a venue in a time window and the gaps where another match fits.
+     *
+     * @param id   the id of the venue
+     * @param from start of the window, or {@code null} for now
+     * @param to   end of the window, or {@code null} for seven days after {@code from}
+     * @return the venue's {@link VenueDto.AvailabilityResponse}
+     */
+    VenueDto.AvailabilityResponse getAvailability(Long id, OffsetDateTime from, OffsetDateTime to);
+
     /**
      * Creates a new venue
      *
@@ -0,0 +1,26 @@
+package is.hi.hbv501gteam23.Utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class AfterCommit {
+
+    /**
+     * Runs {@code action} once the current transaction has committed, or right away if
+     * there is no active transaction. Actions registered in a transaction that rolls back are dropped.
+     *
+     * @param action the action to run
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package is.hi.hbv501gteam23.Utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvUtils {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Escapes a single CSV cell according to RFC 4180.
+     * Cells containing the separator, quotes or line breaks are quoted and inner quotes doubled.
+     *
+     * @param value the cell value, {@code null} is written as an empty cell
+     * @return the escaped cell
+     */
+    public static String escape(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+
+        boolean needsQuoting = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                needsQuoting = true;
+                break;
+            }
+        }
+        if (!needsQuoting) return s;
+
+        return QUOTE + s.replace("\"", "\"\"") + QUOTE;
+    }
+
+    /**
+     * Appends a row of escaped cells followed by a line break.
+     *
+     * @param out   the builder to append to
+     * @param cells the cell values
+     */
+    public static void appendRow(StringBuilder out, Object... cells) {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) out.append(SEPARATOR);
+            out.append(escape(cells[i]));
+        }
+        out.append("\r\n");
+    }
+
+    /**
+     * Reads one RFC 4180 record. Quoted cells may contain separators, doubled quotes and
+     * line breaks; records may end with CRLF or LF.
+     *
+     * @param in the reader to read from
+     * @return the cells of the record, or {@code null} at the end of the input
+     * @throws IOException if the input cannot be read
+     * @throws MalformedCsvException if the input ends inside a quoted cell
+     */
+    public static List<String> readRow(BufferedReader in) throws IOException {
+        int c = in.read();
+        if (c == -1) return null;
+
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) throw new MalformedCsvException("Unterminated quoted cell");
+                if (c == QUOTE) {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == QUOTE) {
+                        cell.append(QUOTE);
+                    } else {
+                        quoted = false;
+                        if (next != -1) in.reset();
+                    }
+                } else {
+                    cell.append((char) c);
+                }
+            } else if (c == QUOTE && cell.isEmpty()) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n') in.reset();
+                }
+                cells.add(cell.toString());
+                return cells;
+            } else {
+                cell.append((char) c);
+            }
+            c = in.read();
+        }
+    }
+
+    /**
+     * Thrown when the input is readable but not valid CSV.
+     */
+    public static class MalformedCsvException extends IOException {
+        public MalformedCsvException(String message) {
+            super(message);
+        }
+    }
+}
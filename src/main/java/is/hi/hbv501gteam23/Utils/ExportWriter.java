@@ -0,0 +1,138 @@
+package is.hi.hbv501gteam23.Utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import is.hi.hbv501gteam23.Persistence.enums.ExportFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Writes DTO records to an export stream as NDJSON or CSV.
+ * <p>
+ * Output is buffered and flushed every {@link #FLUSH_EVERY} rows, so the client starts
+ * receiving data right away while the server never holds more than one chunk.
+ *
+ * @param <R> the record type being exported
+ */
+public class ExportWriter<R extends Record> {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_EVERY = 500;
+
+    private final OutputStream out;
+    private final ExportFormat format;
+    private final ObjectWriter jsonWriter;
+    private final RecordComponent[] columns;
+    private int unflushed;
+
+    private ExportWriter(OutputStream out, ExportFormat format, Class<R> rowType, ObjectMapper objectMapper) {
+        this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+        this.format = format;
+        this.jsonWriter = objectMapper.writerFor(rowType);
+        this.columns = rowType.getRecordComponents();
+    }
+
+    /**
+     * Builds a streaming response that exports the rows handed over by {@code producer}.
+     * The producer runs on the async request thread once the response is committed.
+     *
+     * @param fileName     base name of the downloaded file, without extension
+     * @param format       the export format
+     * @param rowType      the record type of each row
+     * @param objectMapper the mapper used for NDJSON rows
+     * @param producer     pushes every row into the supplied sink
+     * @return a response streaming the export as an attachment
+     */
+    public static <R extends Record> ResponseEntity<StreamingResponseBody> response(
+            String fileName,
+            ExportFormat format,
+            Class<R> rowType,
+            ObjectMapper objectMapper,
+            Consumer<Consumer<R>> producer
+    ) {
+        StreamingResponseBody body = out -> {
+            ExportWriter<R> writer = new ExportWriter<>(out, format, rowType, objectMapper);
+            writer.writeHeader();
+            producer.accept(writer::write);
+            writer.out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * Parses the {@code format} request parameter.
+     *
+     * @param value the requested format, defaults to NDJSON when blank
+     * @return the parsed {@link ExportFormat}
+     * @throws ResponseStatusException with status 400 if the format is not supported
+     */
+    public static ExportFormat parseFormat(String value) {
+        if (value == null || value.isBlank()) return ExportFormat.NDJSON;
+        try {
+            return ExportFormat.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format: " + value);
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        if (format != ExportFormat.CSV) return;
+
+        Object[] names = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) names[i] = columns[i].getName();
+        StringBuilder line = new StringBuilder();
+        CsvUtils.appendRow(line, names);
+        out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void write(R row) {
+        try {
+            if (format == ExportFormat.CSV) {
+                StringBuilder line = new StringBuilder();
+                CsvUtils.appendRow(line, valuesOf(row));
+                out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+            } else {
+                out.write(jsonWriter.writeValueAsBytes(row));
+                out.write('\n');
+            }
+
+            if (++unflushed >= FLUSH_EVERY) {
+                out.flush();
+                unflushed = 0;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Object[] valuesOf(R row) {
+        Object[] values = new Object[columns.length];
+        try {
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = columns[i].getAccessor().invoke(row);
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not read export column", e);
+        }
+        return values;
+    }
+}
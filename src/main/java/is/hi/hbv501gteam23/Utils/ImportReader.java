@@ -0,0 +1,156 @@
+package is.hi.hbv501gteam23.Utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import is.hi.hbv501gteam23.Persistence.enums.ImportFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads request rows from an upload one at a time, so imports never hold the whole file.
+ * <p>
+ * JSON input may be a single array of objects or newline delimited objects. CSV input
+ * needs a header row whose column names match the request record's property names.
+ * A row that cannot be mapped is reported to the handler and reading continues;
+ * input that is not well-formed at all, or has too many rows, stops reading with 400
+ * (Bad Request). The rows handed to the handler before that point stay handed over.
+ */
+public final class ImportReader {
+    private static final int READ_BUFFER = 64 * 1024;
+
+    private ImportReader() {}
+
+    /**
+     * Receives the rows of an upload in order.
+     *
+     * @param <T> the row type
+     */
+    public interface RowHandler<T> {
+        /**
+         * @param row   the 1-based row number
+         * @param value the mapped row
+         */
+        void row(int row, T value);
+
+        /**
+         * @param row     the 1-based row number
+         * @param message why the row could not be read
+         */
+        void error(int row, String message);
+    }
+
+    /**
+     * Reads every row of {@code in} and hands it to {@code handler}.
+     *
+     * @param in           the upload
+     * @param format       the upload format
+     * @param rowType      the type each row is mapped to
+     * @param objectMapper the mapper used to bind rows
+     * @param maxRows      the largest number of rows accepted
+     * @param handler      receives each row or row error
+     * @throws IOException if the upload cannot be read
+     * @throws ResponseStatusException with status 400 if the upload is malformed or too large
+     */
+    public static <T> void read(
+            InputStream in,
+            ImportFormat format,
+            Class<T> rowType,
+            ObjectMapper objectMapper,
+            int maxRows,
+            RowHandler<T> handler
+    ) throws IOException {
+        switch (format) {
+            case JSON -> readJson(in, rowType, objectMapper, maxRows, handler);
+            case CSV -> readCsv(in, rowType, objectMapper, maxRows, handler);
+        }
+    }
+
+    private static <T> void readJson(InputStream in, Class<T> rowType, ObjectMapper objectMapper, int maxRows, RowHandler<T> handler) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) token = parser.nextToken();
+
+            int row = 0;
+            while (token != null && token != JsonToken.END_ARRAY) {
+                row++;
+                checkRowLimit(row, maxRows);
+                if (token != JsonToken.START_OBJECT) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Row " + row + " is not a JSON object");
+                }
+
+                JsonNode node = objectMapper.readTree(parser);
+                try {
+                    handler.row(row, objectMapper.treeToValue(node, rowType));
+                } catch (JsonMappingException e) {
+                    handler.error(row, describe(e));
+                }
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static <T> void readCsv(InputStream in, Class<T> rowType, ObjectMapper objectMapper, int maxRows, RowHandler<T> handler) throws IOException {
+        try {
+            readCsvRows(in, rowType, objectMapper, maxRows, handler);
+        } catch (CsvUtils.MalformedCsvException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed CSV: " + e.getMessage());
+        }
+    }
+
+    private static <T> void readCsvRows(InputStream in, Class<T> rowType, ObjectMapper objectMapper, int maxRows, RowHandler<T> handler) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), READ_BUFFER);
+        List<String> header = CsvUtils.readRow(reader);
+        if (header == null) return;
+        // Skip a UTF-8 byte order mark written by spreadsheet exports
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) header.set(0, header.get(0).substring(1));
+
+        int row = 0;
+        List<String> cells;
+        while ((cells = CsvUtils.readRow(reader)) != null) {
+            if (cells.size() == 1 && cells.get(0).isBlank()) continue;
+            row++;
+            checkRowLimit(row, maxRows);
+            if (cells.size() > header.size()) {
+                handler.error(row, "Expected at most " + header.size() + " cells but got " + cells.size());
+                continue;
+            }
+
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < cells.size(); i++) {
+                String cell = cells.get(i).trim();
+                if (!cell.isEmpty()) values.put(header.get(i).trim(), cell);
+            }
+            try {
+                handler.row(row, objectMapper.convertValue(values, rowType));
+            } catch (IllegalArgumentException e) {
+                handler.error(row, e.getCause() instanceof JsonMappingException m ? describe(m) : "Invalid row");
+            }
+        }
+    }
+
+    private static void checkRowLimit(int row, int maxRows) {
+        if (row > maxRows) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Import is limited to " + maxRows + " rows");
+        }
+    }
+
+    private static String describe(JsonMappingException e) {
+        String field = e.getPath().isEmpty() ? null : e.getPath().get(e.getPath().size() - 1).getFieldName();
+        return field != null ? "Invalid value for " + field : "Invalid row: " + e.getOriginalMessage();
+    }
+}
@@ -0,0 +1,61 @@
+package is.hi.hbv501gteam23.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor used for keyset (seek) pagination.
+ * <p>
+ * Holds the sort key and direction the page was produced with, together with the
+ * sort value and id of the last row on that page. The id acts as a tie-breaker so
+ * rows sharing the same sort value are never skipped or repeated.
+ *
+ * @param sortKey   the sort property the cursor belongs to
+ * @param direction the sort direction, either {@code "ASC"} or {@code "DESC"}
+ * @param id        the id of the last row on the previous page
+ * @param value     the sort value of the last row on the previous page
+ */
+public record KeysetCursor(
+    String sortKey,
+    String direction,
+    Long id,
+    String value
+) {
+    private static final String SEPARATOR = ":";
+
+    /**
+     * Encodes the cursor as a URL-safe token.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = sortKey + SEPARATOR + direction + SEPARATOR + id + SEPARATOR + (value == null ? "" : value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        // The value is last so it may itself contain the separator
+        String[] parts = raw.split(SEPARATOR, 4);
+        if (parts.length != 4) throw new IllegalArgumentException("Malformed cursor");
+
+        try {
+            return new KeysetCursor(parts[0], parts[1], Long.valueOf(parts[2]), parts[3]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+    }
+}
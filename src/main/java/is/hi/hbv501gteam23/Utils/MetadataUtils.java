@@ -4,9 +4,11 @@ import is.hi.hbv501gteam23.Persistence.dto.MetadataDto;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import java.util.function.Function;
 
 public class MetadataUtils {
+    private static final Set<String> ISO_COUNTRIES = Set.of(Locale.getISOCountries());
 
     /**
      * Convert any enum to a list of MetadataDto
@@ -31,8 +33,7 @@ public class MetadataUtils {
         if (code == null || code.isBlank()) return null;
         String normalized = code.trim().toUpperCase(Locale.ROOT);
 
-        boolean isValid = Arrays.asList(Locale.getISOCountries()).contains(normalized);
-        if (!isValid) {
+        if (!ISO_COUNTRIES.contains(normalized)) {
             throw new IllegalArgumentException("Invalid ISO country code: " + code
                     + ". Refer to /metadata/countries for valid country codes.");
         }
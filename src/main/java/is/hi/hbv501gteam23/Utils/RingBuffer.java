@@ -0,0 +1,105 @@
+package is.hi.hbv501gteam23.Utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free queue for many producers and one consumer.
+ * <p>
+ * Producers claim a slot with a single compare-and-set on the tail and never wait for each
+ * other or for the consumer; {@link #offer(Object)} returns {@code false} when the buffer is
+ * full instead of blocking. Each slot carries a sequence number that tells producers and the
+ * consumer whether it is free or filled, so no locks are needed. Only one thread may call
+ * {@link #drain(Consumer, int)}.
+ *
+ * @param <T> the element type
+ */
+public final class RingBuffer<T> {
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity the number of elements the buffer holds, rounded up to a power of two
+     */
+    public RingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) sequences.set(i, i);
+    }
+
+    /**
+     * Adds an element if there is room.
+     *
+     * @param element the element to add, not {@code null}
+     * @return {@code false} if the buffer is full
+     */
+    public boolean offer(T element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes up to {@code max} elements in insertion order and passes them to {@code sink}.
+     * Must only be called by the consumer thread.
+     *
+     * @param sink receives the removed elements
+     * @param max  the most elements to remove
+     * @return the number of elements removed
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super T> sink, int max) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) position & mask;
+            if (sequences.getAcquire(index) != position + 1) break;
+            T element = (T) elements[index];
+            elements[index] = null;
+            sequences.setRelease(index, position + elements.length);
+            position++;
+            drained++;
+            sink.accept(element);
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * @return the approximate number of elements in the buffer
+     */
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, elements.length));
+    }
+
+    /**
+     * @return the number of elements the buffer holds
+     */
+    public int capacity() {
+        return elements.length;
+    }
+}
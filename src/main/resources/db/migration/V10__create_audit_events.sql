@@ -0,0 +1,20 @@
+-- Who created, changed or deleted a match, player or team.
+-- Rows are appended in batches by AuditServiceImplementation after the change has committed.
+-- There are no foreign keys, so the history outlives the users and rows it refers to.
+CREATE TABLE audit_events (
+    audit_event_id BIGSERIAL PRIMARY KEY,
+    occurred_at TIMESTAMPTZ NOT NULL,
+    -- NULL for changes made without an authenticated user, e.g. by startup jobs
+    actor_user_id BIGINT,
+    action VARCHAR(10) NOT NULL,
+    entity_type VARCHAR(30) NOT NULL,
+    entity_id BIGINT,
+    -- Names of the fields set by the request, empty for deletes
+    changed_fields TEXT[] NOT NULL DEFAULT '{}'
+);
+
+-- History of one entity, newest first
+CREATE INDEX idx_audit_events_entity ON audit_events (entity_type, entity_id, occurred_at DESC);
+
+-- Everything one user changed
+CREATE INDEX idx_audit_events_actor ON audit_events (actor_user_id, occurred_at DESC);
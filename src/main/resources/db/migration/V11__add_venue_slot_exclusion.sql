@@ -0,0 +1,32 @@
+-- A venue hosts one match at a time. Every match occupies its venue for a fixed slot from
+-- kick-off, and a GiST exclusion constraint over (venue, slot) rejects overlapping slots.
+-- MatchServiceImplementation probes the same index to report conflicts before writing and
+-- GET /venues/{id}/availability reads the booked slots from it.
+-- btree_gist lets the GiST index compare venue ids; it is a trusted extension like pg_trgm in V5.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- The slot a match occupies: kick-off plus three hours for the match and changeover.
+-- Adding whole hours does not depend on the session time zone, so the function is immutable
+-- and can be indexed. The length must equal Match.VENUE_SLOT.
+CREATE FUNCTION match_slot(match_date TIMESTAMPTZ) RETURNS TSTZRANGE
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE
+    AS $$ SELECT tstzrange(match_date, match_date + INTERVAL '3 hours') $$;
+
+-- Matches that already overlapped an earlier match at their venue are kept but exempt.
+-- A match is kept if it starts at least one slot after the match before it, so the kept
+-- matches never overlap each other and the constraint can be built.
+ALTER TABLE matches ADD COLUMN overlap_exempt BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE matches m
+SET overlap_exempt = TRUE
+FROM (
+    SELECT match_id,
+           match_date - lag(match_date) OVER (PARTITION BY venue_id ORDER BY match_date, match_id) AS gap
+    FROM matches
+) previous
+WHERE previous.match_id = m.match_id
+  AND previous.gap < INTERVAL '3 hours';
+
+ALTER TABLE matches ADD CONSTRAINT matches_venue_slot_excl
+    EXCLUDE USING gist (venue_id WITH =, match_slot(match_date) WITH &&)
+    WHERE (NOT overlap_exempt);
@@ -0,0 +1,4 @@
+-- The venue conflict probe and GET /venues/{id}/availability also read matches that are exempt
+-- from matches_venue_slot_excl, since those still occupy the venue. The constraint's index is
+-- partial and leaves them out, so they get a full index over the same expression.
+CREATE INDEX idx_matches_venue_slot ON matches USING gist (venue_id, match_slot(match_date));
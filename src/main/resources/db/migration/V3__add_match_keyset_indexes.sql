@@ -0,0 +1,5 @@
+-- Composite indexes backing keyset pagination on GET /matches/page.
+-- match_id is the tie-breaker, so each sort key is paired with it.
+CREATE INDEX IF NOT EXISTS idx_matches_match_date_id ON matches(match_date, match_id);
+CREATE INDEX IF NOT EXISTS idx_matches_home_goals_id ON matches(home_goals, match_id);
+CREATE INDEX IF NOT EXISTS idx_matches_away_goals_id ON matches(away_goals, match_id);
@@ -0,0 +1,7 @@
+-- Avatars move out of the database into a content-addressed blob store.
+-- image_data is kept nullable so rows can be migrated in batches by the application.
+ALTER TABLE images ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE images ADD COLUMN content_length BIGINT;
+ALTER TABLE images ALTER COLUMN image_data DROP NOT NULL;
+
+CREATE INDEX idx_images_content_hash ON images (content_hash);
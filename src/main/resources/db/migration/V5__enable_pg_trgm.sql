@@ -0,0 +1,3 @@
+-- Trigram matching, used by the substring search indexes in V6.
+-- Requires a role allowed to create extensions (pg_trgm is a trusted extension since PostgreSQL 13).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
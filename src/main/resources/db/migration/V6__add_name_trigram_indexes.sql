@@ -0,0 +1,10 @@
+-- GIN trigram indexes backing the case-insensitive "contains" filters.
+-- The Specifications render lower(column) LIKE '%term%', so each index is on the same
+-- lower(column) expression. Team names also serve the home/away team filters on matches
+-- and the team filter on players; venue names serve the venue filter on matches and teams.
+CREATE INDEX IF NOT EXISTS idx_players_player_name_trgm ON players USING gin (lower(player_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_teams_team_name_trgm ON teams USING gin (lower(team_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_venues_venue_name_trgm ON venues USING gin (lower(venue_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_venues_address_trgm ON venues USING gin (lower(address) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_user_name_trgm ON users USING gin (lower(user_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
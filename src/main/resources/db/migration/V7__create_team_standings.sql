@@ -0,0 +1,59 @@
+-- League table maintained incrementally by MatchServiceImplementation.
+-- Every match write applies a +1/-1 delta of its result to both teams, so reading
+-- GET /standings never re-aggregates the match history.
+CREATE TABLE team_standings (
+    team_id BIGINT PRIMARY KEY REFERENCES teams(team_id) ON DELETE CASCADE,
+    played INTEGER NOT NULL DEFAULT 0,
+    won INTEGER NOT NULL DEFAULT 0,
+    drawn INTEGER NOT NULL DEFAULT 0,
+    lost INTEGER NOT NULL DEFAULT 0,
+    goals_for INTEGER NOT NULL DEFAULT 0,
+    goals_against INTEGER NOT NULL DEFAULT 0,
+    goal_difference INTEGER GENERATED ALWAYS AS (goals_for - goals_against) STORED,
+    points INTEGER NOT NULL DEFAULT 0,
+    -- Results of the last five matches, most recent first (f.x. 'WWDLW')
+    form VARCHAR(5) NOT NULL DEFAULT '',
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- Table order: points, then goal difference, then goals scored
+CREATE INDEX idx_team_standings_rank
+    ON team_standings (points DESC, goal_difference DESC, goals_for DESC, team_id);
+
+-- Recomputing a team's form reads its five most recent matches
+CREATE INDEX IF NOT EXISTS idx_matches_home_team_date ON matches (home_team_id, match_date DESC, match_id DESC);
+CREATE INDEX IF NOT EXISTS idx_matches_away_team_date ON matches (away_team_id, match_date DESC, match_id DESC);
+
+-- Seed from the matches that already exist
+INSERT INTO team_standings (team_id, played, won, drawn, lost, goals_for, goals_against, points)
+SELECT r.team_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE r.scored > r.conceded),
+       COUNT(*) FILTER (WHERE r.scored = r.conceded),
+       COUNT(*) FILTER (WHERE r.scored < r.conceded),
+       SUM(r.scored),
+       SUM(r.conceded),
+       SUM(CASE WHEN r.scored > r.conceded THEN 3 WHEN r.scored = r.conceded THEN 1 ELSE 0 END)
+FROM (
+    SELECT home_team_id AS team_id, home_goals AS scored, away_goals AS conceded FROM matches
+    UNION ALL
+    SELECT away_team_id, away_goals, home_goals FROM matches
+) r
+GROUP BY r.team_id;
+
+UPDATE team_standings s
+SET form = COALESCE((
+    SELECT string_agg(x.result, '' ORDER BY x.match_date DESC, x.match_id DESC)
+    FROM (
+        SELECT m.match_date, m.match_id,
+               CASE
+                   WHEN m.home_goals = m.away_goals THEN 'D'
+                   WHEN (m.home_team_id = s.team_id) = (m.home_goals > m.away_goals) THEN 'W'
+                   ELSE 'L'
+               END AS result
+        FROM matches m
+        WHERE m.home_team_id = s.team_id OR m.away_team_id = s.team_id
+        ORDER BY m.match_date DESC, m.match_id DESC
+        LIMIT 5
+    ) x
+), '');
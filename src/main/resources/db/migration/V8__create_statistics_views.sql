@@ -0,0 +1,53 @@
+-- Aggregates served by GET /statistics/**. Read through StatisticsService only and refreshed
+-- with REFRESH MATERIALIZED VIEW CONCURRENTLY, which needs a plain unique index on each view.
+
+-- Per-team match totals
+CREATE MATERIALIZED VIEW mv_team_statistics AS
+SELECT t.team_id,
+       t.team_name,
+       COUNT(r.team_id)                                          AS played,
+       COUNT(*) FILTER (WHERE r.scored > r.conceded)             AS wins,
+       COUNT(*) FILTER (WHERE r.scored = r.conceded)             AS draws,
+       COUNT(*) FILTER (WHERE r.scored < r.conceded)             AS losses,
+       COALESCE(SUM(r.scored), 0)                                AS goals_for,
+       COALESCE(SUM(r.conceded), 0)                              AS goals_against,
+       COUNT(*) FILTER (WHERE r.conceded = 0)                    AS clean_sheets,
+       COUNT(*) FILTER (WHERE r.scored = 0)                      AS failed_to_score
+FROM teams t
+LEFT JOIN (
+    SELECT home_team_id AS team_id, home_goals AS scored, away_goals AS conceded FROM matches
+    UNION ALL
+    SELECT away_team_id, away_goals, home_goals FROM matches
+) r ON r.team_id = t.team_id
+GROUP BY t.team_id, t.team_name
+WITH DATA;
+
+CREATE UNIQUE INDEX uq_mv_team_statistics_team_id ON mv_team_statistics (team_id);
+
+-- Player totals per country
+CREATE MATERIALIZED VIEW mv_player_country_statistics AS
+SELECT c.code                                           AS country_code,
+       c.country_name,
+       COUNT(*)                                         AS players,
+       COUNT(*) FILTER (WHERE p.is_active)              AS active_players,
+       COALESCE(SUM(p.goals), 0)                        AS goals,
+       ROUND(AVG(p.goals), 2)                           AS average_goals
+FROM players p
+JOIN countries c ON c.code = p.player_country
+GROUP BY c.code, c.country_name
+WITH DATA;
+
+CREATE UNIQUE INDEX uq_mv_player_country_statistics_code ON mv_player_country_statistics (country_code);
+
+-- Player totals per position
+CREATE MATERIALIZED VIEW mv_player_position_statistics AS
+SELECT p.player_position                                AS position,
+       COUNT(*)                                         AS players,
+       COUNT(*) FILTER (WHERE p.is_active)              AS active_players,
+       COALESCE(SUM(p.goals), 0)                        AS goals,
+       ROUND(AVG(p.goals), 2)                           AS average_goals
+FROM players p
+GROUP BY p.player_position
+WITH DATA;
+
+CREATE UNIQUE INDEX uq_mv_player_position_statistics_position ON mv_player_position_statistics (position);
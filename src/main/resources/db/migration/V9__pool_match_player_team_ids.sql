@@ -0,0 +1,6 @@
+-- Match, Player and Team ids are now allocated 50 at a time by Hibernate's pooled optimizer,
+-- so bulk imports need one sequence round trip per 50 rows instead of one per row.
+-- The increment must equal allocationSize on the entities.
+ALTER SEQUENCE match_sequence INCREMENT BY 50;
+ALTER SEQUENCE player_sequence INCREMENT BY 50;
+ALTER SEQUENCE team_sequence INCREMENT BY 50;
@@ -0,0 +1,155 @@
+package is.hi.hbv501gteam23.Config;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Country;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.Repositories.CountryRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.TeamRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.VenueRepository;
+import is.hi.hbv501gteam23.Persistence.dto.TeamDto;
+import is.hi.hbv501gteam23.Persistence.dto.VenueDto;
+import is.hi.hbv501gteam23.Services.Implementation.TeamServiceImplementation;
+import is.hi.hbv501gteam23.Services.Implementation.VenueServiceImplementation;
+import is.hi.hbv501gteam23.Services.Interfaces.AuditService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that lookups of teams and venues by id are served from the second-level cache and
+ * that {@code patchTeam}, {@code updateVenue} and {@code deleteVenue} never leave stale entries
+ * or cached query results behind.
+ * <p>
+ * Tests run without a surrounding transaction so every service call commits, as it would
+ * in a request. Skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+    SecondLevelCacheConfig.class,
+    TeamServiceImplementation.class,
+    VenueServiceImplementation.class,
+    CountryRegistry.class,
+    ChangeVersions.class
+})
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @MockitoBean private AuditService auditService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private TeamServiceImplementation teamService;
+    @Autowired private VenueServiceImplementation venueService;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private VenueRepository venueRepository;
+    @Autowired private CountryRepository countryRepository;
+    @Autowired private CountryRegistry countryRegistry;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        if (!countryRepository.existsById("IS")) {
+            countryRepository.save(Country.builder().code("IS").countryName("Iceland").build());
+        }
+        countryRegistry.refresh(countryRepository.findAll());
+    }
+
+    @Test
+    void teamByIdIsServedFromCache() {
+        Team team = createTeam(createVenue());
+        teamRepository.findById(team.getId());
+
+        statistics.clear();
+        Team cached = teamRepository.findById(team.getId()).orElseThrow();
+
+        assertThat(cached.getName()).isEqualTo(team.getName());
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.TEAMS).getHitCount()).isPositive();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void patchTeamReplacesCachedEntry() {
+        Team team = createTeam(createVenue());
+        teamRepository.findById(team.getId());
+
+        String renamed = unique("Renamed");
+        teamService.patchTeam(team.getId(), new TeamDto.PatchTeamRequest(renamed, null, null, null));
+
+        statistics.clear();
+        assertThat(teamRepository.findById(team.getId()).orElseThrow().getName()).isEqualTo(renamed);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(teamService.getTeamById(team.getId()).getName()).isEqualTo(renamed);
+    }
+
+    @Test
+    void updateVenueReplacesCachedEntryAndInvalidatesQueries() {
+        Venue venue = createVenue();
+        venueService.findById(venue.getId());
+        venueRepository.findByNameIgnoreCase(venue.getName());
+        venueRepository.findByNameIgnoreCase(venue.getName());
+        assertThat(sessionFactory.getCache().containsEntity(Venue.class, venue.getId())).isTrue();
+        assertThat(statistics.getQueryCacheHitCount()).isPositive();
+
+        String renamed = unique("Renamed venue");
+        venueService.updateVenue(venue.getId(), new VenueDto.PatchVenueRequest(renamed, null));
+
+        statistics.clear();
+        assertThat(venueService.findById(venue.getId()).getName()).isEqualTo(renamed);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(venueRepository.findByNameIgnoreCase(venue.getName())).isNull();
+        assertThat(statistics.getQueryCacheHitCount()).isZero();
+    }
+
+    @Test
+    void deleteVenueEvictsCachedEntry() {
+        Venue venue = createVenue();
+        venueService.findById(venue.getId());
+        assertThat(sessionFactory.getCache().containsEntity(Venue.class, venue.getId())).isTrue();
+
+        venueService.deleteVenue(venue.getId());
+
+        assertThat(sessionFactory.getCache().containsEntity(Venue.class, venue.getId())).isFalse();
+        assertThatThrownBy(() -> venueService.findById(venue.getId()))
+            .isInstanceOf(ResponseStatusException.class);
+    }
+
+    private Venue createVenue() {
+        return venueService.createVenue(new VenueDto.CreateVenueRequest(unique("Venue"), "Laugardalur"));
+    }
+
+    private Team createTeam(Venue venue) {
+        return teamService.createTeam(new TeamDto.CreateTeamRequest(unique("Team"), "IS", venue.getId()));
+    }
+
+    private static String unique(String prefix) {
+        return prefix + " " + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,158 @@
+package is.hi.hbv501gteam23.Config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import is.hi.hbv501gteam23.Persistence.dto.SlowQueryDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.postgresql.PGConnection;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs statements through {@link SlowQueryDataSourceWrapper} with a zero threshold, so every
+ * statement counts as slow, and checks the JSON log line, the captured plan, and that the
+ * proxies behave like the pool's objects for {@code unwrap} and in hash-based collections.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@ExtendWith(OutputCaptureExtension.class)
+class SlowQueryLogTests {
+    private static final String SECRET = "secret@example.com";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static PGSimpleDataSource target;
+
+    private DataSource dataSource;
+    private SlowQueryLog slowQueryLog;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void createTable() throws Exception {
+        target = new PGSimpleDataSource();
+        target.setUrl(postgres.getJdbcUrl());
+        target.setUser(postgres.getUsername());
+        target.setPassword(postgres.getPassword());
+        try (Connection connection = target.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE accounts (account_id BIGINT PRIMARY KEY, email TEXT NOT NULL)");
+            statement.execute("INSERT INTO accounts VALUES (1, '" + SECRET + "'), (2, 'other@example.com')");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        SlowQueryDataSourceWrapper wrapper = new SlowQueryDataSourceWrapper(beans.getBeanProvider(SlowQueryLog.class), Duration.ZERO);
+        dataSource = (DataSource) wrapper.postProcessAfterInitialization(target, "dataSource");
+        slowQueryLog = new SlowQueryLog(dataSource, objectMapper, new SimpleMeterRegistry(),
+            Duration.ZERO, 1.0, Duration.ofSeconds(5), 16, 10);
+        beans.addBean("slowQueryLog", slowQueryLog);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowQueryLog.shutdown();
+    }
+
+    @Test
+    void slowStatementIsLoggedAsOneJsonLineWithoutValues(CapturedOutput output) throws Exception {
+        selectByEmail();
+
+        // The explain's own SET statements are slow too, at a zero threshold
+        List<String> lines = output.getOut().lines()
+            .filter(line -> line.contains("\"slow_query\"") && line.contains("accounts"))
+            .toList();
+        assertThat(lines).hasSize(1);
+        String line = lines.get(0);
+        JsonNode entry = objectMapper.readTree(line.substring(line.indexOf('{')));
+        assertThat(entry.get("sql").asText()).isEqualTo("SELECT account_id FROM accounts WHERE email = ?");
+        assertThat(entry.get("parameters").asInt()).isEqualTo(1);
+        assertThat(entry.get("explain").asBoolean()).isTrue();
+        assertThat(line).doesNotContain(SECRET);
+    }
+
+    @Test
+    void sampledPlanIsCapturedWithValuesRedacted() throws Exception {
+        selectByEmail();
+
+        List<SlowQueryDto.SlowQueryPlanResponse> plans = awaitPlans();
+        assertThat(plans).singleElement().satisfies(plan -> {
+            assertThat(plan.sql()).isEqualTo("SELECT account_id FROM accounts WHERE email = ?");
+            assertThat(plan.plan()).contains("Seq Scan on accounts").contains("Filter:").contains("actual time");
+            assertThat(plan.plan()).doesNotContain(SECRET);
+        });
+    }
+
+    @Test
+    void unwrapReachesTheDriver() throws Exception {
+        assertThat(dataSource.isWrapperFor(PGSimpleDataSource.class)).isTrue();
+        assertThat(dataSource.unwrap(PGSimpleDataSource.class)).isSameAs(target);
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.unwrap(PGConnection.class)).isNotNull();
+        }
+    }
+
+    @Test
+    void proxiesCompareByIdentity() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement first = connection.createStatement();
+             Statement second = connection.createStatement()) {
+            Set<Object> seen = new HashSet<>(List.of(connection, first));
+
+            assertThat(connection).isEqualTo(connection);
+            assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+            assertThat(first).isEqualTo(first).isNotEqualTo(second);
+            assertThat(first.equals(first.unwrap(Statement.class))).isFalse();
+            assertThat(seen).contains(connection, first).doesNotContain(second);
+        }
+    }
+
+    @Test
+    void redactKeepsCostsAndTimings() {
+        assertThat(SlowQueryLog.redact("  Index Cond: ((team_id = 42) AND (name = 'O''Neill'::text))"))
+            .isEqualTo("  Index Cond: ((team_id = ?) AND (name = ?::text))");
+        assertThat(SlowQueryLog.redact("Seq Scan on teams  (cost=0.00..1.05 rows=5 width=8) (actual time=0.010..0.011 rows=1 loops=1)"))
+            .isEqualTo("Seq Scan on teams  (cost=0.00..1.05 rows=5 width=8) (actual time=0.010..0.011 rows=1 loops=1)");
+        assertThat(SlowQueryLog.redact("  Rows Removed by Filter: 41")).isEqualTo("  Rows Removed by Filter: 41");
+    }
+
+    private void selectByEmail() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT account_id FROM accounts WHERE email = ?")) {
+            statement.setString(1, SECRET);
+            try (ResultSet rows = statement.executeQuery()) {
+                assertThat(rows.next()).isTrue();
+            }
+        }
+    }
+
+    private List<SlowQueryDto.SlowQueryPlanResponse> awaitPlans() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (slowQueryLog.recentPlans().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        return slowQueryLog.recentPlans();
+    }
+}
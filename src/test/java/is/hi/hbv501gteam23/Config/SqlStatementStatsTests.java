@@ -0,0 +1,41 @@
+package is.hi.hbv501gteam23.Config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that statements differing only in parameters, literals or padded IN-list length
+ * count as one shape, so an N+1 is reported however its rows are loaded.
+ */
+class SqlStatementStatsTests {
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementStats.end();
+    }
+
+    @Test
+    void literalsAndInListsFoldIntoOneShape() {
+        assertThat(SqlStatementStats.shapeOf("select t.name from teams t where t.team_id in (?, ?, ?, ?)"))
+            .isEqualTo(SqlStatementStats.shapeOf("select t.name\n  from teams t\n where t.team_id in (?)"))
+            .isEqualTo("select t.name from teams t where t.team_id in (?...)");
+        assertThat(SqlStatementStats.shapeOf("select * from players where name = 'O''Neill' limit 50"))
+            .isEqualTo("select * from players where name = ? limit ?");
+    }
+
+    @Test
+    void reportsShapesAboveTheThresholdOnly() {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        for (long id = 1; id <= 6; id++) {
+            stats.statementPrepared("select v.name from venues v where v.venue_id=" + id);
+        }
+        stats.statementPrepared("select m.match_id from matches m");
+
+        assertThat(SqlStatementStats.current()).isSameAs(stats);
+        assertThat(stats.statements()).isEqualTo(7);
+        assertThat(stats.repeatedShapes(5)).containsOnlyKeys("select v.name from venues v where v.venue_id=?");
+        assertThat(stats.repeatedShapes(6)).isEmpty();
+    }
+}
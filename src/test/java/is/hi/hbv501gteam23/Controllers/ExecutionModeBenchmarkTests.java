@@ -0,0 +1,209 @@
+package is.hi.hbv501gteam23.Controllers;
+
+import is.hi.hbv501gteam23.Hbv501GTeam23Application;
+import is.hi.hbv501gteam23.Persistence.Entities.Country;
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Entities.Player;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.Repositories.CountryRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.MatchRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.PlayerRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.TeamRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.VenueRepository;
+import is.hi.hbv501gteam23.Persistence.enums.PlayerPosition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares throughput and p99 latency of {@code GET /matches} and {@code GET /players}
+ * on Tomcat's platform thread pool and in the {@code virtual-threads} profile.
+ * <p>
+ * Both modes boot the full application against the same Postgres container and seeded data,
+ * and use the same Hikari pool size, so only the request threading differs. Results are
+ * printed as a table. Not part of the regular build, run with
+ * {@code ./mvnw test -Dtest=ExecutionModeBenchmarkTests -Dbenchmark=true}.
+ * {@code benchmark.concurrency} and {@code benchmark.duration} (seconds) tune the load.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExecutionModeBenchmarkTests {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final List<String> PATHS = List.of("/matches", "/players");
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 400);
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("benchmark.duration", 20));
+
+    @Test
+    void compareExecutionModes() {
+        Map<String, Map<String, Result>> results = new LinkedHashMap<>();
+        results.put("platform", run(false));
+        results.put("virtual-threads", run(true));
+
+        System.out.printf("%n%-16s %-10s %12s %10s %10s %8s%n", "mode", "path", "req/s", "p50 ms", "p99 ms", "errors");
+        results.forEach((mode, byPath) -> byPath.forEach((path, r) ->
+            System.out.printf("%-16s %-10s %12.1f %10.1f %10.1f %8d%n",
+                mode, path, r.throughput(), r.percentile(0.50), r.percentile(0.99), r.errors())));
+
+        results.values().forEach(byPath -> byPath.values().forEach(r -> assertThat(r.latenciesNanos()).isNotEmpty()));
+    }
+
+    private Map<String, Result> run(boolean virtualThreads) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Hbv501GTeam23Application.class)
+            .properties(
+                "spring.datasource.url=" + postgres.getJdbcUrl(),
+                "spring.datasource.username=" + postgres.getUsername(),
+                "spring.datasource.password=" + postgres.getPassword(),
+                "jwt.secret=ZXhlY3V0aW9uLW1vZGUtYmVuY2htYXJrLXNpZ25pbmcta2V5LTAxMjM0NTY3",
+                "server.port=0",
+                "spring.datasource.hikari.maximum-pool-size=20",
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.org.springframework=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+            );
+        if (virtualThreads) builder.profiles("virtual-threads");
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            seedOnce(context);
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+            drive(port, WARMUP);
+            return drive(port, DURATION);
+        }
+    }
+
+    private Map<String, Result> drive(int port, Duration duration) {
+        Map<String, ConcurrentLinkedQueue<Long>> latencies = new LinkedHashMap<>();
+        Map<String, AtomicLong> errors = new LinkedHashMap<>();
+        for (String path : PATHS) {
+            latencies.put(path, new ConcurrentLinkedQueue<>());
+            errors.put(path, new AtomicLong());
+        }
+
+        // Closing the executor waits for every client to pass the deadline before the HTTP client closes
+        try (HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            long deadline = System.nanoTime() + duration.toNanos();
+
+            for (int c = 0; c < CONCURRENCY; c++) {
+                String path = PATHS.get(c % PATHS.size());
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                latencies.get(path).add(System.nanoTime() - start);
+                            } else {
+                                errors.get(path).incrementAndGet();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            errors.get(path).incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (String path : PATHS) {
+            long[] sorted = latencies.get(path).stream().mapToLong(Long::longValue).sorted().toArray();
+            results.put(path, new Result(sorted, errors.get(path).get(), duration));
+        }
+        return results;
+    }
+
+    /**
+     * Seeds teams, players and matches the first time the application is booted.
+     */
+    private static void seedOnce(ConfigurableApplicationContext context) {
+        MatchRepository matchRepository = context.getBean(MatchRepository.class);
+        if (matchRepository.count() > 0) return;
+
+        Country iceland = context.getBean(CountryRepository.class).findById("IS").orElseThrow();
+        Venue venue = context.getBean(VenueRepository.class)
+            .save(Venue.builder().name("Benchmark Stadium").address("Laugardalur").build());
+
+        TeamRepository teamRepository = context.getBean(TeamRepository.class);
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            teams.add(Team.builder().name("Team " + i).country(iceland).venue(venue).isActive(true).build());
+        }
+        teams = teamRepository.saveAll(teams);
+
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            players.add(Player.builder()
+                .name("Player " + i)
+                .dateOfBirth(LocalDate.of(1995, 1, 1).plusDays(i))
+                .country(iceland)
+                .team(teams.get(i % teams.size()))
+                .position(PlayerPosition.values()[i % PlayerPosition.values().length])
+                .build());
+        }
+        context.getBean(PlayerRepository.class).saveAll(players);
+
+        List<Match> matches = new ArrayList<>();
+        OffsetDateTime kickoff = OffsetDateTime.now().minusYears(1);
+        for (int i = 0; i < 380; i++) {
+            Team home = teams.get(i % teams.size());
+            Team away = teams.get((i + 1 + i / teams.size()) % teams.size());
+            if (home == away) away = teams.get((i + 2) % teams.size());
+            matches.add(Match.builder()
+                .homeTeam(home)
+                .awayTeam(away)
+                .venue(venue)
+                .matchDate(kickoff.plusHours(i * 12L))
+                .build());
+        }
+        matchRepository.saveAll(matches);
+    }
+
+    private record Result(long[] latenciesNanos, long errors, Duration duration) {
+        double throughput() {
+            return latenciesNanos.length / (double) duration.toSeconds();
+        }
+
+        double percentile(double p) {
+            if (latenciesNanos.length == 0) return Double.NaN;
+            int index = (int) Math.ceil(p * latenciesNanos.length) - 1;
+            return latenciesNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
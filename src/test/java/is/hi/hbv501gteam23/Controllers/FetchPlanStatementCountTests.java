@@ -0,0 +1,163 @@
+package is.hi.hbv501gteam23.Controllers;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Country;
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Entities.Player;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Entities.User;
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.Repositories.AuthRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.CountryRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.MatchRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.PlayerRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.TeamRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.VenueRepository;
+import is.hi.hbv501gteam23.Persistence.enums.PlayerPosition;
+import is.hi.hbv501gteam23.Persistence.enums.SystemRole;
+import is.hi.hbv501gteam23.Security.CustomUserDetails;
+import is.hi.hbv501gteam23.Security.PasswordHashingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Pins the number of SQL statements each endpoint runs, so an association that is
+ * loaded by accident (or an N+1 in a mapping) fails the build.
+ * <p>
+ * The second-level cache is turned off so the counts only depend on the fetch plans:
+ * detail views load their entity graph in one query, lists select straight into DTOs,
+ * writes look up the root row only and authentication never touches the profile image.
+ * Skipped when Docker is not available.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+    "jwt.secret=c3RhdGVtZW50LWNvdW50LXRlc3RzLXNpZ25pbmcta2V5LTAxMjM0NTY3ODk=",
+    "second-level-cache.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class FetchPlanStatementCountTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final String PASSWORD = "Correct-Horse-42";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private CountryRepository countryRepository;
+    @Autowired private VenueRepository venueRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private PlayerRepository playerRepository;
+    @Autowired private MatchRepository matchRepository;
+    @Autowired private AuthRepository authRepository;
+    @Autowired private PasswordHashingService passwordHashingService;
+
+    private Statistics statistics;
+    private Venue venue;
+    private Team home;
+    private Player player;
+    private Match match;
+    private User account;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Country iceland = countryRepository.findById("IS").orElseThrow();
+
+        venue = venueRepository.save(Venue.builder().name(unique("Venue")).address("Laugardalur").build());
+        home = teamRepository.save(Team.builder().name(unique("Home")).country(iceland).venue(venue).isActive(true).build());
+        Team away = teamRepository.save(Team.builder().name(unique("Away")).country(iceland).venue(venue).isActive(true).build());
+        player = playerRepository.save(Player.builder()
+            .name(unique("Player"))
+            .dateOfBirth(LocalDate.of(2000, 1, 1))
+            .country(iceland)
+            .team(home)
+            .position(PlayerPosition.FORWARD)
+            .build());
+        match = matchRepository.save(Match.builder()
+            .homeTeam(home)
+            .awayTeam(away)
+            .venue(venue)
+            .matchDate(OffsetDateTime.now())
+            .build());
+        account = authRepository.save(User.builder()
+            .name("Fetch plan")
+            .email(unique("user").replace(' ', '-') + "@example.com")
+            .passwordHash(passwordHashingService.encode(PASSWORD))
+            .role(SystemRole.USER)
+            .build());
+    }
+
+    @Test
+    void detailViewsLoadTheirGraphInOneQuery() throws Exception {
+        assertStatements(get("/matches/{id}", match.getId()), 1);
+        assertStatements(get("/players/{id}", player.getId()), 1);
+        assertStatements(get("/teams/{id}", home.getId()), 1);
+        assertStatements(get("/venues/{id}", venue.getId()), 1);
+        assertStatements(get("/teams/venue/{venueId}", venue.getId()), 1);
+    }
+
+    @Test
+    void listViewsRunOneQuery() throws Exception {
+        assertStatements(get("/matches"), 1);
+        assertStatements(get("/players"), 1);
+        assertStatements(get("/teams"), 1);
+        assertStatements(get("/venues"), 1);
+    }
+
+    @Test
+    void writesLoadOnlyTheRowTheyChange() throws Exception {
+        assertStatements(patch("/teams/{id}", home.getId())
+            .with(user("admin").roles("ADMIN"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"name\":\"" + unique("Renamed") + "\"}"), 2);
+        assertStatements(patch("/players/{id}", player.getId())
+            .with(user("admin").roles("ADMIN"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"goals\":3}"), 2);
+    }
+
+    @Test
+    void loginAndProfileRunOneQuery() throws Exception {
+        assertStatements(post("/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"" + account.getEmail() + "\",\"password\":\"" + PASSWORD + "\"}"), 1);
+        assertStatements(get("/profile").with(user(new CustomUserDetails(account))), 1);
+    }
+
+    private void assertStatements(RequestBuilder request, long expected) throws Exception {
+        statistics.clear();
+        int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+        assertThat(status).isBetween(200, 299);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+    }
+
+    private static String unique(String prefix) {
+        return prefix + " " + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,122 @@
+package is.hi.hbv501gteam23.Persistence.Repositories;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Country;
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.dto.VenueDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the venue slot exclusion constraint from {@code V11__add_venue_slot_exclusion.sql}
+ * and the conflict and booking queries, which also see matches exempt from the constraint.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class VenueSlotTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final OffsetDateTime KICKOFF = OffsetDateTime.of(2030, 6, 1, 18, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired private MatchRepository matchRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private VenueRepository venueRepository;
+    @Autowired private CountryRepository countryRepository;
+
+    private Venue venue;
+    private Team home;
+    private Team away;
+
+    @BeforeEach
+    void setUp() {
+        Country iceland = countryRepository.findById("IS")
+            .orElseGet(() -> countryRepository.save(Country.builder().code("IS").countryName("Iceland").build()));
+        venue = venueRepository.save(Venue.builder().name("Slot Arena").address("Laugardalur").build());
+        home = teamRepository.save(Team.builder().name("Slot Home").country(iceland).venue(venue).isActive(true).build());
+        away = teamRepository.save(Team.builder().name("Slot Away").country(iceland).venue(venue).isActive(true).build());
+    }
+
+    @Test
+    void overlappingSlotIsRejected() {
+        matchRepository.saveAndFlush(match(KICKOFF));
+
+        assertThatThrownBy(() -> matchRepository.saveAndFlush(match(KICKOFF.plus(Match.VENUE_SLOT).minusMinutes(1))))
+            .isInstanceOf(DataIntegrityViolationException.class)
+            .hasMessageContaining("matches_venue_slot_excl");
+    }
+
+    @Test
+    void backToBackSlotsAreAllowed() {
+        matchRepository.saveAndFlush(match(KICKOFF));
+        matchRepository.saveAndFlush(match(KICKOFF.plus(Match.VENUE_SLOT)));
+
+        assertThat(matchRepository.findVenueBookings(venue.getId(), KICKOFF, KICKOFF.plusDays(1))).hasSize(2);
+    }
+
+    @Test
+    void conflictIgnoresTheMatchBeingMoved() {
+        Match booked = matchRepository.saveAndFlush(match(KICKOFF));
+        OffsetDateTime moved = KICKOFF.plusHours(1);
+
+        assertThat(matchRepository.findVenueConflict(venue.getId(), moved, null)).contains(booked.getId());
+        assertThat(matchRepository.findVenueConflict(venue.getId(), moved, booked.getId())).isEmpty();
+        assertThat(matchRepository.findVenueConflict(venue.getId(), KICKOFF.plus(Match.VENUE_SLOT), null)).isEmpty();
+    }
+
+    @Test
+    void bookingsIncludeSlotsStartingBeforeTheWindow() {
+        Match booked = matchRepository.saveAndFlush(match(KICKOFF));
+
+        List<VenueDto.BookedSlot> slots = matchRepository.findVenueBookings(
+            venue.getId(), KICKOFF.plusHours(2), KICKOFF.plusDays(1));
+
+        assertThat(slots).singleElement().satisfies(slot -> {
+            assertThat(slot.matchId()).isEqualTo(booked.getId());
+            assertThat(slot.start().toInstant()).isEqualTo(KICKOFF.toInstant());
+            assertThat(slot.end().toInstant()).isEqualTo(KICKOFF.plus(Match.VENUE_SLOT).toInstant());
+        });
+    }
+
+    @Test
+    void exemptMatchStillOccupiesTheVenueUntilItLosesItsExemption() {
+        Match booked = matchRepository.saveAndFlush(match(KICKOFF));
+        Match exempt = match(KICKOFF.plusHours(1));
+        exempt.setOverlapExempt(true);
+        matchRepository.saveAndFlush(exempt);
+
+        assertThat(matchRepository.findVenueConflict(venue.getId(), KICKOFF.plusHours(2), booked.getId()))
+            .contains(exempt.getId());
+        assertThat(matchRepository.findVenueBookings(venue.getId(), KICKOFF, KICKOFF.plusDays(1)))
+            .extracting(VenueDto.BookedSlot::matchId)
+            .containsExactly(booked.getId(), exempt.getId());
+
+        exempt.setOverlapExempt(false);
+        assertThatThrownBy(() -> matchRepository.saveAndFlush(exempt))
+            .isInstanceOf(DataIntegrityViolationException.class)
+            .hasMessageContaining("matches_venue_slot_excl");
+    }
+
+    private Match match(OffsetDateTime matchDate) {
+        return Match.builder().homeTeam(home).awayTeam(away).venue(venue).matchDate(matchDate).build();
+    }
+}
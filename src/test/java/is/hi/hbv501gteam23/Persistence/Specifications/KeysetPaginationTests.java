@@ -0,0 +1,165 @@
+package is.hi.hbv501gteam23.Persistence.Specifications;
+
+import is.hi.hbv501gteam23.Persistence.Entities.Country;
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Entities.Venue;
+import is.hi.hbv501gteam23.Persistence.Repositories.CountryRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.MatchRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.TeamRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.VenueRepository;
+import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pages through matches with {@link MatchSpecifications#keysetAfter} the way
+ * {@code findMatchPage} does, over sort values with many ties, and checks with {@code EXPLAIN}
+ * that a later page starts its index scan at the cursor instead of at the start of the index.
+ * Criteria values are inlined so the captured SQL can be explained as-is. Skipped when Docker
+ * is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "is.hi.hbv501gteam23.Persistence.Specifications.KeysetPaginationTests$SqlCapture",
+    "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline"
+})
+class KeysetPaginationTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final OffsetDateTime KICKOFF = OffsetDateTime.of(2030, 6, 1, 18, 0, 0, 0, ZoneOffset.UTC);
+    private static final int[] HOME_GOALS = {1, 0, 1, 2, 1, 0, 1, 2, 1, 0};
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private MatchRepository matchRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private VenueRepository venueRepository;
+    @Autowired private CountryRepository countryRepository;
+
+    private final List<Match> matches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Country iceland = countryRepository.findById("IS")
+            .orElseGet(() -> countryRepository.save(Country.builder().code("IS").countryName("Iceland").build()));
+        Venue venue = venueRepository.save(Venue.builder().name("Keyset Arena").address("Laugardalur").build());
+        Team home = teamRepository.save(Team.builder().name("Keyset Home").country(iceland).venue(venue).isActive(true).build());
+        Team away = teamRepository.save(Team.builder().name("Keyset Away").country(iceland).venue(venue).isActive(true).build());
+        for (int i = 0; i < HOME_GOALS.length; i++) {
+            matches.add(matchRepository.save(Match.builder()
+                .homeTeam(home).awayTeam(away).venue(venue)
+                .matchDate(KICKOFF.plusDays(i))
+                .homeGoals(HOME_GOALS[i]).awayGoals(0)
+                .build()));
+        }
+        matchRepository.flush();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    void ascendingPagesVisitEveryTiedRowOnce() {
+        Comparator<Match> order = Comparator.comparing(Match::getHomeGoals).thenComparing(Match::getId);
+        assertThat(pageThrough(false)).containsExactlyElementsOf(matches.stream().sorted(order).map(Match::getId).toList());
+    }
+
+    @Test
+    void descendingPagesVisitEveryTiedRowOnce() {
+        Comparator<Match> order = Comparator.comparing(Match::getHomeGoals).thenComparing(Match::getId).reversed();
+        assertThat(pageThrough(true)).containsExactlyElementsOf(matches.stream().sorted(order).map(Match::getId).toList());
+    }
+
+    @Test
+    void laterPageStartsTheIndexScanAtTheCursor() {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+        matchRepository.findResponses(MatchSpecifications.keysetAfter("homeGoals", false, 1, matches.get(0).getId()), sort(false), PAGE_SIZE);
+
+        String plan = explain(lastPageQuery());
+        assertThat(plan).contains("idx_matches_home_goals_id");
+        assertThat(plan.lines().filter(line -> line.contains("Index Cond")))
+            .anySatisfy(line -> assertThat(line).contains("home_goals >= 1"));
+    }
+
+    /**
+     * Reads every page, starting each one after the last row of the previous page.
+     */
+    private List<Long> pageThrough(boolean descending) {
+        List<Long> seen = new ArrayList<>();
+        Integer lastValue = null;
+        Long lastId = null;
+        while (true) {
+            List<MatchDto.MatchResponse> page = matchRepository.findResponses(
+                MatchSpecifications.keysetAfter("homeGoals", descending, lastValue, lastId), sort(descending), PAGE_SIZE);
+            if (page.isEmpty()) return seen;
+            page.forEach(row -> seen.add(row.id()));
+            MatchDto.MatchResponse last = page.get(page.size() - 1);
+            lastValue = last.homeGoals();
+            lastId = last.id();
+        }
+    }
+
+    private static Sort sort(boolean descending) {
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Sort.by(direction, "homeGoals").and(Sort.by(direction, "id"));
+    }
+
+    private String lastPageQuery() {
+        return SqlCapture.STATEMENTS.stream()
+            .filter(sql -> sql.toLowerCase(Locale.ROOT).contains("order by"))
+            .reduce((first, second) -> second)
+            .orElseThrow(() -> new AssertionError("No page query was executed"));
+    }
+
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            StringBuilder plan = new StringBuilder();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+                while (rs.next()) plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        });
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares, without changing it.
+     */
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package is.hi.hbv501gteam23.Persistence.Specifications;
+
+import is.hi.hbv501gteam23.Persistence.Repositories.AuthRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.MatchRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.PlayerRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.TeamRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.VenueRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with {@code EXPLAIN} that the SQL generated for the name search Specifications
+ * can be served by the {@code pg_trgm} indexes from {@code V6__add_name_trigram_indexes.sql}.
+ * <p>
+ * Sequential scans are disabled for each test, so the planner picks the trigram index
+ * whenever the predicate matches the indexed expression and falls back to a (penalized)
+ * sequential scan when it does not. Criteria values are inlined so the captured SQL can be
+ * explained as-is. Skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "is.hi.hbv501gteam23.Persistence.Specifications.TrigramSearchIndexTests$SqlCapture",
+    "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline"
+})
+class TrigramSearchIndexTests {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private PlayerRepository playerRepository;
+    @Autowired private TeamRepository teamRepository;
+    @Autowired private VenueRepository venueRepository;
+    @Autowired private AuthRepository authRepository;
+    @Autowired private MatchRepository matchRepository;
+
+    @BeforeEach
+    void disableSequentialScans() {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    void playerNameSearchUsesTrigramIndex() {
+        playerRepository.findAll(PlayerSpecifications.nameContains("Messi"));
+        assertThat(explainSearch()).contains("idx_players_player_name_trgm");
+    }
+
+    @Test
+    void teamNameSearchUsesTrigramIndex() {
+        teamRepository.findAll(TeamSpecifications.nameContains("United"));
+        assertThat(explainSearch()).contains("idx_teams_team_name_trgm");
+    }
+
+    @Test
+    void venueNameAndAddressSearchUseTrigramIndexes() {
+        venueRepository.findAll(VenueSpecifications.nameContains("Laugardals"));
+        assertThat(explainSearch()).contains("idx_venues_venue_name_trgm");
+
+        SqlCapture.STATEMENTS.clear();
+        venueRepository.findAll(VenueSpecifications.addressContains("Reykjav"));
+        assertThat(explainSearch()).contains("idx_venues_address_trgm");
+    }
+
+    @Test
+    void userNameAndEmailSearchUseTrigramIndexes() {
+        authRepository.findAll(UserSpecifications.nameContains("jon"));
+        assertThat(explainSearch()).contains("idx_users_user_name_trgm");
+
+        SqlCapture.STATEMENTS.clear();
+        authRepository.findAll(UserSpecifications.emailContains("example"));
+        assertThat(explainSearch()).contains("idx_users_email_trgm");
+    }
+
+    @Test
+    void matchTeamNameSearchUsesTeamTrigramIndex() {
+        matchRepository.findAll(MatchSpecifications.matchHomeTeamName("Valur"));
+        assertThat(explainSearch()).contains("idx_teams_team_name_trgm");
+    }
+
+    @Test
+    void wildcardsInSearchTermAreEscaped() {
+        playerRepository.findAll(PlayerSpecifications.nameContains("50%_off"));
+        assertThat(searchStatement()).contains("50\\%\\_off");
+    }
+
+    private String searchStatement() {
+        return SqlCapture.STATEMENTS.stream()
+            .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(" like "))
+            .reduce((first, second) -> second)
+            .orElseThrow(() -> new AssertionError("No LIKE query was executed"));
+    }
+
+    private String explainSearch() {
+        String sql = searchStatement();
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            StringBuilder plan = new StringBuilder();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+                while (rs.next()) plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        });
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares, without changing it.
+     */
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
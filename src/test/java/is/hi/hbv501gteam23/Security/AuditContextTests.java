@@ -0,0 +1,67 @@
+package is.hi.hbv501gteam23.Security;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the audit user stays bound to its own request when requests run on
+ * virtual threads, which are unmounted and resumed on other carriers while they block.
+ */
+class AuditContextTests {
+    private static final int REQUESTS = 2_000;
+
+    private final AuditContext auditContext = new AuditContext();
+
+    @Test
+    void eachVirtualThreadSeesOnlyItsOwnUser() throws Exception {
+        CountDownLatch allBound = new CountDownLatch(REQUESTS);
+        List<Future<Long>> seen = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long userId = 1; userId <= REQUESTS; userId++) {
+                long id = userId;
+                seen.add(executor.submit(() -> {
+                    auditContext.setCurrentUserId(id);
+                    allBound.countDown();
+                    // Block until every request has bound its user, so carriers are shared
+                    allBound.await(10, TimeUnit.SECONDS);
+                    try {
+                        return auditContext.getCurrentUserId();
+                    } finally {
+                        auditContext.clear();
+                    }
+                }));
+            }
+        }
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(seen.get(i).get()).isEqualTo(i + 1L);
+        }
+    }
+
+    @Test
+    void userIsNotInheritedByChildThreads() throws Exception {
+        auditContext.setCurrentUserId(42L);
+        try {
+            Thread child = Thread.ofVirtual().unstarted(() -> assertThat(auditContext.getCurrentUserId()).isNull());
+            List<Throwable> failures = new ArrayList<>();
+            child.setUncaughtExceptionHandler((t, e) -> failures.add(e));
+            child.start();
+            child.join();
+
+            assertThat(failures).isEmpty();
+            assertThat(auditContext.getCurrentUserId()).isEqualTo(42L);
+        } finally {
+            auditContext.clear();
+        }
+        assertThat(auditContext.getCurrentUserId()).isNull();
+    }
+}
@@ -0,0 +1,199 @@
+package is.hi.hbv501gteam23.Services.Implementation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.enums.AuditAction;
+import is.hi.hbv501gteam23.Security.AuditContext;
+import is.hi.hbv501gteam23.Services.Interfaces.AuditService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the audit pipeline against a {@link JdbcTemplate} that records batches instead of
+ * inserting them, to check batching, the overflow policies, the drain on shutdown and that
+ * events only count once their transaction commits.
+ */
+class AuditServiceImplementationTests {
+    private static final Duration NEVER = Duration.ofHours(1);
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuditServiceImplementation auditService;
+
+    private record Rename(String name, Integer goals) {}
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (auditService != null) auditService.shutdown();
+    }
+
+    @Test
+    void fullBatchIsWrittenWithoutWaitingForTheFlushInterval() throws InterruptedException {
+        auditService = create(16, 3, NEVER, AuditServiceImplementation.OverflowPolicy.DROP, Duration.ZERO);
+        auditService.start();
+
+        for (long id = 1; id <= 3; id++) record(id);
+
+        await(() -> written().size() == 3);
+        assertThat(written()).extracting(AuditService.AuditEvent::entityId).containsExactly(1L, 2L, 3L);
+        assertThat(written()).allSatisfy(event -> {
+            assertThat(event.action()).isEqualTo(AuditAction.UPDATE);
+            assertThat(event.entityType()).isEqualTo("Team");
+            assertThat(event.changedFields()).containsExactly("name");
+        });
+    }
+
+    @Test
+    void shutdownWritesWhatIsStillBuffered() throws InterruptedException {
+        auditService = create(16, 100, NEVER, AuditServiceImplementation.OverflowPolicy.DROP, Duration.ZERO);
+        auditService.start();
+
+        for (long id = 1; id <= 5; id++) record(id);
+        auditService.shutdown();
+
+        assertThat(written()).extracting(AuditService.AuditEvent::entityId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(meterRegistry.get("audit.events.written").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void dropPolicyDiscardsEventsWhenTheBufferIsFull() throws InterruptedException {
+        // The writer is not started, so nothing leaves the buffer
+        auditService = create(2, 100, NEVER, AuditServiceImplementation.OverflowPolicy.DROP, Duration.ZERO);
+
+        for (long id = 1; id <= 4; id++) record(id);
+
+        assertThat(meterRegistry.get("audit.events.dropped").counter().count()).isEqualTo(2);
+        auditService.start();
+        auditService.shutdown();
+        assertThat(written()).extracting(AuditService.AuditEvent::entityId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void blockPolicyGivesUpAfterTheBlockTimeout() {
+        auditService = create(2, 100, NEVER, AuditServiceImplementation.OverflowPolicy.BLOCK, Duration.ofMillis(200));
+        record(1);
+        record(2);
+
+        long start = System.nanoTime();
+        record(3);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(waitedMillis).isBetween(200L, 5_000L);
+        assertThat(meterRegistry.get("audit.events.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void blockPolicyKeepsTheEventOnceRoomIsFreed() throws Exception {
+        auditService = create(2, 100, Duration.ofMillis(20), AuditServiceImplementation.OverflowPolicy.BLOCK, Duration.ofSeconds(10));
+        record(1);
+        record(2);
+
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> record(3));
+        Thread.sleep(100);
+        assertThat(blocked).isNotDone();
+
+        auditService.start();
+        blocked.get(10, TimeUnit.SECONDS);
+        auditService.shutdown();
+
+        assertThat(written()).extracting(AuditService.AuditEvent::entityId).containsExactly(1L, 2L, 3L);
+        assertThat(meterRegistry.get("audit.events.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    void eventsOfARolledBackTransactionAreNotRecorded() throws InterruptedException {
+        auditService = create(16, 100, NEVER, AuditServiceImplementation.OverflowPolicy.DROP, Duration.ZERO);
+        auditService.start();
+
+        // Rolled back: the synchronizations are discarded without afterCommit
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            record(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        List<TransactionSynchronization> committed;
+        try {
+            record(2);
+            committed = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        committed.forEach(TransactionSynchronization::afterCommit);
+
+        auditService.shutdown();
+        assertThat(written()).extracting(AuditService.AuditEvent::entityId).containsExactly(2L);
+    }
+
+    @Test
+    void failedBatchIsCounted() throws InterruptedException {
+        jdbcTemplate.fail = true;
+        auditService = create(16, 100, NEVER, AuditServiceImplementation.OverflowPolicy.DROP, Duration.ZERO);
+        auditService.start();
+
+        record(1);
+        record(2);
+        auditService.shutdown();
+
+        assertThat(meterRegistry.get("audit.events.failed").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("audit.events.written").counter().count()).isZero();
+    }
+
+    private AuditServiceImplementation create(
+        int capacity,
+        int batchSize,
+        Duration flushInterval,
+        AuditServiceImplementation.OverflowPolicy policy,
+        Duration blockTimeout
+    ) {
+        return new AuditServiceImplementation(jdbcTemplate, new AuditContext(), meterRegistry,
+            capacity, batchSize, flushInterval, policy, blockTimeout);
+    }
+
+    private void record(long teamId) {
+        auditService.record(AuditAction.UPDATE, Team.class, teamId, new Rename("Valur", null));
+    }
+
+    private List<AuditService.AuditEvent> written() {
+        return jdbcTemplate.batches.stream().flatMap(List::stream).toList();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * Keeps every batch it is given instead of sending it to a database.
+     */
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<List<AuditService.AuditEvent>> batches = new CopyOnWriteArrayList<>();
+        private volatile boolean fail;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize, ParameterizedPreparedStatementSetter<T> pss) {
+            if (fail) throw new IllegalStateException("Database unavailable");
+            batches.add(List.copyOf((Collection<AuditService.AuditEvent>) batchArgs));
+            return new int[0][];
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package is.hi.hbv501gteam23.Services.Implementation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import is.hi.hbv501gteam23.Config.ChangeVersions;
+import is.hi.hbv501gteam23.Config.CountryRegistry;
+import is.hi.hbv501gteam23.Persistence.Entities.Country;
+import is.hi.hbv501gteam23.Persistence.Entities.Team;
+import is.hi.hbv501gteam23.Persistence.Repositories.MatchRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.PlayerRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.TeamRepository;
+import is.hi.hbv501gteam23.Persistence.Repositories.VenueRepository;
+import is.hi.hbv501gteam23.Persistence.dto.ImportDto;
+import is.hi.hbv501gteam23.Persistence.enums.AuditAction;
+import is.hi.hbv501gteam23.Persistence.enums.ImportFormat;
+import is.hi.hbv501gteam23.Services.Interfaces.AuditService;
+import is.hi.hbv501gteam23.Services.Interfaces.StandingsService;
+import is.hi.hbv501gteam23.Services.Interfaces.StatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.server.ResponseStatusException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs team imports against mocked repositories, with chunks of three rows, to check how
+ * rejected chunks, capped error lists and uploads that break off part way are reported.
+ */
+class BulkImportServiceImplementationTests {
+    private static final int CHUNK_SIZE = 3;
+    private static final int MAX_ERRORS = 2;
+    private static final String BROKEN = "Broken FC";
+
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final CountryRegistry countryRegistry = mock(CountryRegistry.class);
+    private final StatisticsService statisticsService = mock(StatisticsService.class);
+    private final AuditService auditService = mock(AuditService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final List<List<String>> savedChunks = new ArrayList<>();
+    private BulkImportServiceImplementation bulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(countryRegistry.resolve("IS")).thenReturn(Country.builder().code("IS").countryName("Iceland").build());
+        // The database rejects any chunk holding BROKEN, as it would a constraint violation
+        doAnswer(invocation -> {
+            List<String> names = new ArrayList<>();
+            for (Team team : invocation.<Iterable<Team>>getArgument(0)) names.add(team.getName());
+            if (names.contains(BROKEN)) throw new DataIntegrityViolationException("duplicate key value");
+            savedChunks.add(names);
+            return List.of();
+        }).when(teamRepository).saveAll(any());
+
+        bulkImportService = new BulkImportServiceImplementation(
+            mock(MatchRepository.class), mock(PlayerRepository.class), teamRepository, mock(VenueRepository.class),
+            countryRegistry, new ChangeVersions(), mock(StandingsService.class), statisticsService, auditService,
+            new ObjectMapper(), transactionManager, CHUNK_SIZE, 100, MAX_ERRORS);
+    }
+
+    @Test
+    void rejectedChunkIsRetriedRowByRow() throws IOException {
+        ImportDto.ImportReport report = importCsv("name,country\nAlpha,IS\n" + BROKEN + ",IS\nGamma,IS\nDelta,IS\n");
+
+        assertThat(savedChunks).containsExactly(List.of("Alpha"), List.of("Gamma"), List.of("Delta"));
+        assertThat(report.received()).isEqualTo(4);
+        assertThat(report.imported()).isEqualTo(3);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.errors()).singleElement().satisfies(error -> {
+            assertThat(error.row()).isEqualTo(2);
+            assertThat(error.message()).startsWith("Rejected by the database");
+        });
+        verify(auditService, times(3)).record(eq(AuditAction.CREATE), eq(Team.class), any(), any());
+        verify(statisticsService).requestRefresh();
+    }
+
+    @Test
+    void errorListIsCappedButEveryFailureIsCounted() throws IOException {
+        ImportDto.ImportReport report = importCsv("name,country\nA,\nB,\nC,\nD,\n");
+
+        assertThat(report.received()).isEqualTo(4);
+        assertThat(report.imported()).isZero();
+        assertThat(report.failed()).isEqualTo(4);
+        assertThat(report.errors()).extracting(ImportDto.RowError::row).containsExactly(1, 2);
+        assertThat(report.errorsTruncated()).isTrue();
+        verify(statisticsService, never()).requestRefresh();
+    }
+
+    @Test
+    void malformedRowAfterACommittedChunkReturnsWhatWasImported() throws IOException {
+        ImportDto.ImportReport report = importCsv("name,country\nAlpha,IS\nBeta,IS\nGamma,IS\nDelta,IS\n\"Unterminated,IS\n");
+
+        assertThat(savedChunks).containsExactly(List.of("Alpha", "Beta", "Gamma"), List.of("Delta"));
+        assertThat(report.received()).isEqualTo(4);
+        assertThat(report.imported()).isEqualTo(4);
+        assertThat(report.stoppedEarly()).isEqualTo("Malformed CSV: Unterminated quoted cell");
+        verify(statisticsService).requestRefresh();
+    }
+
+    @Test
+    void malformedHeaderIsABadRequest() {
+        assertThatThrownBy(() -> importCsv("\"name,country\nAlpha,IS\n"))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(savedChunks).isEmpty();
+    }
+
+    private ImportDto.ImportReport importCsv(String csv) throws IOException {
+        return bulkImportService.importTeams(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV);
+    }
+}
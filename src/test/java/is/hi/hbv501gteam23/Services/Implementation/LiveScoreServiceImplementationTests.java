@@ -0,0 +1,180 @@
+package is.hi.hbv501gteam23.Services.Implementation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import is.hi.hbv501gteam23.Persistence.Entities.Match;
+import is.hi.hbv501gteam23.Persistence.Repositories.MatchRepository;
+import is.hi.hbv501gteam23.Persistence.dto.MatchDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the hand-off between publishing and the per-subscriber sender: scores published while
+ * a write is in progress collapse to the latest one, and stream slots are refused at
+ * {@code live.max-subscribers} and handed back however a stream ends, including when its
+ * match is deleted.
+ */
+class LiveScoreServiceImplementationTests {
+    private static final long MATCH_ID = 1L;
+
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Queue<RecordingEmitter> emitters = new ConcurrentLinkedQueue<>();
+    private volatile RecordingEmitter nextEmitter;
+    private LiveScoreServiceImplementation liveScoreService;
+
+    @BeforeEach
+    void setUp() {
+        Match match = Match.builder().id(MATCH_ID).homeGoals(0).awayGoals(0).build();
+        when(matchRepository.findAllById(List.of(MATCH_ID))).thenReturn(List.of(match));
+        liveScoreService = new LiveScoreServiceImplementation(matchRepository, meterRegistry, 1, 50, Duration.ofMinutes(1)) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = nextEmitter != null ? nextEmitter : new RecordingEmitter();
+                nextEmitter = null;
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        liveScoreService.shutdown();
+    }
+
+    @Test
+    void scoresPublishedDuringASendCollapseToTheLatest() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.release = new CountDownLatch(1);
+        nextEmitter = emitter;
+
+        liveScoreService.subscribe(List.of(MATCH_ID));
+        assertThat(emitter.sendStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // No transaction is active, so each publish reaches the subscriber right away
+        liveScoreService.publish(new MatchDto.LiveScore(MATCH_ID, 1, 0));
+        liveScoreService.publish(new MatchDto.LiveScore(MATCH_ID, 2, 0));
+        liveScoreService.publish(new MatchDto.LiveScore(MATCH_ID, 3, 0));
+        emitter.release.countDown();
+
+        await(() -> emitter.scores.size() == 2);
+        assertThat(emitter.scores).containsExactly(
+            new MatchDto.LiveScore(MATCH_ID, 0, 0),
+            new MatchDto.LiveScore(MATCH_ID, 3, 0));
+        assertThat(meterRegistry.get("live.updates.dropped").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("live.updates.sent").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void streamsBeyondTheLimitAreRefusedUntilOneCloses() {
+        liveScoreService.subscribe(List.of(MATCH_ID));
+
+        assertThatThrownBy(() -> liveScoreService.subscribe(List.of(MATCH_ID)))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+        emitters.remove().complete();
+        assertThat(meterRegistry.get("live.subscribers").gauge().value()).isZero();
+        assertThat(liveScoreService.subscribe(List.of(MATCH_ID))).isNotNull();
+    }
+
+    @Test
+    void slotIsReleasedWhenTheClientDisconnects() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.failSends = true;
+        nextEmitter = emitter;
+
+        liveScoreService.subscribe(List.of(MATCH_ID));
+
+        await(() -> meterRegistry.get("live.subscribers").gauge().value() == 0);
+        assertThat(liveScoreService.subscribe(List.of(MATCH_ID))).isNotNull();
+    }
+
+    @Test
+    void deletingAMatchEndsItsStreams() {
+        liveScoreService.subscribe(List.of(MATCH_ID));
+
+        liveScoreService.matchDeleted(MATCH_ID);
+
+        assertThat(emitters.remove().completed).isTrue();
+        assertThat(meterRegistry.get("live.subscribers").gauge().value()).isZero();
+        assertThat(liveScoreService.subscribe(List.of(MATCH_ID))).isNotNull();
+    }
+
+    @Test
+    void slotIsReleasedWhenAMatchIsMissing() {
+        assertThatThrownBy(() -> liveScoreService.subscribe(List.of(2L)))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+
+        assertThat(liveScoreService.subscribe(List.of(MATCH_ID))).isNotNull();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * Records the scores written to it instead of writing to a response, and runs its
+     * completion callback on {@link #complete()} the way the servlet container would.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<MatchDto.LiveScore> scores = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private volatile CountDownLatch release = new CountDownLatch(0);
+        private volatile boolean failSends;
+        private volatile Runnable completionCallback = () -> { };
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            if (failSends) throw new IOException("Broken pipe");
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof MatchDto.LiveScore score) scores.add(score);
+            }
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        @Override
+        public synchronized void complete() {
+            super.complete();
+            completed = true;
+            completionCallback.run();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package is.hi.hbv501gteam23.Utils;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the audit ring buffer loses nothing and keeps each producer's order while
+ * many producers race, and that it refuses elements instead of blocking when full.
+ */
+class RingBufferTests {
+    private static final int PRODUCERS = 8;
+    private static final int PER_PRODUCER = 20_000;
+
+    @Test
+    void refusesElementsWhenFull() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        assertThat(buffer.capacity()).isEqualTo(4);
+
+        for (int i = 0; i < 4; i++) assertThat(buffer.offer(i)).isTrue();
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.offer(4)).isTrue();
+    }
+
+    @Test
+    void deliversEveryElementInProducerOrder() throws Exception {
+        RingBuffer<long[]> buffer = new RingBuffer<>(1024);
+        long[] lastSeen = new long[PRODUCERS];
+        Arrays.fill(lastSeen, -1);
+        AtomicBoolean outOfOrder = new AtomicBoolean();
+        int received = 0;
+
+        try (ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS)) {
+            for (int p = 0; p < PRODUCERS; p++) {
+                long producer = p;
+                producers.execute(() -> {
+                    for (long i = 0; i < PER_PRODUCER; i++) {
+                        long[] element = {producer, i};
+                        while (!buffer.offer(element)) Thread.yield();
+                    }
+                });
+            }
+
+            while (received < PRODUCERS * PER_PRODUCER) {
+                int drained = buffer.drain(element -> {
+                    int producer = (int) element[0];
+                    if (element[1] != lastSeen[producer] + 1) outOfOrder.set(true);
+                    lastSeen[producer] = element[1];
+                }, 256);
+                if (drained == 0) Thread.yield();
+                received += drained;
+            }
+        }
+
+        assertThat(outOfOrder).isFalse();
+        assertThat(lastSeen).containsOnly(PER_PRODUCER - 1L);
+        assertThat(buffer.size()).isZero();
+    }
+}